@@ -0,0 +1,159 @@
+/*
+ * JsonReader
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package android.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Host stand-in for the Android streaming JSON reader.
+ *
+ * The Android class started life as Gson's reader and the two still share an API, so this simply
+ * delegates to Gson's, translating its token and exception types.
+ */
+public final class JsonReader implements Closeable {
+
+    private final com.google.gson.stream.JsonReader reader;
+
+    public JsonReader(Reader in) {
+        this.reader = new com.google.gson.stream.JsonReader(in);
+    }
+
+    public void setLenient(boolean lenient) {
+        reader.setLenient(lenient);
+    }
+
+    public boolean isLenient() {
+        return reader.isLenient();
+    }
+
+    public void beginArray() throws IOException {
+        try {
+            reader.beginArray();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public void endArray() throws IOException {
+        try {
+            reader.endArray();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public void beginObject() throws IOException {
+        try {
+            reader.beginObject();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public void endObject() throws IOException {
+        try {
+            reader.endObject();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public boolean hasNext() throws IOException {
+        try {
+            return reader.hasNext();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public JsonToken peek() throws IOException {
+        try {
+            return JsonToken.valueOf(reader.peek().name());
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public String nextName() throws IOException {
+        try {
+            return reader.nextName();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public String nextString() throws IOException {
+        try {
+            return reader.nextString();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public boolean nextBoolean() throws IOException {
+        try {
+            return reader.nextBoolean();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public void nextNull() throws IOException {
+        try {
+            reader.nextNull();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public double nextDouble() throws IOException {
+        try {
+            return reader.nextDouble();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public long nextLong() throws IOException {
+        try {
+            return reader.nextLong();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public int nextInt() throws IOException {
+        try {
+            return reader.nextInt();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    public void skipValue() throws IOException {
+        try {
+            reader.skipValue();
+        } catch (com.google.gson.stream.MalformedJsonException e) {
+            throw new MalformedJsonException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Override
+    public String toString() {
+        return reader.toString();
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * JsonToken
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package android.util;
+
+/**
+ * Host stand-in for the Android type of the same name.
+ */
+public enum JsonToken {
+    BEGIN_ARRAY,
+    END_ARRAY,
+    BEGIN_OBJECT,
+    END_OBJECT,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+}
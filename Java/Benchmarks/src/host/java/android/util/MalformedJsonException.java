@@ -0,0 +1,22 @@
+/*
+ * MalformedJsonException
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package android.util;
+
+import java.io.IOException;
+
+/**
+ * Host stand-in for the Android type of the same name.
+ */
+public final class MalformedJsonException extends IOException {
+
+    public MalformedJsonException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * BuildConfig
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+/**
+ * Host stand-in for the class generated by the Android build; carries the release values.
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+}
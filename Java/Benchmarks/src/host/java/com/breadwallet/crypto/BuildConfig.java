@@ -0,0 +1,19 @@
+/*
+ * BuildConfig
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto;
+
+/**
+ * Host stand-in for the class generated by the Android build; carries the release values.
+ */
+public final class BuildConfig {
+    public static final boolean DEBUG = false;
+    public static final String BDB_BASE_URL = "https://api.blockset.com";
+    public static final String API_BASE_URL = "https://api.breadwallet.com";
+}
@@ -0,0 +1,243 @@
+/*
+ * Fixtures
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.benchmarks;
+
+import com.breadwallet.crypto.blockchaindb.BlockchainDb;
+import com.breadwallet.crypto.blockchaindb.DataTask;
+import com.google.common.io.BaseEncoding;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Data shared by the benchmarks: synthetic transactions, in the wire formats core and BlockchainDB use,
+ * and BlockchainDb instances that answer from memory rather than the network.
+ */
+public final class Fixtures {
+
+    public static final String PAPER_KEY = "ginger settle marine tissue robot crane night number ramp coast roast critic";
+
+    public static final String BTC_TESTNET = "bitcoin-testnet";
+    public static final String ETH_ROPSTEN = "ethereum-ropsten";
+
+    private static final MediaType MEDIA_TYPE_JSON = MediaType.parse("application/json; charset=utf-8");
+
+    // Transactions are spaced ten minutes apart from here (October 2019)
+    private static final long TIMESTAMP_BASE = 1_570_000_000;
+
+    // The BlockchainDB pages place their transactions in consecutive blocks from here
+    private static final long PAGE_BLOCK_HEIGHT_BASE = 1_580_000;
+
+    //
+    // Bitcoin
+    //
+
+    /**
+     * A serialized, non-segwit bitcoin transaction, unique to `index`, paying 10,000 satoshis to the P2PKH
+     * address with `hash160`.
+     *
+     * Core treats a transaction as signed once every input has a script, so the input carries a
+     * placeholder signature and public key; nothing checks them against the (made up) prior output.
+     */
+    public static byte[] btcTransaction(int index, byte[] hash160) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(192);
+
+        writeUInt32(out, 1);                              // version
+
+        out.write(1);                                     // input count
+        byte[] previousHash = new byte[32];
+        ByteBuffer.wrap(previousHash).order(ByteOrder.LITTLE_ENDIAN).putInt(index).putInt(0x0b5e55ed);
+        out.write(previousHash, 0, previousHash.length);
+        writeUInt32(out, 0);                              // previous output index
+
+        byte[] signature = new byte[71];
+        signature[0] = 0x30;
+        byte[] publicKey = new byte[33];
+        publicKey[0] = 0x02;
+        out.write(1 + signature.length + 1 + publicKey.length);
+        out.write(signature.length);
+        out.write(signature, 0, signature.length);
+        out.write(publicKey.length);
+        out.write(publicKey, 0, publicKey.length);
+        writeUInt32(out, 0xffffffff);                     // sequence
+
+        out.write(1);                                     // output count
+        writeUInt64(out, 10_000);
+        out.write(25);                                    // OP_DUP OP_HASH160 <hash160> OP_EQUALVERIFY OP_CHECKSIG
+        out.write(0x76);
+        out.write(0xa9);
+        out.write(20);
+        out.write(hash160, 0, 20);
+        out.write(0x88);
+        out.write(0xac);
+
+        writeUInt32(out, 0);                              // lock time
+
+        return out.toByteArray();
+    }
+
+    public static long timestamp(int index) {
+        return TIMESTAMP_BASE + 600L * index;
+    }
+
+    //
+    // Ethereum
+    //
+
+    /**
+     * The sixteen values of an ETH `txlist` result item, unique to `index`, sending 0.001 ETH to `address`
+     * in block `blockNumber`; in the order taken by BRCryptoWalletManager.announceGetTransactionsItemEth.
+     */
+    public static List<String> ethTransaction(int index, String address, long blockNumber) {
+        return Arrays.asList(
+                String.format(Locale.ROOT, "0x%064x", 0xe7e7_0000_0000L + index),           // hash
+                "0x2b2f8ca0a5fe8cfd5c1ba4ed0c8e1b1f6d3e2c1a",                              // from
+                address,                                                                  // to
+                "",                                                                       // contract
+                "1000000000000000",                                                       // amount
+                "21000",                                                                  // gas limit
+                "2000000000",                                                             // gas price
+                "0x",                                                                     // data
+                Integer.toString(index),                                                  // nonce
+                "21000",                                                                  // gas used
+                Long.toString(blockNumber),                                               // block number
+                String.format(Locale.ROOT, "0x%064x", 0xb10c_0000_0000L + index),           // block hash
+                "12",                                                                     // confirmations
+                "0",                                                                      // transaction index
+                Long.toString(timestamp(index)),                                          // timestamp
+                "0"                                                                       // is error
+        );
+    }
+
+    //
+    // BlockchainDB
+    //
+
+    /**
+     * A page, shaped like a BlockchainDB `/transactions` response, of `count` bitcoin transactions each
+     * paying `address` (whose P2PKH hash is `hash160`) and carrying its raw bytes, as when `include_raw`
+     * is requested.
+     */
+    public static String bdbTransactionsPage(int count, String address, byte[] hash160) {
+        try {
+            JSONArray transactions = new JSONArray();
+            for (int i = 0; i < count; i++) {
+                byte[] raw = btcTransaction(i, hash160);
+                String hash = String.format(Locale.ROOT, "%064x", 0x7a_0000_0000L + i);
+                String id = BTC_TESTNET + ":" + hash;
+
+                JSONObject amount = new JSONObject()
+                        .put("currency_id", BTC_TESTNET + ":__native__")
+                        .put("amount", "10000");
+
+                JSONArray transfers = new JSONArray()
+                        .put(new JSONObject()
+                                .put("transfer_id", id + ":0")
+                                .put("blockchain_id", BTC_TESTNET)
+                                .put("from_address", "mvnSpXB1Vizfg3uodBx418APVK1jQXScvW")
+                                .put("to_address", address)
+                                .put("index", "0")
+                                .put("amount", amount)
+                                .put("acknowledgements", "12")
+                                .put("transaction_id", id)
+                                .put("meta", new JSONObject()));
+
+                transactions.put(new JSONObject()
+                        .put("transaction_id", id)
+                        .put("identifier", hash)
+                        .put("hash", hash)
+                        .put("blockchain_id", BTC_TESTNET)
+                        .put("size", Integer.toString(raw.length))
+                        .put("fee", new JSONObject().put("currency_id", BTC_TESTNET + ":__native__").put("amount", "226"))
+                        .put("confirmations", "12")
+                        .put("index", "1")
+                        .put("block_hash", String.format(Locale.ROOT, "%064x", 0xb1_0000_0000L + i))
+                        .put("block_height", Long.toString(PAGE_BLOCK_HEIGHT_BASE + i))
+                        .put("status", "confirmed")
+                        .put("first_seen", "2019-10-02T08:46:40.000+0000")
+                        .put("timestamp", "2019-10-02T08:46:40.000+0000")
+                        .put("acknowledgements", "12")
+                        .put("raw", BaseEncoding.base64().encode(raw))
+                        .put("_embedded", new JSONObject().put("transfers", transfers)));
+            }
+
+            return new JSONObject()
+                    .put("_embedded", new JSONObject().put("transactions", transactions))
+                    .put("_links", new JSONObject().put("self", new JSONObject().put("href", "https://api.blockset.com/transactions")))
+                    .toString();
+
+        } catch (JSONException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * A BlockchainDb whose every request fails, as if offline; network discovery falls back to the
+     * builtin networks.
+     */
+    public static BlockchainDb offlineBlockchainDb() {
+        DataTask offline = (client, request, callback) ->
+                callback.onFailure(client.newCall(request), new IOException("offline"));
+        return new BlockchainDb(new OkHttpClient(), null, offline, null, offline);
+    }
+
+    /**
+     * A BlockchainDb that answers every request with `body`.
+     */
+    public static BlockchainDb replayingBlockchainDb(String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        DataTask replay = (client, request, callback) -> {
+            Response response = new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create(MEDIA_TYPE_JSON, bytes))
+                    .build();
+            try {
+                callback.onResponse(client.newCall(request), response);
+            } catch (IOException e) {
+                callback.onFailure(client.newCall(request), e);
+            }
+        };
+        return new BlockchainDb(new OkHttpClient(), null, replay, null, replay);
+    }
+
+    private static void writeUInt32(ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 4; i++) {
+            out.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    private static void writeUInt64(ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 8; i++) {
+            out.write((int) (value >>> (8 * i)));
+        }
+    }
+
+    private Fixtures() {
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * BRCoreTransactionBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core;
+
+import com.breadwallet.benchmarks.Fixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse and serialize of a one input, one output BRCoreTransaction across JNI, as done for every
+ * transaction the legacy wallet managers load or announce.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BRCoreTransactionBenchmark {
+
+    private byte[] serialized;
+    private BRCoreTransaction transaction;
+
+    @Setup(Level.Trial)
+    public void setup () throws BRCoreTransaction.FailedToParse {
+        serialized = Fixtures.btcTransaction (0, new byte[20]);
+        transaction = new BRCoreTransaction (serialized);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown () {
+        transaction.close ();
+    }
+
+    @Benchmark
+    public long parse () throws BRCoreTransaction.FailedToParse {
+        try (BRCoreTransaction parsed = new BRCoreTransaction (serialized)) {
+            return parsed.getLockTime ();
+        }
+    }
+
+    @Benchmark
+    public long parseWithBlock () throws BRCoreTransaction.FailedToParse {
+        try (BRCoreTransaction parsed = new BRCoreTransaction (serialized, 1_580_000, Fixtures.timestamp (0))) {
+            return parsed.getLockTime ();
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize () {
+        return transaction.serialize ();
+    }
+
+    @Benchmark
+    public byte[] getHash () {
+        return transaction.getHash ();
+    }
+}
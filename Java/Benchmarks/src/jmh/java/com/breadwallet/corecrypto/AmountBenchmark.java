@@ -0,0 +1,98 @@
+/*
+ * AmountBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.google.common.primitives.UnsignedInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Amount operations the UI leans on while rendering balances and transfer lists.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AmountBenchmark {
+
+    private Unit satoshi;
+    private Unit bitcoin;
+
+    private Amount amount;
+    private Amount otherAmount;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Currency currency = Currency.create("bitcoin-testnet:__native__", "Bitcoin", "btc", "native", null);
+        satoshi = Unit.create(currency, "bitcoin-testnet:__native__-sat", "Satoshi", "SAT");
+        bitcoin = Unit.create(currency, "bitcoin-testnet:__native__-btc", "Bitcoin", "B", satoshi, UnsignedInteger.valueOf(8));
+
+        amount = Amount.create(123_456_789L, satoshi);
+        otherAmount = Amount.create(0.5, bitcoin);
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        otherAmount.close();
+        amount.close();
+    }
+
+    @Benchmark
+    public boolean createFromLong() {
+        try (Amount created = Amount.create(123_456_789L, satoshi)) {
+            return created.isNegative();
+        }
+    }
+
+    @Benchmark
+    public boolean createFromDouble() {
+        try (Amount created = Amount.create(1.23456789, bitcoin)) {
+            return created.isNegative();
+        }
+    }
+
+    @Benchmark
+    public boolean createFromString() {
+        try (Amount created = Amount.create("1.23456789", false, bitcoin).get()) {
+            return created.isNegative();
+        }
+    }
+
+    @Benchmark
+    public boolean add() {
+        try (Amount sum = amount.add(otherAmount).get()) {
+            return sum.isNegative();
+        }
+    }
+
+    @Benchmark
+    public int compare() {
+        return amount.compareTo(otherAmount);
+    }
+
+    @Benchmark
+    public String toStringDefault() {
+        return amount.toString();
+    }
+
+    @Benchmark
+    public String toStringAsUnit() {
+        return amount.toStringAsUnit(bitcoin).get();
+    }
+}
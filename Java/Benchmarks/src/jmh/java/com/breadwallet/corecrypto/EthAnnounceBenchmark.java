@@ -0,0 +1,105 @@
+/*
+ * EthAnnounceBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.breadwallet.benchmarks.Fixtures;
+import com.breadwallet.corenative.utility.PackedStrings;
+import com.breadwallet.crypto.AddressScheme;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Announcing a page of ETH transactions to core one item at a time, with sixteen strings marshalled
+ * per call, against announcing it in a single call with the items packed into one buffer (as System
+ * now does).
+ *
+ * Core queues each announced transaction for its event handler, so a timed loop would build an
+ * unbounded backlog; each iteration instead announces one page, of previously unseen transactions,
+ * and is timed as a single shot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EthAnnounceBenchmark {
+
+    // leave room for the transactions of every iteration in blocks past the network's height
+    private static final long BLOCKS_AHEAD = 1_000_000;
+
+    @Param({"100", "1000"})
+    public int itemCount;
+
+    private HostWalletManager host;
+    private HostWalletManager.TransactionsRequest request;
+    private String address;
+
+    private int iteration;
+    private List<List<String>> page;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        host = HostWalletManager.create(Fixtures.ETH_ROPSTEN, AddressScheme.ETH_DEFAULT, BLOCKS_AHEAD);
+
+        // hold the request open so that every iteration can announce against it
+        request = host.takeTransactionsRequest();
+        address = request.addresses.get(0);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupPage() {
+        page = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            int index = iteration * itemCount + i;
+            page.add(Fixtures.ethTransaction(index, address, host.getFirstNewBlockNumber() + index));
+        }
+        iteration += 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        request.complete(true);
+        request.manager.give();
+        host.close();
+    }
+
+    @Benchmark
+    public void announcePerItem() {
+        for (List<String> item : page) {
+            request.manager.announceGetTransactionsItemEth(request.callbackState,
+                    item.get(0), item.get(1), item.get(2), item.get(3),
+                    item.get(4), item.get(5), item.get(6), item.get(7),
+                    item.get(8), item.get(9), item.get(10), item.get(11),
+                    item.get(12), item.get(13), item.get(14), item.get(15));
+        }
+    }
+
+    @Benchmark
+    public void announceBatched() {
+        PackedStrings items = new PackedStrings();
+        for (List<String> item : page) {
+            for (String value : item) {
+                items.add(value);
+            }
+        }
+        request.manager.announceGetTransactionsItemsEth(request.callbackState, page.size(), items);
+    }
+}
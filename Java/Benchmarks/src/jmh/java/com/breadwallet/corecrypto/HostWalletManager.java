@@ -0,0 +1,420 @@
+/*
+ * HostWalletManager
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.breadwallet.benchmarks.Fixtures;
+import com.breadwallet.corenative.crypto.BRCryptoCWMClient;
+import com.breadwallet.corenative.crypto.BRCryptoCWMClientBtc;
+import com.breadwallet.corenative.crypto.BRCryptoCWMClientCallbackState;
+import com.breadwallet.corenative.crypto.BRCryptoCWMClientEth;
+import com.breadwallet.corenative.crypto.BRCryptoCWMClientGen;
+import com.breadwallet.corenative.crypto.BRCryptoCWMListener;
+import com.breadwallet.corenative.crypto.BRCryptoWallet;
+import com.breadwallet.corenative.crypto.BRCryptoWalletEvent;
+import com.breadwallet.corenative.crypto.BRCryptoWalletManager;
+import com.breadwallet.corenative.crypto.BRCryptoWalletManagerEvent;
+import com.breadwallet.corenative.crypto.BRCryptoTransfer;
+import com.breadwallet.corenative.crypto.BRCryptoTransferEvent;
+import com.breadwallet.corenative.utility.Cookie;
+import com.breadwallet.crypto.AddressScheme;
+import com.breadwallet.crypto.WalletManagerMode;
+import com.google.common.base.Optional;
+import com.google.common.primitives.UnsignedLong;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A wallet manager, on a builtin testnet, whose client is the benchmark rather than BlockchainDB.
+ *
+ * Requests for transactions are queued, with their callback state, for the benchmark to answer through the
+ * wallet manager's announce methods; block number requests are answered with the height given at creation
+ * and the remaining requests are failed, or completed empty, straight away. Events are consumed and
+ * their references released, much as System does, but are otherwise ignored.
+ */
+final class HostWalletManager implements AutoCloseable {
+
+    /**
+     * A transactions request from core; answered by announcing items and then completion.
+     */
+    static final class TransactionsRequest {
+
+        final BRCryptoWalletManager manager;
+        final BRCryptoCWMClientCallbackState callbackState;
+        final List<String> addresses;
+
+        private TransactionsRequest(BRCryptoWalletManager manager,
+                                    BRCryptoCWMClientCallbackState callbackState,
+                                    List<String> addresses) {
+            this.manager = manager;
+            this.callbackState = callbackState;
+            this.addresses = addresses;
+        }
+
+        void complete(boolean success) {
+            manager.announceGetTransactionsComplete(callbackState, success);
+        }
+    }
+
+    private static final long REQUEST_TIMEOUT_SECONDS = 30;
+
+    private static final AtomicInteger MANAGER_IDS = new AtomicInteger(0);
+
+    private static final Map<Cookie, HostWalletManager> MANAGERS_ACTIVE = new ConcurrentHashMap<>();
+
+    //
+    // Keep a static reference to the callbacks so that they are never GC'ed
+    //
+
+    private static final BRCryptoCWMClientBtc CWM_CLIENT_BTC = new BRCryptoCWMClientBtc(
+            (context, manager, callbackState) -> {
+                announceBlockNumber(context, manager, callbackState);
+            },
+            (context, manager, callbackState, addresses, begBlockNumber, endBlockNumber) -> {
+                queueTransactionsRequest(context, manager, callbackState, addresses);
+            },
+            (context, manager, callbackState, transaction, hashAsHex) -> {
+                manager.announceSubmitTransferFailure(callbackState);
+                manager.give();
+            }
+    );
+
+    private static final BRCryptoCWMClientEth CWM_CLIENT_ETH = new BRCryptoCWMClientEth(
+            (context, manager, callbackState, networkName, address) -> {
+                manager.announceGetBalanceFailure(callbackState);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName, address, tokenAddress) -> {
+                manager.announceGetBalanceFailure(callbackState);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName) -> {
+                manager.announceGetGasPriceFailure(callbackState);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName, from, to, amount, gasPrice, data) -> {
+                manager.give();
+            },
+            (context, manager, callbackState, networkName, transaction) -> {
+                manager.announceSubmitTransferFailure(callbackState);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName, address, begBlockNumber, endBlockNumber) -> {
+                queueTransactionsRequest(context, manager, callbackState, Collections.singletonList(address));
+            },
+            (context, manager, callbackState, networkName, contract, address, event, begBlockNumber, endBlockNumber) -> {
+                manager.announceGetLogsComplete(callbackState, true);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName, address, interests, blockNumberStart, blockNumberStop) -> {
+                manager.announceGetBlocksFailure(callbackState);
+                manager.give();
+            },
+            (context, manager, callbackState) -> {
+                manager.announceGetTokensComplete(callbackState, true);
+                manager.give();
+            },
+            (context, manager, callbackState, networkName) -> {
+                announceBlockNumber(context, manager, callbackState);
+            },
+            (context, manager, callbackState, networkName, address) -> {
+                manager.announceGetNonceFailure(callbackState);
+                manager.give();
+            }
+    );
+
+    private static final BRCryptoCWMClientGen CWM_CLIENT_GEN = new BRCryptoCWMClientGen(
+            (context, manager, callbackState) -> {
+                announceBlockNumber(context, manager, callbackState);
+            },
+            (context, manager, callbackState, address, begBlockNumber, endBlockNumber) -> {
+                queueTransactionsRequest(context, manager, callbackState, Collections.singletonList(address));
+            },
+            (context, manager, callbackState, transaction, hashAsHex) -> {
+                manager.announceSubmitTransferFailure(callbackState);
+                manager.give();
+            }
+    );
+
+    private static final BRCryptoCWMListener.WalletManagerEventCallback CWM_LISTENER_WALLET_MANAGER_CALLBACK = HostWalletManager::walletManagerEventCallback;
+    private static final BRCryptoCWMListener.WalletEventCallback CWM_LISTENER_WALLET_CALLBACK = HostWalletManager::walletEventCallback;
+    private static final BRCryptoCWMListener.TransferEventCallback CWM_LISTENER_TRANSFER_CALLBACK = HostWalletManager::transferEventCallback;
+
+    /**
+     * Create, and connect, a wallet manager for the builtin testnet with `networkUids`. Its client reports
+     * the chain as `blocksAhead` blocks past the network's builtin height, leaving room to announce
+     * transactions in those blocks.
+     */
+    static HostWalletManager create(String networkUids, AddressScheme addressScheme, long blocksAhead) {
+        Network network = findTestnet(networkUids);
+        long networkHeight = network.getHeight().longValue();
+        Account account = Account.createFromPhrase(Fixtures.PAPER_KEY.getBytes(StandardCharsets.UTF_8),
+                new Date(TimeUnit.SECONDS.toMillis(1514764800)),
+                "benchmarks");
+
+        File storage;
+        try {
+            storage = Files.createTempDirectory("benchmarks").toFile();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        Cookie context = new Cookie(MANAGER_IDS.incrementAndGet());
+        HostWalletManager host = new HostWalletManager(context, networkHeight, networkHeight + blocksAhead, storage);
+        MANAGERS_ACTIVE.put(context, host);
+
+        Optional<WalletManager> walletManager = WalletManager.create(
+                new BRCryptoCWMListener(context,
+                        CWM_LISTENER_WALLET_MANAGER_CALLBACK,
+                        CWM_LISTENER_WALLET_CALLBACK,
+                        CWM_LISTENER_TRANSFER_CALLBACK),
+                new BRCryptoCWMClient(context,
+                        CWM_CLIENT_BTC,
+                        CWM_CLIENT_ETH,
+                        CWM_CLIENT_GEN),
+                account,
+                network,
+                WalletManagerMode.API_ONLY,
+                addressScheme,
+                storage.getAbsolutePath(),
+                null,
+                null);
+        if (!walletManager.isPresent()) {
+            MANAGERS_ACTIVE.remove(context);
+            throw new IllegalStateException("Failed to create a wallet manager for " + networkUids);
+        }
+
+        host.walletManager = walletManager.get();
+        host.walletManager.connect(null);
+        return host;
+    }
+
+    private static Network findTestnet(String networkUids) {
+        AtomicReference<Network> found = new AtomicReference<>();
+        CountDownLatch complete = new CountDownLatch(1);
+
+        NetworkDiscovery.discoverNetworks(Fixtures.offlineBlockchainDb(), false, Collections.emptyList(),
+                new NetworkDiscovery.Callback() {
+                    @Override
+                    public void discovered(Network network) {
+                        if (network.getUids().equals(networkUids)) {
+                            found.set(network);
+                        }
+                    }
+
+                    @Override
+                    public void complete(List<com.breadwallet.crypto.Network> networks) {
+                        complete.countDown();
+                    }
+                });
+
+        try {
+            if (!complete.await(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS) || null == found.get()) {
+                throw new IllegalStateException("Missed builtin network " + networkUids);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+
+        return found.get();
+    }
+
+    private final Cookie context;
+    private final long networkHeight;
+    private final long blockNumber;
+    private final File storage;
+    private final BlockingQueue<TransactionsRequest> transactionsRequests = new LinkedBlockingQueue<>();
+
+    private WalletManager walletManager;
+
+    private HostWalletManager(Cookie context, long networkHeight, long blockNumber, File storage) {
+        this.context = context;
+        this.networkHeight = networkHeight;
+        this.blockNumber = blockNumber;
+        this.storage = storage;
+    }
+
+    WalletManager getWalletManager() {
+        return walletManager;
+    }
+
+    /**
+     * The first of the blocks past the network's builtin height.
+     */
+    long getFirstNewBlockNumber() {
+        return networkHeight + 1;
+    }
+
+    BRCryptoWalletManager getCoreWalletManager() {
+        return walletManager.getCoreBRCryptoWalletManager();
+    }
+
+    /**
+     * Wait for core's next transactions request.
+     */
+    TransactionsRequest takeTransactionsRequest() throws InterruptedException, TimeoutException {
+        TransactionsRequest request = transactionsRequests.poll(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (null == request) {
+            throw new TimeoutException("No transactions request from core");
+        }
+        return request;
+    }
+
+    /**
+     * Wait until the primary wallet holds at least `count` transfers.
+     */
+    void awaitTransferCount(int count) throws InterruptedException, TimeoutException {
+        long deadline = java.lang.System.nanoTime() + TimeUnit.SECONDS.toNanos(REQUEST_TIMEOUT_SECONDS);
+        BRCryptoWallet wallet = getCoreWalletManager().getWallet();
+        try {
+            while (wallet.getTransfers().size() < count) {
+                if (java.lang.System.nanoTime() > deadline) {
+                    throw new TimeoutException("Wallet never reached " + count + " transfers");
+                }
+                Thread.sleep(100);
+            }
+        } finally {
+            wallet.give();
+        }
+    }
+
+    @Override
+    public void close() {
+        walletManager.disconnect();
+        walletManager.getCoreBRCryptoWalletManager().stop();
+
+        // answer anything left outstanding so that core releases its callback state
+        for (TransactionsRequest request; null != (request = transactionsRequests.poll()); ) {
+            request.complete(false);
+            request.manager.give();
+        }
+
+        MANAGERS_ACTIVE.remove(context);
+        deleteRecursively(storage);
+    }
+
+    //
+    // Client
+    //
+
+    private static void announceBlockNumber(Cookie context,
+                                            BRCryptoWalletManager manager,
+                                            BRCryptoCWMClientCallbackState callbackState) {
+        try {
+            HostWalletManager host = MANAGERS_ACTIVE.get(context);
+            if (null != host) {
+                manager.announceGetBlockNumberSuccess(callbackState, UnsignedLong.valueOf(host.blockNumber));
+            } else {
+                manager.announceGetBlockNumberFailure(callbackState);
+            }
+        } finally {
+            manager.give();
+        }
+    }
+
+    private static void queueTransactionsRequest(Cookie context,
+                                                 BRCryptoWalletManager manager,
+                                                 BRCryptoCWMClientCallbackState callbackState,
+                                                 List<String> addresses) {
+        HostWalletManager host = MANAGERS_ACTIVE.get(context);
+        if (null != host) {
+            // the request keeps the manager's reference; it is given when the request is answered
+            host.transactionsRequests.add(new TransactionsRequest(manager, callbackState, addresses));
+        } else {
+            manager.announceGetTransactionsComplete(callbackState, false);
+            manager.give();
+        }
+    }
+
+    //
+    // Listener
+    //
+
+    private static void walletManagerEventCallback(Cookie context,
+                                                   BRCryptoWalletManager coreWalletManager,
+                                                   BRCryptoWalletManagerEvent event) {
+        try {
+            switch (event.type()) {
+                case CRYPTO_WALLET_MANAGER_EVENT_WALLET_ADDED:
+                case CRYPTO_WALLET_MANAGER_EVENT_WALLET_CHANGED:
+                case CRYPTO_WALLET_MANAGER_EVENT_WALLET_DELETED:
+                    event.u.wallet.value.give();
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            coreWalletManager.give();
+        }
+    }
+
+    private static void walletEventCallback(Cookie context,
+                                            BRCryptoWalletManager coreWalletManager,
+                                            BRCryptoWallet coreWallet,
+                                            BRCryptoWalletEvent event) {
+        try {
+            switch (event.type()) {
+                case CRYPTO_WALLET_EVENT_TRANSFER_ADDED:
+                case CRYPTO_WALLET_EVENT_TRANSFER_CHANGED:
+                case CRYPTO_WALLET_EVENT_TRANSFER_SUBMITTED:
+                case CRYPTO_WALLET_EVENT_TRANSFER_DELETED:
+                    event.u.transfer.value.give();
+                    break;
+                case CRYPTO_WALLET_EVENT_BALANCE_UPDATED:
+                    event.u.balanceUpdated.amount.give();
+                    break;
+                case CRYPTO_WALLET_EVENT_FEE_BASIS_UPDATED:
+                    event.u.feeBasisUpdated.basis.give();
+                    break;
+                default:
+                    break;
+            }
+        } finally {
+            coreWallet.give();
+            coreWalletManager.give();
+        }
+    }
+
+    private static void transferEventCallback(Cookie context,
+                                              BRCryptoWalletManager coreWalletManager,
+                                              BRCryptoWallet coreWallet,
+                                              BRCryptoTransfer coreTransfer,
+                                              BRCryptoTransferEvent event) {
+        coreTransfer.give();
+        coreWallet.give();
+        coreWalletManager.give();
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (null != children) {
+            for (File child: children) {
+                deleteRecursively(child);
+            }
+        }
+        //noinspection ResultOfMethodCallIgnored
+        file.delete();
+    }
+}
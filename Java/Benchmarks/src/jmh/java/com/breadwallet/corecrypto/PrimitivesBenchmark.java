@@ -0,0 +1,88 @@
+/*
+ * PrimitivesBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Hasher and Coder wrappers, including the copies in and out of native memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PrimitivesBenchmark {
+
+    @Param({"32", "256", "1024"})
+    public int dataLength;
+
+    private byte[] data;
+    private String hexData;
+    private String base58Data;
+
+    private Hasher sha256;
+    private Hasher keccak256;
+    private Coder hex;
+    private Coder base58;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[dataLength];
+        new Random(dataLength).nextBytes(data);
+
+        sha256 = Hasher.createForAlgorithm(com.breadwallet.crypto.Hasher.Algorithm.SHA256);
+        keccak256 = Hasher.createForAlgorithm(com.breadwallet.crypto.Hasher.Algorithm.KECCAK256);
+        hex = Coder.createForAlgorithm(com.breadwallet.crypto.Coder.Algorithm.HEX);
+        base58 = Coder.createForAlgorithm(com.breadwallet.crypto.Coder.Algorithm.BASE58);
+
+        hexData = hex.encode(data).get();
+        base58Data = base58.encode(data).get();
+    }
+
+    @Benchmark
+    public byte[] hashSha256() {
+        return sha256.hash(data).get();
+    }
+
+    @Benchmark
+    public byte[] hashKeccak256() {
+        return keccak256.hash(data).get();
+    }
+
+    @Benchmark
+    public String encodeHex() {
+        return hex.encode(data).get();
+    }
+
+    @Benchmark
+    public byte[] decodeHex() {
+        return hex.decode(hexData).get();
+    }
+
+    @Benchmark
+    public String encodeBase58() {
+        return base58.encode(data).get();
+    }
+
+    @Benchmark
+    public byte[] decodeBase58() {
+        return base58.decode(base58Data).get();
+    }
+}
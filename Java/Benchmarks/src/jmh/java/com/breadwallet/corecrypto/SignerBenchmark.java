@@ -0,0 +1,77 @@
+/*
+ * SignerBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Signer wrappers over a fixed SHA-256 digest.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SignerBenchmark {
+
+    private static final byte[] SECRET = new byte[] {
+            (byte) 0x5c, (byte) 0x3b, (byte) 0x1a, (byte) 0x09, (byte) 0xe8, (byte) 0xd7, (byte) 0xc6, (byte) 0xb5,
+            (byte) 0x14, (byte) 0x23, (byte) 0x32, (byte) 0x41, (byte) 0x50, (byte) 0x6f, (byte) 0x7e, (byte) 0x8d,
+            (byte) 0x9c, (byte) 0xab, (byte) 0xba, (byte) 0xc9, (byte) 0xd8, (byte) 0xe7, (byte) 0xf6, (byte) 0x05,
+            (byte) 0x13, (byte) 0x22, (byte) 0x31, (byte) 0x40, (byte) 0x5f, (byte) 0x6e, (byte) 0x7d, (byte) 0x8c,
+    };
+
+    private byte[] digest;
+    private Key key;
+    private Signer compact;
+    private Signer der;
+    private Signer jose;
+    private byte[] compactSignature;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Hasher sha256 = Hasher.createForAlgorithm(com.breadwallet.crypto.Hasher.Algorithm.SHA256);
+        digest = sha256.hash("signer benchmark".getBytes(StandardCharsets.UTF_8)).get();
+        key = Key.createFromSecret(SECRET).get();
+
+        compact = Signer.createForAlgorithm(com.breadwallet.crypto.Signer.Algorithm.COMPACT);
+        der = Signer.createForAlgorithm(com.breadwallet.crypto.Signer.Algorithm.BASIC_DER);
+        jose = Signer.createForAlgorithm(com.breadwallet.crypto.Signer.Algorithm.BASIC_JOSE);
+        compactSignature = compact.sign(digest, key).get();
+    }
+
+    @Benchmark
+    public byte[] signCompact() {
+        return compact.sign(digest, key).get();
+    }
+
+    @Benchmark
+    public byte[] signDer() {
+        return der.sign(digest, key).get();
+    }
+
+    @Benchmark
+    public byte[] signJose() {
+        return jose.sign(digest, key).get();
+    }
+
+    @Benchmark
+    public Key recoverCompact() {
+        return compact.recover(digest, compactSignature).get();
+    }
+}
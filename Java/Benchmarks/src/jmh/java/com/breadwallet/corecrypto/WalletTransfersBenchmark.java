@@ -0,0 +1,98 @@
+/*
+ * WalletTransfersBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.breadwallet.benchmarks.Fixtures;
+import com.breadwallet.corenative.utility.RawTransactions;
+import com.breadwallet.crypto.AddressScheme;
+import com.google.common.primitives.UnsignedLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wallet.getTransfers on a bitcoin testnet wallet holding `transferCount` transfers; each call wraps
+ * every core transfer, so this tracks the cost of listing a large wallet.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WalletTransfersBenchmark {
+
+    // announce the transactions in pages, as BlockchainDB would deliver them
+    private static final int PAGE_SIZE = 500;
+
+    @Param({"1000", "10000"})
+    public int transferCount;
+
+    private HostWalletManager host;
+    private Wallet wallet;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        host = HostWalletManager.create(Fixtures.BTC_TESTNET, AddressScheme.BTC_LEGACY, transferCount);
+        long firstBlockHeight = host.getFirstNewBlockNumber();
+
+        HostWalletManager.TransactionsRequest request = host.takeTransactionsRequest();
+        try {
+            byte[] hash160 = hash160(request.addresses.get(0));
+
+            RawTransactions page = new RawTransactions();
+            for (int i = 0; i < transferCount; i++) {
+                page.add(Fixtures.btcTransaction(i, hash160),
+                        UnsignedLong.valueOf(Fixtures.timestamp(i)),
+                        UnsignedLong.valueOf(firstBlockHeight + i));
+
+                if (page.size() == PAGE_SIZE) {
+                    request.manager.announceGetTransactionsItemsBtc(request.callbackState, page);
+                    page = new RawTransactions();
+                }
+            }
+            if (!page.isEmpty()) {
+                request.manager.announceGetTransactionsItemsBtc(request.callbackState, page);
+            }
+            request.complete(true);
+
+        } finally {
+            request.manager.give();
+        }
+
+        host.awaitTransferCount(transferCount);
+        wallet = host.getWalletManager().getPrimaryWallet();
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        host.close();
+    }
+
+    @Benchmark
+    public List<Transfer> getTransfers() {
+        return wallet.getTransfers();
+    }
+
+    // The version byte, then the RIPEMD-160 of the public key
+    private static byte[] hash160(String address) {
+        byte[] decoded = Coder.createForAlgorithm(com.breadwallet.crypto.Coder.Algorithm.BASE58CHECK).decode(address).get();
+        return Arrays.copyOfRange(decoded, 1, 21);
+    }
+}
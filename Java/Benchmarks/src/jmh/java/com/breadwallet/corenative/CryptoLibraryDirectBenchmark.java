@@ -0,0 +1,97 @@
+/*
+ * CryptoLibraryDirectBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative;
+
+import com.breadwallet.corenative.utility.SizeT;
+import com.sun.jna.Pointer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The fixed cost of crossing into libcrypto through JNA direct mapping, for each kind of argument and
+ * result the bindings marshal: primitives and pointers, strings in each direction, and byte arrays.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CryptoLibraryDirectBenchmark {
+
+    // mirrors BRCryptoHasherType's CRYPTO_HASHER_SHA256
+    private static final int CRYPTO_HASHER_SHA256 = 2;
+
+    private Pointer currency;
+    private Pointer unit;
+    private Pointer amount;
+    private Pointer otherAmount;
+    private Pointer hasher;
+
+    private byte[] data;
+    private byte[] digest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        currency = CryptoLibraryDirect.cryptoCurrencyCreate("bitcoin-testnet:__native__", "Bitcoin", "btc", "native", null);
+        unit = CryptoLibraryDirect.cryptoUnitCreateAsBase(currency, "bitcoin-testnet:__native__-sat", "Satoshi", "SAT");
+        amount = CryptoLibraryDirect.cryptoAmountCreateInteger(100_000, unit);
+        otherAmount = CryptoLibraryDirect.cryptoAmountCreateInteger(200_000, unit);
+        hasher = CryptoLibraryDirect.cryptoHasherCreate(CRYPTO_HASHER_SHA256);
+
+        data = new byte[32];
+        Arrays.fill(data, (byte) 0x5a);
+        digest = new byte[32];
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        CryptoLibraryDirect.cryptoHasherGive(hasher);
+        CryptoLibraryDirect.cryptoAmountGive(otherAmount);
+        CryptoLibraryDirect.cryptoAmountGive(amount);
+        CryptoLibraryDirect.cryptoUnitGive(unit);
+        CryptoLibraryDirect.cryptoCurrencyGive(currency);
+    }
+
+    @Benchmark
+    public int pointerToInt() {
+        return CryptoLibraryDirect.cryptoAmountIsNegative(amount);
+    }
+
+    @Benchmark
+    public int pointersToInt() {
+        return CryptoLibraryDirect.cryptoAmountCompare(amount, otherAmount);
+    }
+
+    @Benchmark
+    public String pointerToString() {
+        return CryptoLibraryDirect.cryptoCurrencyGetCode(currency).getString(0, "UTF-8");
+    }
+
+    @Benchmark
+    public void stringsToPointer() {
+        Pointer created = CryptoLibraryDirect.cryptoCurrencyCreate("bitcoin-testnet:__native__", "Bitcoin", "btc", "native", null);
+        CryptoLibraryDirect.cryptoCurrencyGive(created);
+    }
+
+    @Benchmark
+    public byte[] bytesToBytes() {
+        CryptoLibraryDirect.cryptoHasherHash(hasher, digest, new SizeT(digest.length), data, new SizeT(data.length));
+        return digest;
+    }
+}
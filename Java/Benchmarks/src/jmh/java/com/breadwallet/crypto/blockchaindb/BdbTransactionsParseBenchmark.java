@@ -0,0 +1,91 @@
+/*
+ * BdbTransactionsParseBenchmark
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import com.breadwallet.benchmarks.Fixtures;
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.models.bdb.Transaction;
+import com.breadwallet.crypto.utility.CompletionHandler;
+import com.google.common.primitives.UnsignedLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * BlockchainDb.getTransactions against a replayed BlockchainDB page of `transactionCount` transactions,
+ * each with its raw bytes and a transfer; no network is involved, so this measures response parsing and
+ * model construction.
+ *
+ * On the host, android.util.JsonReader is the stand-in in src/host, which delegates to Gson's streaming
+ * reader; Android's own reader is not available off-device. The two share their origin and API, but this
+ * is not the parser that runs on a device, so the score tracks the cost of the model code and of
+ * streaming parsing from run to run; it is not a measure of the parse cost on a device.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BdbTransactionsParseBenchmark {
+
+    private static final String ADDRESS = "mzSHQbGjdCg5LMZJSkxxHNHzdgWbpLcXZu";
+
+    // the raw transactions' output script; parsing never relates it to ADDRESS, so any hash will do
+    private static final byte[] HASH160 = new byte[20];
+
+    @Param({"20", "100", "500"})
+    public int transactionCount;
+
+    private BlockchainDb blockchainDb;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        blockchainDb = Fixtures.replayingBlockchainDb(Fixtures.bdbTransactionsPage(transactionCount, ADDRESS, HASH160));
+    }
+
+    @Benchmark
+    public List<Transaction> getTransactions() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<List<Transaction>> result = new AtomicReference<>(Collections.emptyList());
+
+        blockchainDb.getTransactions(Fixtures.BTC_TESTNET, Collections.singletonList(ADDRESS),
+                UnsignedLong.ZERO, UnsignedLong.MAX_VALUE, true, false, null,
+                new CompletionHandler<List<Transaction>, QueryError>() {
+                    @Override
+                    public void handleData(List<Transaction> data) {
+                        result.set(data);
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void handleError(QueryError error) {
+                        done.countDown();
+                    }
+                });
+
+        done.await();
+
+        if (result.get().size() != transactionCount) {
+            throw new IllegalStateException("Parsed " + result.get().size() + " of " + transactionCount + " transactions");
+        }
+        return result.get();
+    }
+}
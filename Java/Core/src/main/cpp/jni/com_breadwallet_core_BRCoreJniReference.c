@@ -52,3 +52,17 @@ JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreJniReference_disposeNativ
     // Not always free(); could be BRPeerManagerFree()
     if (NULL != reference) free (reference);
 }
+
+/*
+ * Class:     com_breadwallet_core_BRCoreJniReference
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCoreJniReference_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    void *reference = (void *) jniReferenceAddress;
+
+    // Not always free(); subclasses provide their own jniDispose()
+    if (NULL != reference) free (reference);
+}
@@ -15,6 +15,14 @@ extern "C" {
 JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreJniReference_disposeNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     com_breadwallet_core_BRCoreJniReference
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreJniReference_jniDispose
+  (JNIEnv *, jclass, jlong);
+
 #ifdef __cplusplus
 }
 #endif
@@ -229,3 +229,15 @@ Java_com_breadwallet_core_BRCoreMerkleBlock_disposeNative
     if (NULL != block) BRMerkleBlockFree(block);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCoreMerkleBlock
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCoreMerkleBlock_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRMerkleBlock *block = (BRMerkleBlock *) jniReferenceAddress;
+    if (NULL != block) BRMerkleBlockFree(block);
+}
+
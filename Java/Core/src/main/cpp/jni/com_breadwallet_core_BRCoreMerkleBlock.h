@@ -127,6 +127,14 @@ JNIEXPORT jboolean JNICALL Java_com_breadwallet_core_BRCoreMerkleBlock_containsT
 JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreMerkleBlock_disposeNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     com_breadwallet_core_BRCoreMerkleBlock
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreMerkleBlock_jniDispose
+  (JNIEnv *, jclass, jlong);
+
 #ifdef __cplusplus
 }
 #endif
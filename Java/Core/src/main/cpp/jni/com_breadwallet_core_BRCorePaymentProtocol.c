@@ -333,6 +333,18 @@ Java_com_breadwallet_core_BRCorePaymentProtocolRequest_disposeNative
     if (NULL != request) BRPaymentProtocolRequestFree(request);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolRequest
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolRequest_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolRequest *reference = (BRPaymentProtocolRequest *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolRequestFree(reference);
+}
+
 /*
  * Class:     com_breadwallet_core_BRCorePaymentProtocolRequest
  * Method:    initializeNative
@@ -478,6 +490,18 @@ Java_com_breadwallet_core_BRCorePaymentProtocolPayment_disposeNative
     if (NULL != payment) BRPaymentProtocolPaymentFree (payment);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolPayment
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolPayment_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolPayment *reference = (BRPaymentProtocolPayment *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolPaymentFree(reference);
+}
+
 /*
  * Class:     com_breadwallet_core_BRCorePaymentProtocolPayment
  * Method:    initializeNative
@@ -634,6 +658,18 @@ Java_com_breadwallet_core_BRCorePaymentProtocolACK_disposeNative
     if (NULL != ack) BRPaymentProtocolACKFree (ack);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolACK
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolACK_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolACK *reference = (BRPaymentProtocolACK *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolACKFree(reference);
+}
+
 /*
  * Class:     com_breadwallet_core_BRCorePaymentProtocolACK
  * Method:    initializeNative
@@ -841,6 +877,18 @@ Java_com_breadwallet_core_BRCorePaymentProtocolInvoiceRequest_disposeNative
     if (NULL != request) BRPaymentProtocolInvoiceRequestFree (request);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolInvoiceRequest
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolInvoiceRequest_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolInvoiceRequest *reference = (BRPaymentProtocolInvoiceRequest *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolInvoiceRequestFree(reference);
+}
+
 // ======================
 //
 // Message
@@ -992,6 +1040,18 @@ Java_com_breadwallet_core_BRCorePaymentProtocolMessage_disposeNative
     if (NULL != message) BRPaymentProtocolMessageFree(message);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolMessage
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolMessage_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolMessage *reference = (BRPaymentProtocolMessage *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolMessageFree(reference);
+}
+
 // ======================
 //
 // Encrypted Message
@@ -1165,3 +1225,15 @@ Java_com_breadwallet_core_BRCorePaymentProtocolEncryptedMessage_disposeNative
     if (NULL != message) BRPaymentProtocolEncryptedMessageFree(message);
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolEncryptedMessage
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePaymentProtocolEncryptedMessage_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPaymentProtocolEncryptedMessage *reference = (BRPaymentProtocolEncryptedMessage *) jniReferenceAddress;
+    if (NULL != reference) BRPaymentProtocolEncryptedMessageFree(reference);
+}
+
@@ -71,6 +71,14 @@ JNIEXPORT jbyteArray JNICALL Java_com_breadwallet_core_BRCorePaymentProtocolACK_
 JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCorePaymentProtocolACK_disposeNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     com_breadwallet_core_BRCorePaymentProtocolACK
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCorePaymentProtocolACK_jniDispose
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     com_breadwallet_core_BRCorePaymentProtocolACK
  * Method:    initializeNative
@@ -435,6 +435,22 @@ Java_com_breadwallet_core_BRCorePeerManager_disposeNative
     }
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCorePeerManager
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCorePeerManager_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRPeerManager *peerManager = (BRPeerManager *) jniReferenceAddress;
+
+    if (NULL != peerManager) {
+        assert (BRPeerStatusDisconnected == BRPeerManagerConnectStatus(peerManager));
+        BRPeerManagerFree(peerManager);
+    }
+}
+
 /*
  * Class:     com_breadwallet_core_BRCorePeerManager
  * Method:    initializeNative
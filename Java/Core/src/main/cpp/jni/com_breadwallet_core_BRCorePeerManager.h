@@ -175,6 +175,14 @@ JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCorePeerManager_installListen
 JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCorePeerManager_disposeNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     com_breadwallet_core_BRCorePeerManager
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCorePeerManager_jniDispose
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     com_breadwallet_core_BRCorePeerManager
  * Method:    initializeNative
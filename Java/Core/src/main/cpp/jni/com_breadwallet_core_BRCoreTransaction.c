@@ -342,6 +342,18 @@ Java_com_breadwallet_core_BRCoreTransaction_disposeNative
 
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCoreTransaction
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCoreTransaction_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRTransaction *transaction = (BRTransaction *) jniReferenceAddress;
+    if (NULL != transaction) BRTransactionFree(transaction);
+}
+
 /*
  * Class:     com_breadwallet_core_BRCoreTransaction
  * Method:    initializeNative
@@ -177,6 +177,14 @@ JNIEXPORT jlong JNICALL Java_com_breadwallet_core_BRCoreTransaction_getMinOutput
 JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreTransaction_disposeNative
   (JNIEnv *, jobject);
 
+/*
+ * Class:     com_breadwallet_core_BRCoreTransaction
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL Java_com_breadwallet_core_BRCoreTransaction_jniDispose
+  (JNIEnv *, jclass, jlong);
+
 /*
  * Class:     com_breadwallet_core_BRCoreTransaction
  * Method:    initializeNative
@@ -661,6 +661,18 @@ Java_com_breadwallet_core_BRCoreWallet_disposeNative
     }
 }
 
+/*
+ * Class:     com_breadwallet_core_BRCoreWallet
+ * Method:    jniDispose
+ * Signature: (J)V
+ */
+JNIEXPORT void JNICALL
+Java_com_breadwallet_core_BRCoreWallet_jniDispose
+        (JNIEnv *env, jclass thisClass, jlong jniReferenceAddress) {
+    BRWallet *wallet = (BRWallet *) jniReferenceAddress;
+    if (NULL != wallet) BRWalletFree(wallet);
+}
+
 /*
  * Class:     com_breadwallet_core_BRCoreWallet
  * Method:    initializeNative
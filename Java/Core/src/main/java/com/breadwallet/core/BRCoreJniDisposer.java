@@ -0,0 +1,163 @@
+/*
+ * BRCoreJniDisposer
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frees the Core memory referenced by a BRCoreJniReference once the reference is no longer
+ * reachable, without the cost of a finalizer: each reference is tracked with a PhantomReference
+ * and freed on a single daemon thread, in batches.
+ *
+ * A reference that is closed explicitly is freed right away, on the calling thread.
+ */
+public final class BRCoreJniDisposer {
+
+    /**
+     * Frees the Core memory at `jniReferenceAddress`.  Implementations must not reference the
+     * BRCoreJniReference itself; it is gone by the time they run.
+     */
+    public interface Disposer {
+        void dispose (long jniReferenceAddress);
+    }
+
+    // The number of queued registrations disposed per wakeup of the disposer thread.
+    private static final int DISPOSE_BATCH_SIZE = 64;
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+
+    // Registrations not yet disposed; holding them keeps them reachable until enqueued.
+    private static final Set<Registration> REGISTRATIONS =
+            Collections.newSetFromMap(new ConcurrentHashMap<Registration, Boolean>());
+
+    private static final AtomicLong COLLECTED_COUNT = new AtomicLong();
+    private static final AtomicLong CLOSED_COUNT = new AtomicLong();
+    private static final AtomicLong BATCH_COUNT = new AtomicLong();
+
+    static {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drain ();
+            }
+        });
+        thread.setDaemon(true);
+        thread.setName(BRCoreJniDisposer.class.getName());
+        thread.start();
+    }
+
+    /* package */ static Registration register (BRCoreJniReference referent,
+                                                long jniReferenceAddress,
+                                                Disposer disposer) {
+        Registration registration = new Registration(referent, jniReferenceAddress, disposer);
+        REGISTRATIONS.add(registration);
+        return registration;
+    }
+
+    /**
+     * The number of references whose Core memory is yet to be freed.
+     */
+    public static int getPendingCount () {
+        return REGISTRATIONS.size();
+    }
+
+    /**
+     * The number of references freed after becoming unreachable.
+     */
+    public static long getCollectedCount () {
+        return COLLECTED_COUNT.get();
+    }
+
+    /**
+     * The number of references freed explicitly, with BRCoreJniReference.close() or dispose().
+     */
+    public static long getClosedCount () {
+        return CLOSED_COUNT.get();
+    }
+
+    /**
+     * The number of batches the disposer thread has freed; with getCollectedCount() this gives
+     * the average batch size.
+     */
+    public static long getBatchCount () {
+        return BATCH_COUNT.get();
+    }
+
+    private static void drain () {
+        for (;;) {
+            Registration registration;
+            try {
+                registration = (Registration) QUEUE.remove();
+            } catch (InterruptedException e) {
+                continue;
+            }
+
+            int count = 0;
+            do {
+                if (registration.dispose (false)) count++;
+            } while (count < DISPOSE_BATCH_SIZE
+                    && null != (registration = (Registration) QUEUE.poll()));
+
+            COLLECTED_COUNT.addAndGet(count);
+            BATCH_COUNT.incrementAndGet();
+        }
+    }
+
+    /* package */ static final class Registration extends PhantomReference<Object> {
+        private final long jniReferenceAddress;
+        private final Disposer disposer;
+        private final String name;
+
+        private Registration (BRCoreJniReference referent, long jniReferenceAddress, Disposer disposer) {
+            super (referent, QUEUE);
+            this.jniReferenceAddress = jniReferenceAddress;
+            this.disposer = disposer;
+            this.name = referent.getClass().getName();
+        }
+
+        /**
+         * Free the Core memory, unless that has already happened or it has been forgotten.
+         *
+         * @return true if this call freed the memory
+         */
+        /* package */ boolean dispose (boolean explicit) {
+            if (!REGISTRATIONS.remove(this)) return false;
+            clear();
+
+            if (BRCoreJniReference.SHOW_FINALIZE)
+                System.err.println("Dispose: " + name + " JNI=" + Long.toHexString(jniReferenceAddress));
+
+            try {
+                disposer.dispose(jniReferenceAddress);
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+
+            if (explicit) CLOSED_COUNT.incrementAndGet();
+            return true;
+        }
+
+        /**
+         * Stop tracking the Core memory; it is now owned elsewhere and must never be freed here.
+         */
+        /* package */ void forget () {
+            if (REGISTRATIONS.remove(this)) clear();
+        }
+
+        /* package */ boolean isDisposed () {
+            return !REGISTRATIONS.contains(this);
+        }
+    }
+}
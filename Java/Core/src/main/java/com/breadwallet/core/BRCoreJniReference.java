@@ -12,7 +12,7 @@ package com.breadwallet.core;
 /**
  *
  */
-public abstract class BRCoreJniReference {
+public abstract class BRCoreJniReference implements AutoCloseable {
 
     static {
         try { System.loadLibrary("core"); }
@@ -22,6 +22,12 @@ public abstract class BRCoreJniReference {
         }
     }
 
+    /**
+     * Frees the Core memory with `free()`; subclasses whose Core entity needs more than that
+     * provide their own Disposer.
+     */
+    protected static final BRCoreJniDisposer.Disposer FREE_DISPOSER = BRCoreJniReference::jniDispose;
+
     protected static boolean SHOW_FINALIZE = false;
     /**
      * C Pointer (as a Java long) to the underlying Breadwallet Core entity allocated from the
@@ -33,25 +39,63 @@ public abstract class BRCoreJniReference {
      */
     protected long jniReferenceAddress;
 
+    /**
+     * Frees the Core entity once this reference is unreachable, or is closed; null if the Core
+     * entity isn't owned by this reference.
+     */
+    private final BRCoreJniDisposer.Registration registration;
+
     protected BRCoreJniReference (long jniReferenceAddress)
+    {
+        this (jniReferenceAddress, FREE_DISPOSER);
+    }
+
+    /**
+     * @param disposer frees the Core entity; null if the Core entity is owned elsewhere and must
+     *                 never be freed through this reference
+     */
+    protected BRCoreJniReference (long jniReferenceAddress,
+                                  BRCoreJniDisposer.Disposer disposer)
     {
         this.jniReferenceAddress = jniReferenceAddress;
+        this.registration = (null == disposer || 0 == jniReferenceAddress
+                ? null
+                : BRCoreJniDisposer.register(this, jniReferenceAddress, disposer));
     }
 
     //
     //
     //
-    protected void finalize () throws Throwable {
-        if (SHOW_FINALIZE) System.err.println("Finalize: " + toString());
+
+    /**
+     * Free the Core entity now, rather than once this reference is unreachable.  Freeing happens
+     * at most once; this reference must not be used afterwards.
+     */
+    public void dispose () {
+        if (null != registration) registration.dispose (true);
+    }
+
+    @Override
+    public void close () {
         dispose ();
     }
 
-    public void dispose () {
-        disposeNative ();
+    protected boolean isDisposed () {
+        return null == registration || registration.isDisposed();
+    }
+
+    /**
+     * Stop owning the Core entity - it has been handed over to Core - so that it is never freed
+     * through this reference.
+     */
+    protected void forgetJniReference () {
+        if (null != registration) registration.forget();
     }
 
     public native void disposeNative ();
 
+    protected static native void jniDispose (long jniReferenceAddress);
+
     public String toString() {
         return getClass().getName() + "@" + Integer.toHexString(hashCode()) + " JNI=" + Long.toHexString(jniReferenceAddress);
     }
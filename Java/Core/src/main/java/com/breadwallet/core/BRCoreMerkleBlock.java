@@ -21,7 +21,7 @@ public class BRCoreMerkleBlock extends BRCoreJniReference {
     }
 
     protected BRCoreMerkleBlock (long jniReferenceAddress) {
-        super (jniReferenceAddress);
+        super (jniReferenceAddress, DISPOSER);
     }
 
     // Test
@@ -78,4 +78,8 @@ public class BRCoreMerkleBlock extends BRCoreJniReference {
 
     // To call BRMerkleBlockFree()
     public native void disposeNative ();
+
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCoreMerkleBlock::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
 }
@@ -15,7 +15,7 @@ public class BRCorePaymentProtocolACK extends BRCoreJniReference {
     }
 
     protected BRCorePaymentProtocolACK(long jniReferenceAddress) {
-        super (jniReferenceAddress);
+        super (jniReferenceAddress, DISPOSER);
     }
 
     public native String getCustomerMemo ();
@@ -34,6 +34,10 @@ public class BRCorePaymentProtocolACK extends BRCoreJniReference {
 
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolACK::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
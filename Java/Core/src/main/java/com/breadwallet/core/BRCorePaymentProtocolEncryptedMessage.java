@@ -12,7 +12,7 @@ package com.breadwallet.core;
 
 public class BRCorePaymentProtocolEncryptedMessage extends BRCoreJniReference {
     public BRCorePaymentProtocolEncryptedMessage (byte[] data) {
-        super (createPaymentProtocolEncryptedMessage (data));
+        super (createPaymentProtocolEncryptedMessage (data), DISPOSER);
     }
 
     public native byte[] getMessage ();
@@ -44,4 +44,8 @@ public class BRCorePaymentProtocolEncryptedMessage extends BRCoreJniReference {
     public native byte[] serialize ();
 
     public native void disposeNative ();
+
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolEncryptedMessage::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
 }
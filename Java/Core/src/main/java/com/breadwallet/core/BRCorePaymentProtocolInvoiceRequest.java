@@ -11,7 +11,7 @@ package com.breadwallet.core;
 
 public class BRCorePaymentProtocolInvoiceRequest extends BRCoreJniReference {
     public BRCorePaymentProtocolInvoiceRequest(byte[] data) {
-        super(createPaymentProtocolInvoiceRequest(data));
+        super(createPaymentProtocolInvoiceRequest(data), DISPOSER);
     }
 
     public BRCorePaymentProtocolInvoiceRequest (BRCoreKey senderPublicKey, long amount,
@@ -21,7 +21,7 @@ public class BRCorePaymentProtocolInvoiceRequest extends BRCoreJniReference {
         super (createPaymentProtocolInvoiceRequestFull(senderPublicKey, amount,
                 pkiType, pkiData,
                 memo, notifyURL,
-                signature));
+                signature), DISPOSER);
     }
 
     public BRCoreKey getSenderPublicKey () {
@@ -52,4 +52,8 @@ public class BRCorePaymentProtocolInvoiceRequest extends BRCoreJniReference {
     public native byte[] serialize ();
 
     public native void disposeNative ();
+
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolInvoiceRequest::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
 }
@@ -21,7 +21,7 @@ public class BRCorePaymentProtocolMessage extends BRCoreJniReference {
     }
 
     protected BRCorePaymentProtocolMessage (long jniReferenceAddress) {
-        super (jniReferenceAddress);
+        super (jniReferenceAddress, DISPOSER);
     }
 
     public MessageType getMessageType () {
@@ -48,6 +48,10 @@ public class BRCorePaymentProtocolMessage extends BRCoreJniReference {
 
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolMessage::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     //
     //
     //
@@ -12,7 +12,7 @@ package com.breadwallet.core;
 
 public class BRCorePaymentProtocolPayment extends BRCoreJniReference {
     public BRCorePaymentProtocolPayment(byte[] data) {
-        super(createPaymentProtocolPayment(data));
+        super(createPaymentProtocolPayment(data), DISPOSER);
     }
 
     public native byte[] getMerchantData ();
@@ -29,6 +29,10 @@ public class BRCorePaymentProtocolPayment extends BRCoreJniReference {
 
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolPayment::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
@@ -14,7 +14,7 @@ public class BRCorePaymentProtocolRequest extends BRCoreJniReference {
     //
     //
     public BRCorePaymentProtocolRequest(byte[] data) {
-        super(createPaymentProtocolRequest(data));
+        super(createPaymentProtocolRequest(data), DISPOSER);
     }
 
     public native String getNetwork();
@@ -49,6 +49,10 @@ public class BRCorePaymentProtocolRequest extends BRCoreJniReference {
 
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePaymentProtocolRequest::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
@@ -67,7 +67,7 @@ public class BRCorePeerManager extends BRCoreJniReference {
                              BRCorePeer[] peers,
                              Listener listener) {
         // double time to int time.
-        super(createCorePeerManager(params, wallet, earliestKeyTime, blocks, peers));
+        super(createCorePeerManager(params, wallet, earliestKeyTime, blocks, peers), DISPOSER);
         assert (null != listener);
         this.listener = new WeakReference<>(listener);
         this.wallet = wallet;
@@ -112,10 +112,11 @@ public class BRCorePeerManager extends BRCoreJniReference {
     public native String getCurrentPeerName ();
 
     @Override
-    protected void finalize() throws Throwable {
-        if (BRCorePeer.ConnectStatus.Disconnected != getConnectStatus())
+    public void dispose () {
+        // Only checked on an explicit dispose; once unreachable the status can't be queried.
+        if (!isDisposed() && BRCorePeer.ConnectStatus.Disconnected != getConnectStatus())
             System.out.println ("Disposing PeerManager while not DISCONNECTED: " + this.toString());
-        super.finalize();
+        super.dispose();
     }
 
     /**
@@ -174,8 +175,7 @@ public class BRCorePeerManager extends BRCoreJniReference {
     public void publishTransaction (BRCoreTransaction transaction) {
         // Calling publishTransactionWithListener will 'give' transaction to the wallet.  Thus
         // it must be considered 'registered' if we are not copying.
-        transaction.isRegistered = transaction.isRegistered
-                || !BRCoreTransaction.JNI_COPIES_TRANSACTIONS;
+        transaction.markRegistered (!BRCoreTransaction.JNI_COPIES_TRANSACTIONS);
         publishTransactionWithListener(transaction, listener.get());
 
     }
@@ -237,6 +237,10 @@ public class BRCorePeerManager extends BRCoreJniReference {
 
     public native void disposeNative();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCorePeerManager::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
@@ -0,0 +1,237 @@
+/*
+ * BRCoreRecordLog
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only, memory-mapped log of keyed records.  A record either puts a payload for a key
+ * or deletes the key; the latest record for a key wins.
+ *
+ * Each record is laid out as
+ *
+ *     int length | int crc32 | byte type | int keyLength | key (UTF-8) | payload
+ *
+ * where `length` and `crc32` cover everything after the crc.  The file is zero-filled past the
+ * last record; reading stops at a zero length, or at a record that fails its crc (a write that
+ * was torn by a crash).
+ *
+ * Replacing the whole content writes a new file and renames it over the old one, so a reader
+ * sees either all of the old records or all of the new ones.  Superseded records are dropped by
+ * compacting the same way, once they outnumber the live ones.
+ */
+/* package */ final class BRCoreRecordLog {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    private static final int MAGIC = 0x42524c47;    // 'BRLG'
+    private static final int HEADER_SIZE = 8;       // magic | version
+    private static final int VERSION = 1;
+
+    private static final int RECORD_OVERHEAD = 4 + 4 + 1 + 4;
+
+    private static final byte RECORD_PUT = 1;
+    private static final byte RECORD_DELETE = 2;
+
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    // Compact once there are more superseded records than this, and more than live ones.
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final File file;
+
+    private RandomAccessFile raf;
+    private MappedByteBuffer buffer;
+    private int end;
+
+    // key -> offset of its latest PUT record
+    private final Map<String, Integer> index = new LinkedHashMap<>();
+    private int deadCount;
+
+    /* package */ BRCoreRecordLog (File file) throws IOException {
+        this.file = file;
+        open ();
+    }
+
+    /**
+     * The payloads of the live records, in the order their keys were first put.
+     */
+    /* package */ synchronized Map<String, byte[]> read () {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : index.entrySet())
+            records.put(entry.getKey(), payloadAt(entry.getValue()));
+        return records;
+    }
+
+    /* package */ synchronized byte[] get (String key) {
+        Integer offset = index.get(key);
+        return (null == offset ? null : payloadAt(offset));
+    }
+
+    /* package */ synchronized void put (String key, byte[] payload) throws IOException {
+        int offset = append (RECORD_PUT, key, payload);
+        if (null != index.put(key, offset)) deadCount++;
+    }
+
+    /* package */ synchronized void delete (String key) throws IOException {
+        if (null == index.remove(key)) return;
+
+        append (RECORD_DELETE, key, new byte[0]);
+        deadCount += 2;
+    }
+
+    /**
+     * Flush appended records to the file and, if enough of them have been superseded, compact.
+     */
+    /* package */ synchronized void sync () throws IOException {
+        if (deadCount > COMPACT_THRESHOLD && deadCount > index.size())
+            replace (read ());
+        else
+            buffer.force();
+    }
+
+    /**
+     * Atomically replace every record with `records`.
+     */
+    /* package */ synchronized void replace (Map<String, byte[]> records) throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        if (temp.exists() && !temp.delete())
+            throw new IOException("Can't delete " + temp);
+
+        BRCoreRecordLog replacement = new BRCoreRecordLog(temp);
+        for (Map.Entry<String, byte[]> entry : records.entrySet())
+            replacement.put(entry.getKey(), entry.getValue());
+        replacement.buffer.force();
+        replacement.close();
+
+        close ();
+        boolean renamed = temp.renameTo(file);
+        open ();
+
+        if (!renamed)
+            throw new IOException("Can't rename " + temp + " to " + file);
+    }
+
+    /* package */ synchronized void close () throws IOException {
+        if (null == raf) return;
+
+        buffer.force();
+        raf.close();
+        raf = null;
+        buffer = null;
+    }
+
+    private void open () throws IOException {
+        boolean exists = file.exists() && file.length() >= HEADER_SIZE;
+
+        raf = new RandomAccessFile(file, "rw");
+        map (Math.max(INITIAL_CAPACITY, (int) raf.length()));
+
+        index.clear();
+        deadCount = 0;
+
+        if (!exists || MAGIC != buffer.getInt(0) || VERSION != buffer.getInt(4)) {
+            // New, or not a log we understand; start over.
+            raf.setLength(0);
+            map (INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            end = HEADER_SIZE;
+            return;
+        }
+
+        end = HEADER_SIZE;
+        while (end + RECORD_OVERHEAD <= buffer.capacity()) {
+            int length = buffer.getInt(end);
+            if (length < RECORD_OVERHEAD - 8 || end + 8 + length > buffer.capacity()) break;
+            if (buffer.getInt(end + 4) != crc (end + 8, length)) break;
+
+            byte type = buffer.get(end + 8);
+            String key = keyAt (end);
+            if (RECORD_PUT == type) {
+                if (null != index.put(key, end)) deadCount++;
+            }
+            else if (null != index.remove(key)) deadCount += 2;
+
+            end += 8 + length;
+        }
+
+        // Clear whatever a torn write left past the last good record, so that none of it is
+        // mistaken for a record once appending resumes.
+        for (int i = end; i < buffer.capacity(); i++)
+            if (0 != buffer.get(i)) buffer.put(i, (byte) 0);
+    }
+
+    private void map (int capacity) throws IOException {
+        FileChannel channel = raf.getChannel();
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    }
+
+    private int append (byte type, String key, byte[] payload) throws IOException {
+        byte[] keyBytes = key.getBytes(UTF8);
+        int length = 1 + 4 + keyBytes.length + payload.length;
+
+        int required = end + 8 + length;
+        if (required > buffer.capacity()) {
+            int capacity = buffer.capacity();
+            while (capacity < required) capacity *= 2;
+            buffer.force();
+            map (capacity);
+        }
+
+        int offset = end;
+        buffer.position(offset + 8);
+        buffer.put(type);
+        buffer.putInt(keyBytes.length);
+        buffer.put(keyBytes);
+        buffer.put(payload);
+
+        buffer.putInt(offset + 4, crc (offset + 8, length));
+        // Written last, so that a record is only visible once complete.
+        buffer.putInt(offset, length);
+
+        end = required;
+        return offset;
+    }
+
+    private String keyAt (int offset) {
+        return new String(bytesAt (offset + 13, buffer.getInt(offset + 9)), UTF8);
+    }
+
+    private byte[] payloadAt (int offset) {
+        int length = buffer.getInt(offset);
+        int start = offset + 13 + buffer.getInt(offset + 9);
+        return bytesAt (start, offset + 8 + length - start);
+    }
+
+    private byte[] bytesAt (int offset, int length) {
+        ByteBuffer source = buffer.duplicate();
+        source.position(offset);
+
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return bytes;
+    }
+
+    private int crc (int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytesAt (offset, length));
+        return (int) crc.getValue();
+    }
+}
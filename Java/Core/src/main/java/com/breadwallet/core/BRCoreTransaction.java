@@ -20,6 +20,8 @@ public class BRCoreTransaction extends BRCoreJniReference {
      * Set to 'true' when this transaction is successfully registered with a wallet.
      * Once registered, the Wallet owns the JNI 'C memory' and thus on GC we won't
      * call BRTransactionFree (<jni reference>)
+     *
+     * Set with markRegistered(), which also tells the disposer.
      */
     protected boolean isRegistered = false;
 
@@ -36,13 +38,17 @@ public class BRCoreTransaction extends BRCoreJniReference {
     }
 
     protected BRCoreTransaction (long jniReferenceAddress) {
-        super (jniReferenceAddress);
+        super (jniReferenceAddress, DISPOSER);
     }
 
-    @Override
-    public void dispose () {
-        if (!isRegistered)
-            disposeNative ();
+    /**
+     * Mark as registered if `registered`; once registered, a transaction stays registered.
+     */
+    protected void markRegistered (boolean registered) {
+        if (registered && !isRegistered) {
+            isRegistered = true;
+            forgetJniReference ();
+        }
     }
 
     /**
@@ -195,6 +201,10 @@ public class BRCoreTransaction extends BRCoreJniReference {
      */
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCoreTransaction::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
@@ -51,7 +51,7 @@ public class BRCoreWallet extends BRCoreJniReference
                         Listener listener)
         throws WalletExecption
     {
-        super (createJniCoreWallet(transactions, masterPubKey, forkId));
+        super (createJniCoreWallet(transactions, masterPubKey, forkId), DISPOSER);
 
         // If we don't have a proper Core Wallet, raise an exception
         if (0 == this.jniReferenceAddress)
@@ -64,7 +64,7 @@ public class BRCoreWallet extends BRCoreJniReference
 
         // All `transactions` are effectively registered - now 'owned' by wallet
         for (BRCoreTransaction transaction : transactions)
-            transaction.isRegistered = true;
+            transaction.markRegistered (true);
     }
 
     protected static native long createJniCoreWallet(BRCoreTransaction[] transactions,
@@ -100,7 +100,7 @@ public class BRCoreWallet extends BRCoreJniReference
         // Mark as 'registered' if not a copy.
         for (BRCoreTransaction transaction : transactions) {
             assert (transaction.isSigned());
-            transaction.isRegistered = !BRCoreTransaction.JNI_COPIES_TRANSACTIONS;
+            transaction.markRegistered (!BRCoreTransaction.JNI_COPIES_TRANSACTIONS);
         }
 
         return transactions;
@@ -172,7 +172,7 @@ public class BRCoreWallet extends BRCoreJniReference
         boolean registered = jniRegisterTransaction(transaction);
 
         // Make isRegistered sticky.
-        transaction.isRegistered = transaction.isRegistered || registered;
+        transaction.markRegistered (registered);
 
         // Return the status of the register.
         return registered;
@@ -199,8 +199,7 @@ public class BRCoreWallet extends BRCoreJniReference
 
         // We mark as 'registered' if not a copy.
         if (null != transaction)
-            transaction.isRegistered = transaction.isRegistered
-                || !BRCoreTransaction.JNI_COPIES_TRANSACTIONS;
+            transaction.markRegistered (!BRCoreTransaction.JNI_COPIES_TRANSACTIONS);
 
         return transaction;
     }
@@ -310,6 +309,10 @@ public class BRCoreWallet extends BRCoreJniReference
     // To call BRWalletFree()
     public native void disposeNative ();
 
+    private static final BRCoreJniDisposer.Disposer DISPOSER = BRCoreWallet::jniDispose;
+
+    protected static native void jniDispose (long jniReferenceAddress);
+
     protected static native void initializeNative ();
 
     static { initializeNative(); }
@@ -9,6 +9,7 @@
  */
 package com.breadwallet.core;
 
+import java.io.IOException;
 import java.util.concurrent.Executor;
 
 /**
@@ -38,6 +39,8 @@ public class BRCoreWalletManager implements
     BRCoreWallet wallet; // Optional<BRCoreWallet>
 
     BRCorePeerManager peerManager; // Optional<BRCorePeerManager>
+
+    protected BRCoreWalletManagerStore store; // Optional<BRCoreWalletManagerStore>
     
     //
     //
@@ -45,9 +48,21 @@ public class BRCoreWalletManager implements
     public BRCoreWalletManager(BRCoreMasterPubKey masterPubKey,
                                BRCoreChainParams chainParams,
                                double earliestPeerTime) {
+        this (masterPubKey, chainParams, earliestPeerTime, null);
+    }
+
+    /**
+     * @param store if non-null, blocks, peers and transactions are loaded from and saved to
+     *              `store`, so that a restart resumes the sync rather than starting it over
+     */
+    public BRCoreWalletManager(BRCoreMasterPubKey masterPubKey,
+                               BRCoreChainParams chainParams,
+                               double earliestPeerTime,
+                               BRCoreWalletManagerStore store) {
         this.masterPubKey = masterPubKey;
         this.chainParams = chainParams;
         this.earliestPeerTime = earliestPeerTime;
+        this.store = store;
     }
 
     //
@@ -178,17 +193,17 @@ public class BRCoreWalletManager implements
 
     protected BRCoreTransaction[] loadTransactions ()
     {
-        return new BRCoreTransaction[0];
+        return (null == store ? new BRCoreTransaction[0] : store.loadTransactions());
     }
 
     protected BRCoreMerkleBlock[] loadBlocks ()
     {
-        return new BRCoreMerkleBlock[0];
+        return (null == store ? new BRCoreMerkleBlock[0] : store.loadBlocks());
     }
 
     protected BRCorePeer[] loadPeers ()
     {
-        return new BRCorePeer[0];
+        return (null == store ? new BRCorePeer[0] : store.loadPeers());
     }
 
     private void showTxDetail (String label) {
@@ -224,6 +239,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void syncStopped(String error) {
+        if (null != store) {
+            try { store.sync(); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println (getChainDescriptiveName() + ": syncStopped: " + error);
     }
@@ -240,6 +262,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void saveBlocks(boolean replace, BRCoreMerkleBlock[] blocks) {
+        if (null != store) {
+            try { store.saveBlocks(replace, blocks); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println(getChainDescriptiveName() + String.format(": saveBlocks: %d", blocks.length));
 
@@ -250,6 +279,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void savePeers(boolean replace, BRCorePeer[] peers) {
+        if (null != store) {
+            try { store.savePeers(replace, peers); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println(getChainDescriptiveName() + String.format(": savePeers: %d", peers.length));
 
@@ -287,6 +323,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void onTxAdded(BRCoreTransaction transaction) {
+        if (null != store) {
+            try { store.putTransaction(transaction); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println (getChainDescriptiveName() + ": onTxAdded: " + bytesToHex(transaction.getHash()));
 
@@ -296,6 +339,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void onTxUpdated(String hash, int blockHeight, int timeStamp) {
+        if (null != store) {
+            try { store.updateTransaction(hash, blockHeight, timeStamp); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println (getChainDescriptiveName() + ": onTxUpdated: " + hash);
 
@@ -305,6 +355,13 @@ public class BRCoreWalletManager implements
 
     @Override
     public void onTxDeleted(String hash, int notifyUser, int recommendRescan) {
+        if (null != store) {
+            try { store.deleteTransaction(hash); }
+            catch (IOException ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+
         if (!SHOW_CALLBACK) return;
         System.out.println (getChainDescriptiveName() + ": onTxDeleted: " + hash);
 
@@ -0,0 +1,196 @@
+/*
+ * BRCoreWalletManagerStore
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Persists the blocks, peers and transactions of a BRCoreWalletManager, each in its own
+ * BRCoreRecordLog within `directory`, so that a restart resumes from where the last sync left off.
+ *
+ * Transaction changes are flushed in batches rather than one at a time: ahead of every saveBlocks(),
+ * so that the saved chain never gets ahead of the transactions found in it, on sync() and on close().
+ */
+public class BRCoreWalletManagerStore {
+
+    private static final int PEER_ADDRESS_SIZE = 16;
+
+    private final BRCoreRecordLog blocks;
+    private final BRCoreRecordLog peers;
+    private final BRCoreRecordLog transactions;
+
+    public BRCoreWalletManagerStore (File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("Can't create " + directory);
+
+        this.blocks       = new BRCoreRecordLog(new File(directory, "blocks.log"));
+        this.peers        = new BRCoreRecordLog(new File(directory, "peers.log"));
+        this.transactions = new BRCoreRecordLog(new File(directory, "transactions.log"));
+    }
+
+    /**
+     * Flush transaction changes made since the last flush; call at sync boundaries.
+     */
+    public void sync () throws IOException {
+        transactions.sync();
+    }
+
+    public void close () throws IOException {
+        blocks.close();
+        peers.close();
+        transactions.close();
+    }
+
+    //
+    // Blocks: blockHeight | serialized block
+    //
+    public BRCoreMerkleBlock[] loadBlocks () {
+        List<BRCoreMerkleBlock> result = new ArrayList<>();
+        for (byte[] record : blocks.read().values()) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            int blockHeight = buffer.getInt();
+            result.add(new BRCoreMerkleBlock(remaining(buffer), blockHeight));
+        }
+        return result.toArray(new BRCoreMerkleBlock[result.size()]);
+    }
+
+    public void saveBlocks (boolean replace, BRCoreMerkleBlock[] blocks) throws IOException {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        for (BRCoreMerkleBlock block : blocks) {
+            byte[] serialization = block.serialize();
+            records.put(hex(block.getBlockHash()),
+                    ByteBuffer.allocate(4 + serialization.length)
+                            .putInt((int) block.getHeight())
+                            .put(serialization)
+                            .array());
+        }
+        transactions.sync();
+        save (this.blocks, replace, records);
+    }
+
+    //
+    // Peers: address | port | timestamp
+    //
+    public BRCorePeer[] loadPeers () {
+        List<BRCorePeer> result = new ArrayList<>();
+        for (byte[] record : peers.read().values()) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            byte[] address = new byte[PEER_ADDRESS_SIZE];
+            buffer.get(address);
+            int port = buffer.getInt();
+            long timestamp = buffer.getLong();
+            result.add(new BRCorePeer(address, port, timestamp));
+        }
+        return result.toArray(new BRCorePeer[result.size()]);
+    }
+
+    public void savePeers (boolean replace, BRCorePeer[] peers) throws IOException {
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        for (BRCorePeer peer : peers) {
+            byte[] address = peer.getAddress();
+            records.put(hex(address) + ":" + peer.getPort(),
+                    ByteBuffer.allocate(PEER_ADDRESS_SIZE + 4 + 8)
+                            .put(address, 0, PEER_ADDRESS_SIZE)
+                            .putInt(peer.getPort())
+                            .putLong(peer.getTimestamp())
+                            .array());
+        }
+        save (this.peers, replace, records);
+    }
+
+    //
+    // Transactions: blockHeight | timestamp | serialized transaction
+    //
+    public BRCoreTransaction[] loadTransactions () {
+        List<BRCoreTransaction> result = new ArrayList<>();
+        for (byte[] record : transactions.read().values()) {
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            long blockHeight = buffer.getLong();
+            long timestamp = buffer.getLong();
+            try {
+                result.add(new BRCoreTransaction(remaining(buffer), blockHeight, timestamp));
+            }
+            catch (BRCoreTransaction.FailedToParse ex) {
+                ex.printStackTrace(System.err);
+            }
+        }
+        return result.toArray(new BRCoreTransaction[result.size()]);
+    }
+
+    public void putTransaction (BRCoreTransaction transaction) throws IOException {
+        byte[] serialization = transaction.serialize();
+        transactions.put(hex(transaction.getHash()),
+                transactionRecord(transaction.getBlockHeight(), transaction.getTimestamp(), serialization));
+    }
+
+    /**
+     * @param hash the transaction hash, in hex, as passed to BRCoreWallet.Listener.onTxUpdated()
+     */
+    public void updateTransaction (String hash, long blockHeight, long timestamp) throws IOException {
+        String key = hash.toLowerCase(Locale.ROOT);
+
+        byte[] record = transactions.get(key);
+        if (null == record) return;
+
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        buffer.position(16);
+        transactions.put(key, transactionRecord(blockHeight, timestamp, remaining(buffer)));
+    }
+
+    public void deleteTransaction (String hash) throws IOException {
+        transactions.delete(hash.toLowerCase(Locale.ROOT));
+    }
+
+    //
+    // Support
+    //
+    private static void save (BRCoreRecordLog log, boolean replace, Map<String, byte[]> records) throws IOException {
+        if (replace) {
+            log.replace(records);
+            return;
+        }
+
+        for (Map.Entry<String, byte[]> entry : records.entrySet())
+            log.put(entry.getKey(), entry.getValue());
+        log.sync();
+    }
+
+    private static byte[] transactionRecord (long blockHeight, long timestamp, byte[] serialization) {
+        return ByteBuffer.allocate(8 + 8 + serialization.length)
+                .putLong(blockHeight)
+                .putLong(timestamp)
+                .put(serialization)
+                .array();
+    }
+
+    private static byte[] remaining (ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private final static char[] hexArray = "0123456789abcdef".toCharArray();
+    private static String hex (byte[] bytes) {
+        char[] hexChars = new char[bytes.length * 2];
+        for ( int j = 0; j < bytes.length; j++ ) {
+            int v = bytes[j] & 0xFF;
+            hexChars[j * 2] = hexArray[v >>> 4];
+            hexChars[j * 2 + 1] = hexArray[v & 0x0F];
+        }
+        return new String(hexChars);
+    }
+}
@@ -14,8 +14,8 @@ import android.support.annotation.Nullable;
 import com.breadwallet.core.BRCoreJniReference;
 
 import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 
@@ -385,9 +385,16 @@ public class BREthereumEWM extends BRCoreJniReference {
     // a WeakReference() - since it clearly exists in Core.  We'll leave this as a string
     // reference and explicitly delete wallets on a 'DELETE' event.
     //
-    protected Map<Long, BREthereumWallet> wallets = new HashMap<>();
+    // Lookups don't lock; only creating a wallet does, so that exactly one is ever created.
+    //
+    protected Map<Long, BREthereumWallet> wallets = new ConcurrentHashMap<>();
 
-    protected synchronized BREthereumWallet walletLookupOrCreate(long wid, BREthereumToken token) {
+    protected BREthereumWallet walletLookupOrCreate(long wid, BREthereumToken token) {
+        BREthereumWallet wallet = wallets.get(wid);
+        return (null != wallet ? wallet : walletCreate(wid, token));
+    }
+
+    private synchronized BREthereumWallet walletCreate(long wid, BREthereumToken token) {
         BREthereumWallet wallet = wallets.get(wid);
 
         // If we never had a wallet, then create one.
@@ -429,39 +436,40 @@ public class BREthereumEWM extends BRCoreJniReference {
     //
     // Transaction
     //
-    // We'll hold a mapping, from identifier to transaction, for all transactions.
+    // We'll hold a mapping, from identifier to transaction, for all transactions.  Transactions
+    // are held weakly; racing creators may both build one, but only one is ever handed out.
     //
-    protected Map<Long, WeakReference<BREthereumTransfer>> transactions = new HashMap<>();
+    protected final BREthereumReferenceMap<BREthereumTransfer> transactions = new BREthereumReferenceMap<>();
 
-    protected synchronized BREthereumTransfer transactionLookupOrCreate(long tid) {
-        WeakReference<BREthereumTransfer> transactionRef = transactions.get(tid);
+    protected BREthereumTransfer transactionLookupOrCreate(long tid) {
+        BREthereumTransfer transaction = transactions.get(tid);
 
-        if (null == transactionRef || null == transactionRef.get()) {
+        if (null == transaction) {
             long tokenReference = jniTransactionGetToken(tid);
 
-            transactionRef = new WeakReference<>(
+            transaction = transactions.putIfAbsent(tid,
                     new BREthereumTransfer(this, tid,
                             (0 == tokenReference
                                     ? BREthereumAmount.Unit.ETHER_ETHER
                                     : BREthereumAmount.Unit.TOKEN_DECIMAL)));
-            transactions.put(tid, transactionRef);
         }
 
-        return transactionRef.get();
+        return transaction;
     }
 
     //
     // Block
     //
-    protected Map<Long, BREthereumBlock> blocks = new HashMap<>();
+    // Blocks, like transactions, are held weakly.
+    //
+    protected final BREthereumReferenceMap<BREthereumBlock> blocks = new BREthereumReferenceMap<>();
 
-    protected synchronized BREthereumBlock blockLookupOrCreate(long bid) {
+    protected BREthereumBlock blockLookupOrCreate(long bid) {
         BREthereumBlock block = blocks.get(bid);
 
-        if (null == block) {
-            block = new BREthereumBlock(this, bid);
-            blocks.put(bid, block);
-        }
+        if (null == block)
+            block = blocks.putIfAbsent(bid, new BREthereumBlock(this, bid));
+
         return block;
     }
 
@@ -472,19 +480,14 @@ public class BREthereumEWM extends BRCoreJniReference {
     //
     // Tokens
     //
-    protected final HashMap<String, BREthereumToken> tokensByAddress   = new HashMap<>();
-    protected final HashMap<Long,   BREthereumToken> tokensByReference = new HashMap<>();
+    protected final Map<String, BREthereumToken> tokensByAddress   = new ConcurrentHashMap<>();
+    protected final Map<Long,   BREthereumToken> tokensByReference = new ConcurrentHashMap<>();
 
-    public synchronized BREthereumToken[] getTokens() {
-        BREthereumToken[] tokens = new BREthereumToken [tokensByAddress.size()];
-
-        int i = 0;
-        for (BREthereumToken token : tokensByAddress.values())
-            tokens[i++] = token;
-        return tokens;
+    public BREthereumToken[] getTokens() {
+        return tokensByAddress.values().toArray(new BREthereumToken[0]);
     }
 
-    protected synchronized BREthereumToken lookupTokenByReference(long reference) {
+    protected BREthereumToken lookupTokenByReference(long reference) {
         return tokensByReference.get(reference);
     }
 
@@ -494,11 +497,11 @@ public class BREthereumEWM extends BRCoreJniReference {
         tokensByAddress.put   (token.getAddress().toLowerCase(), token);
         return token;
     }
-    public @Nullable synchronized BREthereumToken getTokenBRD () {
+    public @Nullable BREthereumToken getTokenBRD () {
         return lookupTokenByReference(jniGetTokenBRD());
     }
 
-    public @Nullable synchronized BREthereumToken lookupToken(String address) {
+    public @Nullable BREthereumToken lookupToken(String address) {
         return tokensByAddress.get(address.toLowerCase());
     }
 
@@ -523,7 +526,7 @@ public class BREthereumEWM extends BRCoreJniReference {
         super(identifier);
 
         // Map identifier->this - for use in statically-declared trampoline functions.
-        ewmMap.put(identifier, new WeakReference<BREthereumEWM> (this));
+        ewmMap.put(identifier, this);
 
         this.client = new WeakReference<>(client);
         this.network = network;
@@ -831,11 +834,12 @@ public class BREthereumEWM extends BRCoreJniReference {
     //
     // Map EID -> BREthereumEWM
     //
-    static protected Map<Long, WeakReference<BREthereumEWM>> ewmMap = new HashMap<>();
+    // Read, without locking, by the trampolines below on Core's threads.
+    //
+    static protected final BREthereumReferenceMap<BREthereumEWM> ewmMap = new BREthereumReferenceMap<>();
 
     static BREthereumEWM lookupEWM (long eid) {
-        WeakReference<BREthereumEWM> ewm = ewmMap.get(eid);
-        return (null== ewm ? null : ewm.get());
+        return ewmMap.get(eid);
     }
 
     static Client lookupClient (BREthereumEWM ewm) {
@@ -0,0 +1,87 @@
+/*
+ * BREthereumReferenceMap
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core.ethereum;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A concurrent map from a Core identifier to a weakly held value.  Lookups don't lock; entries
+ * whose value has been reclaimed are purged as the map is written.
+ */
+final class BREthereumReferenceMap<V> {
+
+    private final ConcurrentMap<Long, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<V> queue = new ReferenceQueue<>();
+
+    /**
+     * Return the value for `identifier`, or null if there isn't one or it has been reclaimed.
+     */
+    V get (long identifier) {
+        Entry<V> entry = entries.get(identifier);
+        return (null == entry ? null : entry.get());
+    }
+
+    /**
+     * Map `identifier` to `value`, unless it already maps to a value that is still reachable.
+     *
+     * @return the value now mapped; `value` itself or the value that was already mapped
+     */
+    V putIfAbsent (long identifier, V value) {
+        purge();
+
+        Entry<V> entry = new Entry<>(identifier, value, queue);
+        for (;;) {
+            Entry<V> existing = entries.putIfAbsent(identifier, entry);
+            if (null == existing) return value;
+
+            V existingValue = existing.get();
+            if (null != existingValue) return existingValue;
+
+            // The existing value has been reclaimed; replace it, unless another thread beat us.
+            if (entries.replace(identifier, existing, entry)) return value;
+        }
+    }
+
+    /**
+     * Map `identifier` to `value`, replacing any existing value.
+     */
+    void put (long identifier, V value) {
+        purge();
+        entries.put(identifier, new Entry<>(identifier, value, queue));
+    }
+
+    void remove (long identifier) {
+        entries.remove(identifier);
+    }
+
+    int size () {
+        purge();
+        return entries.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void purge () {
+        Entry<V> entry;
+        while (null != (entry = (Entry<V>) queue.poll()))
+            entries.remove(entry.identifier, entry);
+    }
+
+    private static final class Entry<V> extends WeakReference<V> {
+        private final long identifier;
+
+        Entry (long identifier, V value, ReferenceQueue<V> queue) {
+            super (value, queue);
+            this.identifier = identifier;
+        }
+    }
+}
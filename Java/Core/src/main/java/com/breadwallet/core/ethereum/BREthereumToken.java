@@ -17,7 +17,8 @@ import java.util.HashMap;
 public class BREthereumToken extends BRCoreJniReference {
 
     protected BREthereumToken (long jniReferenceAddress) {
-        super (jniReferenceAddress);
+        // Tokens are owned by Core; never dispose of them.
+        super (jniReferenceAddress, null);
     }
 
     public native String getAddress ();
@@ -34,11 +35,6 @@ public class BREthereumToken extends BRCoreJniReference {
     protected static native long jniGetTokenBRD ();
     protected static native long[] jniTokenAll ();
 
-    @Override
-    public void dispose() {
-        // avoid 'super.dispose()' and thus 'native.dispose()'
-    }
-
     @Override
     public int hashCode() {
         return getAddress().toLowerCase().hashCode();
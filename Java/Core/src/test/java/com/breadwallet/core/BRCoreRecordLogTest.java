@@ -0,0 +1,157 @@
+/*
+ * BRCoreRecordLogTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.core;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BRCoreRecordLogTest {
+
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        File file = folder.newFile("test.log");
+
+        BRCoreRecordLog log = new BRCoreRecordLog(file);
+        log.put("a", bytes("one"));
+        log.put("b", bytes("two"));
+        log.put("a", bytes("three"));
+        log.delete("b");
+        log.put("c", bytes("four"));
+        log.sync();
+        log.close();
+
+        log = new BRCoreRecordLog(file);
+        Map<String, byte[]> records = log.read();
+        assertEquals(Arrays.asList("a", "c"), Arrays.asList(records.keySet().toArray()));
+        assertArrayEquals(bytes("three"), records.get("a"));
+        assertArrayEquals(bytes("four"), log.get("c"));
+        assertNull(log.get("b"));
+        log.close();
+    }
+
+    @Test
+    public void testRecoversFromTornRecord() throws IOException {
+        File file = folder.newFile("test.log");
+
+        BRCoreRecordLog log = new BRCoreRecordLog(file);
+        log.put("kept", bytes("intact"));
+        log.put("torn", bytes("damaged"));
+        log.close();
+
+        // Corrupt the payload of the last record, as a crash partway through its write would.
+        corrupt (file, bytes("damaged"));
+
+        log = new BRCoreRecordLog(file);
+        assertEquals(1, log.read().size());
+        assertArrayEquals(bytes("intact"), log.get("kept"));
+        assertNull(log.get("torn"));
+
+        // Appending resumes over the torn record without picking up any of it.
+        log.put("next", bytes("fresh"));
+        log.close();
+
+        log = new BRCoreRecordLog(file);
+        assertEquals(Arrays.asList("kept", "next"), Arrays.asList(log.read().keySet().toArray()));
+        assertArrayEquals(bytes("fresh"), log.get("next"));
+        log.close();
+    }
+
+    @Test
+    public void testCompactsSupersededRecords() throws IOException {
+        File file = folder.newFile("test.log");
+        byte[] payload = new byte[100];
+
+        BRCoreRecordLog log = new BRCoreRecordLog(file);
+        log.put("live", bytes("live"));
+        for (int i = 0; i < 2000; i++) {
+            payload[0] = (byte) i;
+            log.put("churn", payload);
+        }
+        long grown = file.length();
+        assertTrue(grown > 64 * 1024);
+
+        log.sync();
+        assertTrue(file.length() < grown);
+        assertArrayEquals(payload, log.get("churn"));
+        log.close();
+
+        log = new BRCoreRecordLog(file);
+        assertEquals(2, log.read().size());
+        assertArrayEquals(bytes("live"), log.get("live"));
+        assertArrayEquals(payload, log.get("churn"));
+        log.close();
+    }
+
+    @Test
+    public void testReplacesAtomically() throws IOException {
+        File file = folder.newFile("test.log");
+
+        // A temporary left behind by an interrupted replace is discarded.
+        File temp = new File(file.getPath() + ".tmp");
+        assertTrue(temp.createNewFile());
+
+        BRCoreRecordLog log = new BRCoreRecordLog(file);
+        log.put("a", bytes("one"));
+        log.put("b", bytes("two"));
+
+        Map<String, byte[]> records = new LinkedHashMap<>();
+        records.put("c", bytes("three"));
+        records.put("a", bytes("four"));
+        log.replace(records);
+
+        assertFalse(temp.exists());
+        assertNull(log.get("b"));
+        assertArrayEquals(bytes("four"), log.get("a"));
+
+        // The log stays usable after the swap.
+        log.put("d", bytes("five"));
+        log.close();
+
+        log = new BRCoreRecordLog(file);
+        assertEquals(Arrays.asList("c", "a", "d"), Arrays.asList(log.read().keySet().toArray()));
+        log.close();
+    }
+
+    private static byte[] bytes (String value) {
+        return value.getBytes(UTF8);
+    }
+
+    private static void corrupt (File file, byte[] target) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            byte[] contents = new byte[(int) raf.length()];
+            raf.readFully(contents);
+
+            for (int i = 0; i + target.length <= contents.length; i++) {
+                if (Arrays.equals(target, Arrays.copyOfRange(contents, i, i + target.length))) {
+                    raf.seek(i);
+                    raf.write(~contents[i]);
+                    return;
+                }
+            }
+        }
+        fail("payload not found");
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.breadwallet.corecrypto;
 
+import com.breadwallet.corenative.cleaner.Cleanable;
 import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoAddress;
 import com.google.common.base.Supplier;
@@ -15,12 +16,12 @@ import com.google.common.base.Suppliers;
 import java.util.Objects;
 
 /* package */
-final class Address implements com.breadwallet.crypto.Address {
+final class Address implements com.breadwallet.crypto.Address, AutoCloseable {
 
     /* package */
     static Address create(BRCryptoAddress core) {
         Address address = new Address(core);
-        ReferenceCleaner.register(address, core::give);
+        address.cleanable = ReferenceCleaner.register(address, core::give);
         return address;
     }
 
@@ -34,6 +35,9 @@ final class Address implements com.breadwallet.crypto.Address {
 
     private final BRCryptoAddress core;
 
+    // set by create(); gives back `core` early when closed
+    private Cleanable cleanable;
+
     private final Supplier<String> toStringSupplier;
 
     private Address(BRCryptoAddress core) {
@@ -70,4 +74,13 @@ final class Address implements com.breadwallet.crypto.Address {
     BRCryptoAddress getCoreBRCryptoAddress() {
         return core;
     }
+
+    /**
+     * Give back the native reference held by this address now, rather than once it has been
+     * collected. The address must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
 }
@@ -9,6 +9,7 @@ package com.breadwallet.corecrypto;
 
 import android.support.annotation.Nullable;
 
+import com.breadwallet.corenative.cleaner.Cleanable;
 import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoAmount;
 import com.breadwallet.crypto.CurrencyPair;
@@ -26,7 +27,7 @@ import java.util.Objects;
 import static com.google.common.base.Preconditions.checkArgument;
 
 /* package */
-final class Amount implements com.breadwallet.crypto.Amount {
+final class Amount implements com.breadwallet.crypto.Amount, AutoCloseable {
 
     /* package */
     static Amount create(double value, com.breadwallet.crypto.Unit unit) {
@@ -52,7 +53,7 @@ final class Amount implements com.breadwallet.crypto.Amount {
     /* package */
     static Amount create(BRCryptoAmount core) {
         Amount amount = new Amount(core);
-        ReferenceCleaner.register(amount, core::give);
+        amount.cleanable = ReferenceCleaner.register(amount, core::give);
         return amount;
     }
 
@@ -89,6 +90,9 @@ final class Amount implements com.breadwallet.crypto.Amount {
 
     private final BRCryptoAmount core;
 
+    // set by create(); gives back `core` early when closed
+    private Cleanable cleanable;
+
     private final Supplier<Unit> unitSupplier;
     private final Supplier<Currency> currencySupplier;
     private final Supplier<String> toStringSupplier;
@@ -224,4 +228,13 @@ final class Amount implements com.breadwallet.crypto.Amount {
     BRCryptoAmount getCoreBRCryptoAmount() {
         return core;
     }
+
+    /**
+     * Give back the native reference held by this amount now, rather than once it has been
+     * collected. The amount must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * CoreWrapperCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.breadwallet.corenative.cleaner.ReferenceCleaner;
+import com.google.common.base.Function;
+import com.google.common.base.Optional;
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizing map from a native object to the single live wrapper for it.
+ *
+ * Values are held weakly; once a wrapper has been collected its entry is dropped and the reference
+ * it held on the native object is given back, via the ReferenceCleaner.
+ */
+/* package */
+final class CoreWrapperCache<C extends PointerType, W> {
+
+    private final ConcurrentMap<Pointer, WeakReference<W>> wrappers = new ConcurrentHashMap<>();
+
+    /* package */
+    Optional<W> get(C core) {
+        WeakReference<W> ref = wrappers.get(core.getPointer());
+        return Optional.fromNullable(null == ref ? null : ref.get());
+    }
+
+    // `core` is a reference owned by the caller; it is either handed to a newly created wrapper or,
+    // if a wrapper for the same native object is still alive, released via `release`.
+    /* package */
+    W create(C core, Runnable release, Function<C, W> factory) {
+        Pointer key = core.getPointer();
+
+        W wrapper;
+        synchronized (this) {
+            WeakReference<W> ref = wrappers.get(key);
+            wrapper = null == ref ? null : ref.get();
+
+            if (null == wrapper) {
+                wrapper = factory.apply(core);
+
+                WeakReference<W> wrapperRef = new WeakReference<>(wrapper);
+                wrappers.put(key, wrapperRef);
+                ReferenceCleaner.register(wrapper, () -> {
+                    // only drop the entry if it hasn't been replaced by a newer wrapper already
+                    wrappers.remove(key, wrapperRef);
+                    release.run();
+                });
+                return wrapper;
+            }
+        }
+
+        release.run();
+        return wrapper;
+    }
+
+    /* package */
+    int size() {
+        return wrappers.size();
+    }
+}
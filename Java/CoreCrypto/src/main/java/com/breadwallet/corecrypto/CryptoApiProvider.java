@@ -78,6 +78,18 @@ public final class CryptoApiProvider implements CryptoApi.Provider {
             return System.create(executor, listener, account, isMainnet, path, query);
         }
 
+        @Override
+        public com.breadwallet.crypto.System create(ScheduledExecutorService executor,
+                                                    SystemListener listener,
+                                                    com.breadwallet.crypto.Account account,
+                                                    boolean isMainnet,
+                                                    String path,
+                                                    BlockchainDb query,
+                                                    int listenerThreadCount,
+                                                    int clientThreadCount) {
+            return System.create(executor, listener, account, isMainnet, path, query, listenerThreadCount, clientThreadCount);
+        }
+
         @Override
         public Optional<Currency> asBDBCurrency(String uids, String name, String code, String type, UnsignedInteger decimals) {
             return System.asBDBCurrency(uids, name, code, type, decimals);
@@ -9,7 +9,6 @@ package com.breadwallet.corecrypto;
 
 import android.support.annotation.Nullable;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoCurrency;
 import com.google.common.base.Optional;
 import com.google.common.base.Supplier;
@@ -20,6 +19,8 @@ import java.util.Objects;
 /* package */
 final class Currency implements com.breadwallet.crypto.Currency {
 
+    private static final CoreWrapperCache<BRCryptoCurrency, Currency> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static Currency create (String uids, String name, String code, String type, @Nullable String issuer) {
         BRCryptoCurrency core = BRCryptoCurrency.create(uids, name, code, type, issuer);
@@ -28,9 +29,7 @@ final class Currency implements com.breadwallet.crypto.Currency {
 
     /* package */
     static Currency create(BRCryptoCurrency core) {
-        Currency currency = new Currency(core);
-        ReferenceCleaner.register(currency, core::give);
-        return currency;
+        return WRAPPERS.create(core, core::give, Currency::new);
     }
 
     /* package */
@@ -9,7 +9,6 @@ package com.breadwallet.corecrypto;
 
 import android.support.annotation.Nullable;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoCurrency;
 import com.breadwallet.corenative.crypto.BRCryptoNetwork;
 import com.breadwallet.corenative.crypto.BRCryptoNetworkFee;
@@ -32,6 +31,8 @@ import static com.google.common.base.Preconditions.checkState;
 /* package */
 final class Network implements com.breadwallet.crypto.Network {
 
+    private static final CoreWrapperCache<BRCryptoNetwork, Network> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static Network create(String uids, String name, boolean isMainnet, Currency currency, UnsignedLong height,
                           Map<Currency, NetworkAssociation> associations,
@@ -90,9 +91,7 @@ final class Network implements com.breadwallet.crypto.Network {
 
     /* package */
     static Network create(BRCryptoNetwork core) {
-        Network network = new Network(core);
-        ReferenceCleaner.register(network, core::give);
-        return network;
+        return WRAPPERS.create(core, core::give, Network::new);
     }
 
     /* package */
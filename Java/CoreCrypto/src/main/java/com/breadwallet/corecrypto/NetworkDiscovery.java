@@ -22,6 +22,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +32,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /* package */
@@ -38,6 +43,25 @@ final class NetworkDiscovery {
 
     private static final String TAG = NetworkDiscovery.class.getName();
 
+    // How long to wait on BlockchainDB before falling back to the builtin blockchains and currencies
+    private static final long BLOCKCHAINS_TIMEOUT_SECONDS = 10;
+    private static final long CURRENCIES_TIMEOUT_SECONDS = 5;
+
+    // Networks are built (and announced) on a small pool, rather than on the HTTP client's threads,
+    // which also times out the requests
+    private static final int WORKER_THREADS = 2;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30;
+    private static final ScheduledThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private static ScheduledThreadPoolExecutor createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(WORKER_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("network-discovery-%d").setDaemon(true).build());
+        executor.setRemoveOnCancelPolicy(true);
+        executor.setKeepAliveTime(WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     /* package */
     interface Callback {
         void discovered(Network network);
@@ -49,9 +73,10 @@ final class NetworkDiscovery {
                                  boolean isMainnet,
                                  List<com.breadwallet.crypto.blockchaindb.models.bdb.Currency> appCurrencies,
                                  Callback callback) {
-        List<com.breadwallet.crypto.Network> networks = new ArrayList<>();
+        // networks are discovered concurrently, one blockchain per worker
+        List<com.breadwallet.crypto.Network> networks = Collections.synchronizedList(new ArrayList<>());
 
-        CountUpAndDownLatch latch = new CountUpAndDownLatch(() -> callback.complete(networks));
+        CountUpAndDownLatch latch = new CountUpAndDownLatch(() -> callback.complete(new ArrayList<>(networks)));
 
         getBlockChains(latch, query, isMainnet, remoteModels -> {
             // Filter our defaults to be `self.onMainnet` and supported (non-nil blockHeight)
@@ -139,7 +164,10 @@ final class NetworkDiscovery {
                     for (BlockchainFee bdbFee: blockchainModel.getFeeEstimates()) {
                         Optional<Amount> amount = Amount.create(bdbFee.getAmount(), false, feeUnit);
                         if (amount.isPresent()) {
-                            fees.add(NetworkFee.create(bdbFee.getConfirmationTimeInMilliseconds(), amount.get()));
+                            // the fee takes its own reference to the amount
+                            try (Amount pricePerCostFactor = amount.get()) {
+                                fees.add(NetworkFee.create(bdbFee.getConfirmationTimeInMilliseconds(), pricePerCostFactor));
+                            }
                         }
                     }
 
@@ -229,11 +257,14 @@ final class NetworkDiscovery {
                                        BlockchainDb query,
                                        boolean isMainnet,
                                        Function<Collection<Blockchain>, Void> func) {
-        latch.countUp();
+        // on a timeout, proceed as on an error: with the builtin blockchains alone
+        Runnable fallback = () -> func.apply(Collections.emptyList());
+
+        BoundedRequest request = new BoundedRequest(latch, "blockchains", BLOCKCHAINS_TIMEOUT_SECONDS, fallback);
         query.getBlockchains(isMainnet, new CompletionHandler<List<Blockchain>, QueryError>() {
             @Override
             public void handleData(List<Blockchain> remote) {
-                try {
+                request.complete(() -> {
                     List<Blockchain> blockchains = new ArrayList<>(remote.size());
                     for (Blockchain blockchain: remote) {
                         if (blockchain.getBlockHeight().isPresent()) {
@@ -241,18 +272,12 @@ final class NetworkDiscovery {
                         }
                     }
                     func.apply(blockchains);
-                } finally {
-                    latch.countDown();
-                }
+                });
             }
 
             @Override
             public void handleError(QueryError error) {
-                try {
-                    func.apply(Collections.emptyList());
-                } finally {
-                    latch.countDown();
-                }
+                request.complete(fallback);
             }
         });
     }
@@ -263,11 +288,30 @@ final class NetworkDiscovery {
                                       Collection<com.breadwallet.crypto.blockchaindb.models.bdb.Currency> applicationCurrencies,
                                       Collection<com.breadwallet.crypto.blockchaindb.models.bdb.Currency> defaultCurrencies,
                                       Function<Collection<com.breadwallet.crypto.blockchaindb.models.bdb.Currency>, Void> func) {
-        latch.countUp();
+        // On error (or timeout), use `apps` merged INTO defaults.  We merge into `defaults` to ensure that we get
+        // BTC, BCH, ETH, BRD and that they are correct (don't rely on the App).
+        Runnable fallback = () -> {
+            Map<String, com.breadwallet.crypto.blockchaindb.models.bdb.Currency> merged = new HashMap<>();
+            for (com.breadwallet.crypto.blockchaindb.models.bdb.Currency currency : applicationCurrencies) {
+                if (currency.getBlockchainId().equals(blockchainId) && currency.getVerified()) {
+                    merged.put(currency.getId(), currency);
+                }
+            }
+
+            for (com.breadwallet.crypto.blockchaindb.models.bdb.Currency currency : defaultCurrencies) {
+                if (currency.getBlockchainId().equals(blockchainId) && currency.getVerified()) {
+                    merged.put(currency.getId(), currency);
+                }
+            }
+
+            func.apply(merged.values());
+        };
+
+        BoundedRequest request = new BoundedRequest(latch, "currencies of " + blockchainId, CURRENCIES_TIMEOUT_SECONDS, fallback);
         query.getCurrencies(blockchainId, new CompletionHandler<List<com.breadwallet.crypto.blockchaindb.models.bdb.Currency>, QueryError>() {
             @Override
             public void handleData(List<com.breadwallet.crypto.blockchaindb.models.bdb.Currency> newCurrencies) {
-                try {
+                request.complete(() -> {
                     // On success, always merge `default` INTO the result.  We merge defaultUnit
                     // into `result` to always bias to the blockchainDB result.
 
@@ -285,34 +329,12 @@ final class NetworkDiscovery {
                     }
 
                     func.apply(merged.values());
-                } finally {
-                    latch.countDown();
-                }
+                });
             }
 
             @Override
             public void handleError(QueryError error) {
-                try {
-                    // On error, use `apps` merged INTO defaults.  We merge into `defaults` to ensure that we get
-                    // BTC, BCH, ETH, BRD and that they are correct (don't rely on the App).
-
-                    Map<String, com.breadwallet.crypto.blockchaindb.models.bdb.Currency> merged = new HashMap<>();
-                    for (com.breadwallet.crypto.blockchaindb.models.bdb.Currency currency : applicationCurrencies) {
-                        if (currency.getBlockchainId().equals(blockchainId) && currency.getVerified()) {
-                            merged.put(currency.getId(), currency);
-                        }
-                    }
-
-                    for (com.breadwallet.crypto.blockchaindb.models.bdb.Currency currency : defaultCurrencies) {
-                        if (currency.getBlockchainId().equals(blockchainId) && currency.getVerified()) {
-                            merged.put(currency.getId(), currency);
-                        }
-                    }
-
-                    func.apply(merged.values());
-                } finally {
-                    latch.countDown();
-                }
+                request.complete(fallback);
             }
         });
     }
@@ -372,6 +394,43 @@ final class NetworkDiscovery {
         return Optional.absent();
     }
 
+    // A request that completes exactly once: with the first of its data, its error or its deadline to
+    // arrive. The outcome is run on the worker pool and then counted down; later arrivals are dropped.
+    private static final class BoundedRequest {
+
+        private final CountUpAndDownLatch latch;
+        private final AtomicBoolean completed;
+        private final ScheduledFuture<?> deadline;
+
+        BoundedRequest(CountUpAndDownLatch latch, String description, long timeoutSeconds, Runnable onTimeout) {
+            this.latch = latch;
+            this.completed = new AtomicBoolean(false);
+
+            latch.countUp();
+            this.deadline = EXECUTOR.schedule(() -> {
+                if (completed.compareAndSet(false, true)) {
+                    Log.w(TAG, String.format("Timed out discovering %s; using the defaults", description));
+                    run(onTimeout);
+                }
+            }, timeoutSeconds, TimeUnit.SECONDS);
+        }
+
+        void complete(Runnable outcome) {
+            if (completed.compareAndSet(false, true)) {
+                deadline.cancel(false);
+                EXECUTOR.execute(() -> run(outcome));
+            }
+        }
+
+        private void run(Runnable outcome) {
+            try {
+                outcome.run();
+            } finally {
+                latch.countDown();
+            }
+        }
+    }
+
     private static class CountUpAndDownLatch {
 
         private final Runnable runnable;
@@ -0,0 +1,146 @@
+/*
+ * PartitionedExecutor
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs tasks on a shared executor such that tasks submitted with the same key run one at a time, in
+ * submission order, while tasks with different keys are free to run in parallel.
+ */
+/* package */
+final class PartitionedExecutor {
+
+    // Number of tasks a partition runs before giving up its thread to the other partitions
+    private static final int MAX_TASKS_PER_TURN = 16;
+
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 30;
+
+    /* package */
+    static PartitionedExecutor create(String nameFormat, int threadCount) {
+        checkArgument(threadCount > 0);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount,
+                THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return new PartitionedExecutor(executor);
+    }
+
+    private final Executor executor;
+
+    // guarded by this
+    private final Map<Object, Partition> partitions;
+    private int queueDepth;
+
+    /* package */
+    PartitionedExecutor(Executor executor) {
+        this.executor = executor;
+        this.partitions = new HashMap<>();
+    }
+
+    /* package */
+    void execute(Object key, Runnable task) {
+        Partition partition;
+        boolean schedule;
+
+        synchronized (this) {
+            partition = partitions.get(key);
+            if (null == partition) {
+                partition = new Partition(key);
+                partitions.put(key, partition);
+            }
+
+            partition.tasks.add(task);
+            queueDepth += 1;
+
+            schedule = !partition.scheduled;
+            partition.scheduled = true;
+        }
+
+        if (schedule) {
+            executor.execute(partition);
+        }
+    }
+
+    /* package */
+    synchronized int getQueueDepth() {
+        return queueDepth;
+    }
+
+    /* package */
+    synchronized int getQueueDepth(Object key) {
+        Partition partition = partitions.get(key);
+        return null == partition ? 0 : partition.tasks.size();
+    }
+
+    // Takes the next task for `partition`, or retires the partition if it has run dry
+    private synchronized Runnable next(Partition partition) {
+        Runnable task = partition.tasks.poll();
+        if (null == task) {
+            partition.scheduled = false;
+            partitions.remove(partition.key);
+        } else {
+            queueDepth -= 1;
+        }
+        return task;
+    }
+
+    private final class Partition implements Runnable {
+
+        private final Object key;
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        // set while the partition is queued on, or running on, the executor
+        private boolean scheduled;
+
+        Partition(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < MAX_TASKS_PER_TURN; i++) {
+                    Runnable task = next(this);
+                    if (null == task) {
+                        return;
+                    }
+
+                    task.run();
+                }
+
+            } finally {
+                // either more work is pending (we ran out of turns, or a task threw) or we retired
+                // above; in the former case take another turn behind the other partitions
+                boolean reschedule;
+                synchronized (PartitionedExecutor.this) {
+                    reschedule = scheduled;
+                }
+
+                if (reschedule) {
+                    executor.execute(this);
+                }
+            }
+        }
+    }
+}
@@ -24,6 +24,8 @@ import com.breadwallet.corenative.crypto.BRCryptoWalletEvent;
 import com.breadwallet.corenative.crypto.BRCryptoWalletManager;
 import com.breadwallet.corenative.crypto.BRCryptoWalletManagerEvent;
 import com.breadwallet.corenative.utility.Cookie;
+import com.breadwallet.corenative.utility.PackedStrings;
+import com.breadwallet.corenative.utility.RawTransactions;
 import com.breadwallet.crypto.AddressScheme;
 import com.breadwallet.crypto.TransferState;
 import com.breadwallet.crypto.WalletManagerMode;
@@ -84,14 +86,18 @@ import com.breadwallet.crypto.events.walletmanager.WalletManagerSyncStoppedEvent
 import com.breadwallet.crypto.events.walletmanager.WalletManagerWalletAddedEvent;
 import com.breadwallet.crypto.events.walletmanager.WalletManagerWalletChangedEvent;
 import com.breadwallet.crypto.events.walletmanager.WalletManagerWalletDeletedEvent;
+import com.breadwallet.crypto.metrics.Metrics;
+import com.breadwallet.crypto.metrics.NoopMetrics;
 import com.breadwallet.crypto.migration.BlockBlob;
 import com.breadwallet.crypto.migration.PeerBlob;
 import com.breadwallet.crypto.migration.TransactionBlob;
 import com.breadwallet.crypto.utility.CompletionHandler;
+import com.breadwallet.crypto.utility.StreamingCompletionHandler;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
+import com.sun.jna.Pointer;
 
 import java.io.File;
 import java.util.ArrayList;
@@ -105,13 +111,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
 /* package */
@@ -133,12 +138,22 @@ final class System implements com.breadwallet.crypto.System {
     /// If true, save removed system in the above array. Set to `false` for debugging 'release'.
     private static final boolean SYSTEMS_INACTIVE_RETAIN = !BuildConfig.DEBUG;
 
-    // Create a dedicated executor to pump CWM events as quickly as possible
-    private static final Executor EXECUTOR_LISTENER = Executors.newSingleThreadExecutor();
+    // Each System has a dedicated executor to pump CWM events as quickly as possible. Events are partitioned
+    // by wallet manager; they stay in order for any one manager while managers proceed independently.
+    /* package */ static final int DEFAULT_LISTENER_THREADS = 2;
 
-    // Create a dedicated executor to pump CWM callbacks. This is a separate executor
+    // Each System also has a dedicated executor to pump CWM callbacks. This is a separate executor
     // than the one used to handle events as they *really* need to be pumped as fast as possible.
-    private static final Executor EXECUTOR_CLIENT = Executors.newSingleThreadExecutor();
+    // Partitioned as above, so that a slow callback for one manager doesn't hold up the others.
+    /* package */ static final int DEFAULT_CLIENT_THREADS = 4;
+
+    // Events and callbacks arriving for a System that is no longer active; their handlers only report
+    // the missing system back to core
+    private static final PartitionedExecutor EXECUTOR_ORPHANED =
+            PartitionedExecutor.create("cwm-orphaned-%d", 1);
+
+    // Backlog, for any one wallet manager, at which (and at each multiple of which) we warn
+    private static final int EXECUTOR_BACKLOG_WARNING = 500;
 
     //
     // Keep a static reference to the callbacks so that they are never GC'ed
@@ -176,6 +191,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static final boolean DEFAULT_IS_NETWORK_REACHABLE = true;
 
+
     private static boolean ensurePath(String storagePath) {
         File storageFile = new File(storagePath);
         return ((storageFile.exists() || storageFile.mkdirs())
@@ -190,12 +206,28 @@ final class System implements com.breadwallet.crypto.System {
                          boolean isMainnet,
                          String storagePath,
                          BlockchainDb query) {
+        return create(executor, listener, account, isMainnet, storagePath, query, DEFAULT_LISTENER_THREADS, DEFAULT_CLIENT_THREADS);
+    }
+
+    /* package */
+    static System create(ScheduledExecutorService executor,
+                         SystemListener listener,
+                         com.breadwallet.crypto.Account account,
+                         boolean isMainnet,
+                         String storagePath,
+                         BlockchainDb query,
+                         int listenerThreadCount,
+                         int clientThreadCount) {
+        checkArgument(listenerThreadCount > 0);
+        checkArgument(clientThreadCount > 0);
+
         Account cryptoAccount = Account.from(account);
 
         storagePath = storagePath + (storagePath.endsWith(File.separator) ? "" : File.separator) + cryptoAccount.getFilesystemIdentifier();
         checkState(ensurePath(storagePath));
 
-        Cookie context = new Cookie(SYSTEM_IDS.incrementAndGet());
+        int systemId = SYSTEM_IDS.incrementAndGet();
+        Cookie context = new Cookie(systemId);
 
         BRCryptoCWMListener cwmListener = new BRCryptoCWMListener(context,
                 CWM_LISTENER_WALLET_MANAGER_CALLBACK,
@@ -215,7 +247,9 @@ final class System implements com.breadwallet.crypto.System {
                 query,
                 context,
                 cwmListener,
-                cwmClient);
+                cwmClient,
+                PartitionedExecutor.create("cwm-listener-" + systemId + "-%d", listenerThreadCount),
+                PartitionedExecutor.create("cwm-client-" + systemId + "-%d", clientThreadCount));
 
         SYSTEMS_ACTIVE.put(context, system);
 
@@ -324,6 +358,10 @@ final class System implements com.breadwallet.crypto.System {
         return Optional.fromNullable(SYSTEMS_ACTIVE.get(context));
     }
 
+    private static void recordAnnounce(System system, WalletManager walletManager, String announcement, int items) {
+        system.query.getMetrics().recordAnnounce(walletManager.getNetwork().getUids(), announcement, items);
+    }
+
     private static System from(com.breadwallet.crypto.System system) {
         if (system == null) {
             return null;
@@ -346,6 +384,8 @@ final class System implements com.breadwallet.crypto.System {
     private final Cookie context;
     private final BRCryptoCWMListener cwmListener;
     private final BRCryptoCWMClient cwmClient;
+    private final PartitionedExecutor listenerExecutor;
+    private final PartitionedExecutor clientExecutor;
 
     private final Set<Network> networks;
     private final Set<WalletManager> walletManagers;
@@ -360,7 +400,9 @@ final class System implements com.breadwallet.crypto.System {
                    BlockchainDb query,
                    Cookie context,
                    BRCryptoCWMListener cwmListener,
-                   BRCryptoCWMClient cwmClient) {
+                   BRCryptoCWMClient cwmClient,
+                   PartitionedExecutor listenerExecutor,
+                   PartitionedExecutor clientExecutor) {
         this.executor = executor;
         this.listener = listener;
         this.callbackCoordinator = new SystemCallbackCoordinator(executor);
@@ -371,6 +413,8 @@ final class System implements com.breadwallet.crypto.System {
         this.context = context;
         this.cwmListener = cwmListener;
         this.cwmClient = cwmClient;
+        this.listenerExecutor = listenerExecutor;
+        this.clientExecutor = clientExecutor;
 
         this.networks = new CopyOnWriteArraySet<>();
         this.walletManagers = new CopyOnWriteArraySet<>();
@@ -492,7 +536,10 @@ final class System implements com.breadwallet.crypto.System {
                         Optional<Amount> maybeFeeAmount = Amount.create(feeEstimate.getAmount(), false, maybeFeeUnit.get());
                         if (!maybeFeeAmount.isPresent()) continue;
 
-                        fees.add(NetworkFee.create(feeEstimate.getConfirmationTimeInMilliseconds(), maybeFeeAmount.get()));
+                        // the fee takes its own reference to the amount
+                        try (Amount feeAmount = maybeFeeAmount.get()) {
+                            fees.add(NetworkFee.create(feeEstimate.getConfirmationTimeInMilliseconds(), feeAmount));
+                        }
                     }
 
                     // The fees are unlikely to change; but we'll announce feesUpdated anyways.
@@ -568,8 +615,9 @@ final class System implements com.breadwallet.crypto.System {
     }
 
     private Optional<WalletManager> getWalletManager(BRCryptoWalletManager coreWalletManager) {
-        WalletManager walletManager = WalletManager.takeAndCreate(coreWalletManager, this, callbackCoordinator);
-        return walletManagers.contains(walletManager) ? Optional.of(walletManager) : Optional.absent();
+        // a manager without a live wrapper can't be one of ours, so there is no need to create one
+        Optional<WalletManager> walletManager = WalletManager.lookup(coreWalletManager);
+        return walletManager.isPresent() && walletManagers.contains(walletManager.get()) ? walletManager : Optional.absent();
     }
 
     private WalletManager createWalletManager(BRCryptoWalletManager coreWalletManager) {
@@ -726,6 +774,34 @@ final class System implements com.breadwallet.crypto.System {
         executor.submit(() -> listener.handleTransferEvent(this, walletManager, wallet, transfer, event));
     }
 
+    private static void dispatchEvent(Cookie context, BRCryptoWalletManager coreWalletManager, Runnable task) {
+        System system = SYSTEMS_ACTIVE.get(context);
+        dispatch(system, null == system ? EXECUTOR_ORPHANED : system.listenerExecutor, "listener", coreWalletManager, task);
+    }
+
+    private static void dispatchClient(Cookie context, BRCryptoWalletManager coreWalletManager, Runnable task) {
+        System system = SYSTEMS_ACTIVE.get(context);
+        dispatch(system, null == system ? EXECUTOR_ORPHANED : system.clientExecutor, "client", coreWalletManager, task);
+    }
+
+    private static void dispatch(@Nullable System system, PartitionedExecutor executor, String name,
+                                 BRCryptoWalletManager coreWalletManager, Runnable task) {
+        Metrics metrics = null == system ? NoopMetrics.INSTANCE : system.query.getMetrics();
+
+        Pointer key = coreWalletManager.getPointer();
+        long enqueuedNanos = java.lang.System.nanoTime();
+        executor.execute(key, () -> {
+            metrics.recordExecutorWait(name, java.lang.System.nanoTime() - enqueuedNanos);
+            task.run();
+        });
+        metrics.recordExecutorQueueDepth(name, executor.getQueueDepth());
+
+        int backlog = executor.getQueueDepth(key);
+        if (0 != backlog && 0 == backlog % EXECUTOR_BACKLOG_WARNING) {
+            Log.w(TAG, String.format("Dispatch backlog of %d for wallet manager %s (%d overall)", backlog, key, executor.getQueueDepth()));
+        }
+    }
+
     //
     // WalletManager Events
     //
@@ -733,7 +809,7 @@ final class System implements com.breadwallet.crypto.System {
     private static void walletManagerEventCallback(Cookie context,
                                                    BRCryptoWalletManager coreWalletManager,
                                                    BRCryptoWalletManagerEvent event) {
-        EXECUTOR_LISTENER.execute(() -> {
+        dispatchEvent(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "WalletManagerEventCallback");
 
@@ -1074,7 +1150,7 @@ final class System implements com.breadwallet.crypto.System {
                                             BRCryptoWalletManager coreWalletManager,
                                             BRCryptoWallet coreWallet,
                                             BRCryptoWalletEvent event) {
-        EXECUTOR_LISTENER.execute(() -> {
+        dispatchEvent(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "WalletEventCallback");
 
@@ -1231,6 +1307,7 @@ final class System implements com.breadwallet.crypto.System {
 
                         if (optional.isPresent()) {
                             Transfer transfer = optional.get();
+                            wallet.indexTransfer(transfer);
                             system.announceWalletEvent(walletManager, wallet, new WalletTransferAddedEvent(transfer));
 
                         } else {
@@ -1315,6 +1392,7 @@ final class System implements com.breadwallet.crypto.System {
 
                         if (optional.isPresent()) {
                             Transfer transfer = optional.get();
+                            wallet.indexTransfer(transfer);
                             system.announceWalletEvent(walletManager, wallet, new WalletTransferSubmittedEvent(transfer));
 
                         } else {
@@ -1357,6 +1435,7 @@ final class System implements com.breadwallet.crypto.System {
 
                         if (optional.isPresent()) {
                             Transfer transfer = optional.get();
+                            wallet.unindexTransfer(transfer);
                             system.announceWalletEvent(walletManager, wallet, new WalletTransferDeletedEvent(transfer));
 
                         } else {
@@ -1481,7 +1560,7 @@ final class System implements com.breadwallet.crypto.System {
                                               BRCryptoWallet coreWallet,
                                               BRCryptoTransfer coreTransfer,
                                               BRCryptoTransferEvent event) {
-        EXECUTOR_LISTENER.execute(() -> {
+        dispatchEvent(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "TransferEventCallback");
 
@@ -1560,6 +1639,7 @@ final class System implements com.breadwallet.crypto.System {
                     Optional<Transfer> optTransfer = wallet.getTransfer(coreTransfer);
                     if (optTransfer.isPresent()) {
                         Transfer transfer = optTransfer.get();
+                        wallet.indexTransfer(transfer);
 
                         system.announceTransferEvent(walletManager, wallet, transfer, new TransferChangedEvent(oldState, newState));
 
@@ -1598,6 +1678,7 @@ final class System implements com.breadwallet.crypto.System {
                     Optional<Transfer> optTransfer = wallet.getTransfer(coreTransfer);
                     if (optTransfer.isPresent()) {
                         Transfer transfer = optTransfer.get();
+                        wallet.unindexTransfer(transfer);
                         system.announceTransferEvent(walletManager, wallet, transfer, new TransferDeletedEvent());
 
                     } else {
@@ -1620,7 +1701,7 @@ final class System implements com.breadwallet.crypto.System {
     // BTC client
 
     private static void btcGetBlockNumber(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMBtcGetBlockNumberCallback");
 
@@ -1639,6 +1720,7 @@ final class System implements com.breadwallet.crypto.System {
                                 if (maybeBlockHeight.isPresent()) {
                                     UnsignedLong blockchainHeight = maybeBlockHeight.get();
                                     Log.d(TAG, String.format("BRCryptoCWMBtcGetBlockNumberCallback: succeeded (%s)", blockchainHeight));
+                                    recordAnnounce(system, walletManager, "getBlockNumber", 1);
                                     walletManager.getCoreBRCryptoWalletManager().announceGetBlockNumberSuccess(callbackState, blockchainHeight);
                                 } else {
                                     Log.e(TAG, "BRCryptoCWMBtcGetBlockNumberCallback: failed with missing block height");
@@ -1670,7 +1752,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void btcGetTransactions(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                     List<String> addresses, long begBlockNumber, long endBlockNumber) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 UnsignedLong begBlockNumberUnsigned = UnsignedLong.fromLongBits(begBlockNumber);
                 UnsignedLong endBlockNumberUnsigned = UnsignedLong.fromLongBits(endBlockNumber);
@@ -1687,16 +1769,28 @@ final class System implements com.breadwallet.crypto.System {
 
                         system.query.getTransactions(walletManager.getNetwork().getUids(), addresses, begBlockNumberUnsigned,
                                 endBlockNumberUnsigned, true,
-                                false, new CompletionHandler<List<Transaction>, QueryError>() {
+                                false, null, new StreamingCompletionHandler<List<Transaction>, QueryError>() {
+
+                                    // set once completion has been announced to core; anything arriving afterwards is dropped
+                                    private boolean completed = false;
+
                                     @Override
                                     public void handleData(List<Transaction> transactions) {
+                                        if (completed) return;
+
                                         Log.d(TAG, "BRCryptoCWMBtcGetTransactionsCallback received transactions");
 
+                                        RawTransactions items = new RawTransactions();
                                         for (Transaction transaction : transactions) {
                                             Optional<byte[]> optRaw = transaction.getRaw();
                                             if (!optRaw.isPresent()) {
                                                 Log.e(TAG, "BRCryptoCWMBtcGetTransactionsCallback completing with missing raw bytes");
+                                                if (!items.isEmpty()) {
+                                                    recordAnnounce(system, walletManager, "getTransactions", items.size());
+                                                    walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemsBtc(callbackState, items);
+                                                }
                                                 walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, false);
+                                                completed = true;
                                                 return;
                                             }
 
@@ -1705,17 +1799,28 @@ final class System implements com.breadwallet.crypto.System {
                                                     transaction.getTimestamp().transform(Utilities::dateAsUnixTimestamp).or(UnsignedLong.ZERO);
                                             Log.d(TAG,
                                                     "BRCryptoCWMBtcGetTransactionsCallback announcing " + transaction.getId());
-                                            walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemBtc(callbackState, optRaw.get(), timestamp, blockHeight);
+                                            items.add(optRaw.get(), timestamp, blockHeight);
                                         }
+                                        recordAnnounce(system, walletManager, "getTransactions", items.size());
+                                        walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemsBtc(callbackState, items);
+                                    }
+
+                                    @Override
+                                    public void handleComplete() {
+                                        if (completed) return;
 
                                         Log.d(TAG, "BRCryptoCWMBtcGetTransactionsCallback: complete");
                                         walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, true);
+                                        completed = true;
                                     }
 
                                     @Override
                                     public void handleError(QueryError error) {
+                                        if (completed) return;
+
                                         Log.e(TAG, "BRCryptoCWMBtcGetTransactionsCallback received an error, completing with failure", error);
                                         walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, false);
+                                        completed = true;
                                     }
                                 });
 
@@ -1736,7 +1841,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void btcSubmitTransaction(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                              byte[] transaction, String hashAsHex) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMBtcSubmitTransactionCallback");
 
@@ -1752,6 +1857,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(Void data) {
                                 Log.d(TAG, "BRCryptoCWMBtcSubmitTransactionCallback: succeeded");
+                                recordAnnounce(system, walletManager, "submitTransaction", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceSubmitTransferSuccess(callbackState);
                             }
 
@@ -1781,7 +1887,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetEtherBalance(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                     String networkName, String address) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetEtherBalanceCallback");
 
@@ -1797,6 +1903,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String balance) {
                                 Log.d(TAG, "BRCryptoCWMEthGetEtherBalanceCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getBalance", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetBalanceSuccess(callbackState, balance);
                             }
 
@@ -1824,7 +1931,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetTokenBalance(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                     String networkName, String address, String tokenAddress) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetTokenBalanceCallback");
 
@@ -1840,6 +1947,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String balance) {
                                 Log.d(TAG, "BRCryptoCWMEthGetTokenBalanceCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getBalance", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetBalanceSuccess(callbackState, balance);
                             }
 
@@ -1867,7 +1975,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetGasPrice(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                 String networkName) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetGasPriceCallback");
 
@@ -1883,6 +1991,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String gasPrice) {
                                 Log.d(TAG, "BRCryptoCWMEthGetGasPriceCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getGasPrice", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetGasPriceSuccess(callbackState, gasPrice);
                             }
 
@@ -1910,7 +2019,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethEstimateGas(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                 String networkName, String from, String to, String amount, String gasPrice, String data) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthEstimateGasCallback");
 
@@ -1926,6 +2035,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String gasEstimate) {
                                 Log.d(TAG, "BRCryptoCWMEthEstimateGasCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getGasEstimate", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetGasEstimateSuccess(callbackState, gasEstimate, gasPrice);
                             }
 
@@ -1959,7 +2069,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethSubmitTransaction(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                       String networkName, String transaction) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthSubmitTransactionCallback");
 
@@ -1975,6 +2085,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String hash) {
                                 Log.d(TAG, "BRCryptoCWMEthSubmitTransactionCallback: succeeded");
+                                recordAnnounce(system, walletManager, "submitTransaction", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceSubmitTransferSuccess(callbackState, hash);
                             }
 
@@ -2002,7 +2113,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetTransactions(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                     String networkName, String address, long begBlockNumber, long endBlockNumber) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, String.format("BRCryptoCWMEthGetTransactionsCallback (%s -> %s)", begBlockNumber, endBlockNumber));
 
@@ -2019,26 +2130,28 @@ final class System implements com.breadwallet.crypto.System {
                                     @Override
                                     public void handleData(List<EthTransaction> transactions) {
                                         Log.d(TAG, "BRCryptoCWMEthGetTransactionsCallback: succeeded");
+                                        PackedStrings items = new PackedStrings();
                                         for (EthTransaction tx : transactions) {
-                                            walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemEth(
-                                                    callbackState,
-                                                    tx.getHash(),
-                                                    tx.getSourceAddr(),
-                                                    tx.getTargetAddr(),
-                                                    tx.getContractAddr(),
-                                                    tx.getAmount(),
-                                                    tx.getGasLimit(),
-                                                    tx.getGasPrice(),
-                                                    tx.getData(),
-                                                    tx.getNonce(),
-                                                    tx.getGasUsed(),
-                                                    tx.getBlockNumber(),
-                                                    tx.getBlockHash(),
-                                                    tx.getBlockConfirmations(),
-                                                    tx.getBlockTransacionIndex(),
-                                                    tx.getBlockTimestamp(),
-                                                    tx.getIsError());
+                                            items.add(tx.getHash())
+                                                    .add(tx.getSourceAddr())
+                                                    .add(tx.getTargetAddr())
+                                                    .add(tx.getContractAddr())
+                                                    .add(tx.getAmount())
+                                                    .add(tx.getGasLimit())
+                                                    .add(tx.getGasPrice())
+                                                    .add(tx.getData())
+                                                    .add(tx.getNonce())
+                                                    .add(tx.getGasUsed())
+                                                    .add(tx.getBlockNumber())
+                                                    .add(tx.getBlockHash())
+                                                    .add(tx.getBlockConfirmations())
+                                                    .add(tx.getBlockTransacionIndex())
+                                                    .add(tx.getBlockTimestamp())
+                                                    .add(tx.getIsError());
                                         }
+                                        recordAnnounce(system, walletManager, "getTransactions", transactions.size());
+                                        walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemsEth(
+                                                callbackState, transactions.size(), items);
                                         walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, true);
                                     }
 
@@ -2067,7 +2180,7 @@ final class System implements com.breadwallet.crypto.System {
     private static void ethGetLogs(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                             String networkName, String contract, String address, String event, long begBlockNumber,
                             long endBlockNumber) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, String.format("BRCryptoCWMEthGetLogsCallback (%s -> %s)", begBlockNumber, endBlockNumber));
 
@@ -2084,20 +2197,26 @@ final class System implements com.breadwallet.crypto.System {
                                     @Override
                                     public void handleData(List<EthLog> logs) {
                                         Log.d(TAG, "BRCryptoCWMEthGetLogsCallback: succeeded");
+                                        PackedStrings items = new PackedStrings();
                                         for (EthLog log : logs) {
-                                            walletManager.getCoreBRCryptoWalletManager().announceGetLogsItem(
-                                                    callbackState,
-                                                    log.getHash(),
-                                                    log.getContract(),
-                                                    log.getTopics(),
-                                                    log.getData(),
-                                                    log.getGasPrice(),
-                                                    log.getGasUsed(),
-                                                    log.getLogIndex(),
-                                                    log.getBlockNumber(),
-                                                    log.getBlockTransactionIndex(),
-                                                    log.getBlockTimestamp());
+                                            List<String> topics = log.getTopics();
+                                            items.add(log.getHash())
+                                                    .add(log.getContract())
+                                                    .add(topics.size());
+                                            for (String topic : topics) {
+                                                items.add(topic);
+                                            }
+                                            items.add(log.getData())
+                                                    .add(log.getGasPrice())
+                                                    .add(log.getGasUsed())
+                                                    .add(log.getLogIndex())
+                                                    .add(log.getBlockNumber())
+                                                    .add(log.getBlockTransactionIndex())
+                                                    .add(log.getBlockTimestamp());
                                         }
+                                        recordAnnounce(system, walletManager, "getLogs", logs.size());
+                                        walletManager.getCoreBRCryptoWalletManager().announceGetLogsItems(
+                                                callbackState, logs.size(), items);
                                         walletManager.getCoreBRCryptoWalletManager().announceGetLogsComplete(callbackState, true);
                                     }
 
@@ -2126,7 +2245,7 @@ final class System implements com.breadwallet.crypto.System {
     private static void ethGetBlocks(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                               String networkName, String address, int interests, long blockNumberStart,
                               long blockNumberStop) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetBlocksCallback");
 
@@ -2144,6 +2263,7 @@ final class System implements com.breadwallet.crypto.System {
                                     @Override
                                     public void handleData(List<UnsignedLong> blocks) {
                                         Log.d(TAG, "BRCryptoCWMEthGetBlocksCallback: succeeded");
+                                        recordAnnounce(system, walletManager, "getBlocks", blocks.size());
                                         walletManager.getCoreBRCryptoWalletManager().announceGetBlocksSuccess(callbackState, blocks);
                                     }
 
@@ -2170,7 +2290,7 @@ final class System implements com.breadwallet.crypto.System {
     }
 
     private static void ethGetTokens(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BREthereumClientHandlerGetTokens");
 
@@ -2186,6 +2306,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(List<EthToken> tokens) {
                                 Log.d(TAG, "BREthereumClientHandlerGetTokens: succeeded");
+                                recordAnnounce(system, walletManager, "getTokens", tokens.size());
                                 for (EthToken token : tokens) {
                                     walletManager.getCoreBRCryptoWalletManager().announceGetTokensItem(
                                             callbackState,
@@ -2224,7 +2345,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetBlockNumber(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                    String networkName) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetBlockNumberCallback");
 
@@ -2240,6 +2361,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String number) {
                                 Log.d(TAG, "BRCryptoCWMEthGetBlockNumberCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getBlockNumber", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetBlockNumberSuccess(callbackState, number);
                             }
 
@@ -2267,7 +2389,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void ethGetNonce(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                              String networkName, String address) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMEthGetNonceCallback");
 
@@ -2283,6 +2405,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(String nonce) {
                                 Log.d(TAG, "BRCryptoCWMEthGetNonceCallback: succeeded");
+                                recordAnnounce(system, walletManager, "getNonce", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceGetNonceSuccess(callbackState, address, nonce);
                             }
 
@@ -2311,7 +2434,7 @@ final class System implements com.breadwallet.crypto.System {
     // GEN client
 
     private static void genGetBlockNumber(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMGenGetBlockNumberCallback");
 
@@ -2330,6 +2453,7 @@ final class System implements com.breadwallet.crypto.System {
                                 if (maybeBlockHeight.isPresent()) {
                                     UnsignedLong blockchainHeight = maybeBlockHeight.get();
                                     Log.d(TAG, String.format("BRCryptoCWMGenGetBlockNumberCallback: succeeded (%s)", blockchainHeight));
+                                    recordAnnounce(system, walletManager, "getBlockNumber", 1);
                                     walletManager.getCoreBRCryptoWalletManager().announceGetBlockNumberSuccess(callbackState, blockchainHeight);
                                 } else {
                                     Log.e(TAG, "BRCryptoCWMGenGetBlockNumberCallback: failed with missing block height");
@@ -2361,7 +2485,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void genGetTransactions(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                            String address, long begBlockNumber, long endBlockNumber) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 UnsignedLong begBlockNumberUnsigned = UnsignedLong.fromLongBits(begBlockNumber);
                 UnsignedLong endBlockNumberUnsigned = UnsignedLong.fromLongBits(endBlockNumber);
@@ -2378,16 +2502,28 @@ final class System implements com.breadwallet.crypto.System {
 
                         system.query.getTransactions(walletManager.getNetwork().getUids(), Collections.singletonList(address), begBlockNumberUnsigned,
                                 endBlockNumberUnsigned, true,
-                                false, new CompletionHandler<List<Transaction>, QueryError>() {
+                                false, null, new StreamingCompletionHandler<List<Transaction>, QueryError>() {
+
+                                    // set once completion has been announced to core; anything arriving afterwards is dropped
+                                    private boolean completed = false;
+
                                     @Override
                                     public void handleData(List<Transaction> transactions) {
+                                        if (completed) return;
+
                                         Log.d(TAG, "BRCryptoCWMGenGetTransactionsCallback  received transactions");
 
+                                        RawTransactions items = new RawTransactions();
                                         for (Transaction transaction : transactions) {
                                             Optional<byte[]> optRaw = transaction.getRaw();
                                             if (!optRaw.isPresent()) {
                                                 Log.e(TAG, "BRCryptoCWMGenGetTransactionsCallback  completing with missing raw bytes");
+                                                if (!items.isEmpty()) {
+                                                    recordAnnounce(system, walletManager, "getTransactions", items.size());
+                                                    walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemsGen(callbackState, items);
+                                                }
                                                 walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, false);
+                                                completed = true;
                                                 return;
                                             }
 
@@ -2396,17 +2532,28 @@ final class System implements com.breadwallet.crypto.System {
                                                     transaction.getTimestamp().transform(Utilities::dateAsUnixTimestamp).or(UnsignedLong.ZERO);
                                             Log.d(TAG,
                                                     "BRCryptoCWMGenGetTransactionsCallback  announcing " + transaction.getId());
-                                            walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemGen(callbackState, optRaw.get(), timestamp, blockHeight);
+                                            items.add(optRaw.get(), timestamp, blockHeight);
                                         }
+                                        recordAnnounce(system, walletManager, "getTransactions", items.size());
+                                        walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsItemsGen(callbackState, items);
+                                    }
+
+                                    @Override
+                                    public void handleComplete() {
+                                        if (completed) return;
 
                                         Log.d(TAG, "BRCryptoCWMGenGetTransactionsCallback : complete");
                                         walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, true);
+                                        completed = true;
                                     }
 
                                     @Override
                                     public void handleError(QueryError error) {
+                                        if (completed) return;
+
                                         Log.e(TAG, "BRCryptoCWMGenGetTransactionsCallback  received an error, completing with failure", error);
                                         walletManager.getCoreBRCryptoWalletManager().announceGetTransactionsComplete(callbackState, false);
+                                        completed = true;
                                     }
                                 });
 
@@ -2427,7 +2574,7 @@ final class System implements com.breadwallet.crypto.System {
 
     private static void genSubmitTransaction(Cookie context, BRCryptoWalletManager coreWalletManager, BRCryptoCWMClientCallbackState callbackState,
                                              byte[] transaction, String hashAsHex) {
-        EXECUTOR_CLIENT.execute(() -> {
+        dispatchClient(context, coreWalletManager, () -> {
             try {
                 Log.d(TAG, "BRCryptoCWMGenSubmitTransactionCallback");
 
@@ -2443,6 +2590,7 @@ final class System implements com.breadwallet.crypto.System {
                             @Override
                             public void handleData(Void data) {
                                 Log.d(TAG, "BRCryptoCWMGenSubmitTransactionCallback: succeeded");
+                                recordAnnounce(system, walletManager, "submitTransaction", 1);
                                 walletManager.getCoreBRCryptoWalletManager().announceSubmitTransferSuccess(callbackState);
                             }
 
@@ -7,7 +7,6 @@
  */
 package com.breadwallet.corecrypto;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoTransfer;
 import com.breadwallet.crypto.TransferDirection;
 import com.breadwallet.crypto.TransferState;
@@ -22,16 +21,16 @@ import static com.google.common.base.Preconditions.checkState;
 /* package */
 final class Transfer implements com.breadwallet.crypto.Transfer {
 
+    private static final CoreWrapperCache<BRCryptoTransfer, Transfer> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static Transfer takeAndCreate(BRCryptoTransfer core, Wallet wallet) {
-        return Transfer.create(core.take(), wallet);
+        return WRAPPERS.get(core).or(() -> Transfer.create(core.take(), wallet));
     }
 
     /* package */
     static Transfer create(BRCryptoTransfer core, Wallet wallet) {
-        Transfer transfer = new Transfer(core, wallet);
-        ReferenceCleaner.register(transfer, core::give);
-        return transfer;
+        return WRAPPERS.create(core, core::give, c -> new Transfer(c, wallet));
     }
 
     /* package */
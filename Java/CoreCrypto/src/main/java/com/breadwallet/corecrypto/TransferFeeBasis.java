@@ -7,6 +7,7 @@
  */
 package com.breadwallet.corecrypto;
 
+import com.breadwallet.corenative.cleaner.Cleanable;
 import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoAmount;
 import com.breadwallet.corenative.crypto.BRCryptoFeeBasis;
@@ -19,12 +20,12 @@ import java.util.Objects;
 import static com.google.common.base.Preconditions.checkState;
 
 /* package */
-class TransferFeeBasis implements com.breadwallet.crypto.TransferFeeBasis {
+class TransferFeeBasis implements com.breadwallet.crypto.TransferFeeBasis, AutoCloseable {
 
     /* package */
     static TransferFeeBasis create(BRCryptoFeeBasis core) {
         TransferFeeBasis feeBasis = new TransferFeeBasis(core);
-        ReferenceCleaner.register(feeBasis, core::give);
+        feeBasis.cleanable = ReferenceCleaner.register(feeBasis, core::give);
         return feeBasis;
     }
 
@@ -43,6 +44,9 @@ class TransferFeeBasis implements com.breadwallet.crypto.TransferFeeBasis {
 
     private final BRCryptoFeeBasis core;
 
+    // set by create(); gives back `core` early when closed
+    private Cleanable cleanable;
+
     private final Supplier<Unit> unitSupplier;
     private final Supplier<Currency> currencySupplier;
     private final Supplier<Amount> feeSupplier;
@@ -112,4 +116,13 @@ class TransferFeeBasis implements com.breadwallet.crypto.TransferFeeBasis {
     BRCryptoFeeBasis getCoreBRFeeBasis() {
         return core;
     }
+
+    /**
+     * Give back the native reference held by this fee basis now, rather than once it has been
+     * collected. The fee basis must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
 }
@@ -7,6 +7,7 @@
  */
 package com.breadwallet.corecrypto;
 
+import com.breadwallet.corenative.cleaner.Cleanable;
 import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoHash;
 import com.google.common.base.Supplier;
@@ -15,17 +16,20 @@ import com.google.common.base.Suppliers;
 import java.util.Objects;
 
 /* package */
-final class TransferHash implements com.breadwallet.crypto.TransferHash {
+final class TransferHash implements com.breadwallet.crypto.TransferHash, AutoCloseable {
 
     /* package */
     static TransferHash create(BRCryptoHash core) {
         TransferHash hash = new TransferHash(core);
-        ReferenceCleaner.register(hash, core::give);
+        hash.cleanable = ReferenceCleaner.register(hash, core::give);
         return hash;
     }
 
     private final BRCryptoHash core;
 
+    // set by create(); gives back `core` early when closed
+    private Cleanable cleanable;
+
     private final int value;
     private final Supplier<String> toStringSupplier;
 
@@ -59,4 +63,13 @@ final class TransferHash implements com.breadwallet.crypto.TransferHash {
     public String toString() {
         return toStringSupplier.get();
     }
+
+    /**
+     * Give back the native reference held by this hash now, rather than once it has been
+     * collected. The hash must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * TransferSnapshot
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.breadwallet.corenative.crypto.BRCryptoTransferSnapshot;
+import com.breadwallet.crypto.TransferDirection;
+import com.breadwallet.crypto.TransferState;
+import com.google.common.base.Optional;
+
+/* package */
+final class TransferSnapshot implements com.breadwallet.crypto.TransferSnapshot {
+
+    // Every reference in `core` is handed to a wrapper here, so that they are all given back once
+    // the snapshot is dropped
+    /* package */
+    static TransferSnapshot create(BRCryptoTransferSnapshot core, Wallet wallet) {
+        return new TransferSnapshot(
+                Transfer.create(core.transfer, wallet),
+                core.getSourceAddress().transform(Address::create),
+                core.getTargetAddress().transform(Address::create),
+                Amount.create(core.amount),
+                Amount.create(core.amountDirected),
+                Utilities.transferDirectionFromCrypto(core.getDirection()),
+                core.getHash().transform(TransferHash::create),
+                Utilities.transferStateFromCrypto(core.state)
+        );
+    }
+
+    private final Transfer transfer;
+    private final Optional<Address> source;
+    private final Optional<Address> target;
+    private final Amount amount;
+    private final Amount amountDirected;
+    private final TransferDirection direction;
+    private final Optional<TransferHash> hash;
+    private final TransferState state;
+
+    private TransferSnapshot(Transfer transfer,
+                             Optional<Address> source,
+                             Optional<Address> target,
+                             Amount amount,
+                             Amount amountDirected,
+                             TransferDirection direction,
+                             Optional<TransferHash> hash,
+                             TransferState state) {
+        this.transfer = transfer;
+        this.source = source;
+        this.target = target;
+        this.amount = amount;
+        this.amountDirected = amountDirected;
+        this.direction = direction;
+        this.hash = hash;
+        this.state = state;
+    }
+
+    @Override
+    public Transfer getTransfer() {
+        return transfer;
+    }
+
+    @Override
+    public Optional<Address> getSource() {
+        return source;
+    }
+
+    @Override
+    public Optional<Address> getTarget() {
+        return target;
+    }
+
+    @Override
+    public Amount getAmount() {
+        return amount;
+    }
+
+    @Override
+    public Amount getAmountDirected() {
+        return amountDirected;
+    }
+
+    @Override
+    public TransferDirection getDirection() {
+        return direction;
+    }
+
+    @Override
+    public Optional<TransferHash> getHash() {
+        return hash;
+    }
+
+    @Override
+    public TransferState getState() {
+        return state;
+    }
+}
@@ -7,7 +7,6 @@
  */
 package com.breadwallet.corecrypto;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoUnit;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
@@ -18,6 +17,8 @@ import java.util.Objects;
 /* package */
 final class Unit implements com.breadwallet.crypto.Unit {
 
+    private static final CoreWrapperCache<BRCryptoUnit, Unit> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static Unit create(Currency currency, String uids, String name, String symbol) {
         BRCryptoUnit core = BRCryptoUnit.createAsBase(currency.getCoreBRCryptoCurrency(), uids, name, symbol);
@@ -32,9 +33,7 @@ final class Unit implements com.breadwallet.crypto.Unit {
 
     /* package */
     static Unit create(BRCryptoUnit core) {
-        Unit unit = new Unit(core);
-        ReferenceCleaner.register(unit, core::give);
-        return unit;
+        return WRAPPERS.create(core, core::give, Unit::new);
     }
 
     /* package */
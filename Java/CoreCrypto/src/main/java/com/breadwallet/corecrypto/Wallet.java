@@ -9,13 +9,13 @@ package com.breadwallet.corecrypto;
 
 import android.util.Log;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoAddress;
 import com.breadwallet.corenative.crypto.BRCryptoAmount;
 import com.breadwallet.corenative.crypto.BRCryptoFeeBasis;
 import com.breadwallet.corenative.crypto.BRCryptoNetworkFee;
 import com.breadwallet.corenative.crypto.BRCryptoPaymentProtocolRequest;
 import com.breadwallet.corenative.crypto.BRCryptoTransfer;
+import com.breadwallet.corenative.crypto.BRCryptoTransferSnapshot;
 import com.breadwallet.corenative.crypto.BRCryptoWallet;
 import com.breadwallet.corenative.crypto.BRCryptoWalletSweeper;
 import com.breadwallet.crypto.AddressScheme;
@@ -27,7 +27,9 @@ import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /* package */
@@ -35,16 +37,16 @@ final class Wallet implements com.breadwallet.crypto.Wallet {
 
     private static final String TAG = Wallet.class.getName();
 
+    private static final CoreWrapperCache<BRCryptoWallet, Wallet> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static Wallet takeAndCreate(BRCryptoWallet core, WalletManager walletManager, SystemCallbackCoordinator callbackCoordinator) {
-        return Wallet.create(core.take(), walletManager, callbackCoordinator);
+        return WRAPPERS.get(core).or(() -> Wallet.create(core.take(), walletManager, callbackCoordinator));
     }
 
     /* package */
     static Wallet create(BRCryptoWallet core, WalletManager walletManager, SystemCallbackCoordinator callbackCoordinator) {
-        Wallet wallet = new Wallet(core, walletManager, callbackCoordinator);
-        ReferenceCleaner.register(wallet, core::give);
-        return wallet;
+        return WRAPPERS.create(core, core::give, c -> new Wallet(c, walletManager, callbackCoordinator));
     }
 
     /* package */
@@ -68,6 +70,12 @@ final class Wallet implements com.breadwallet.crypto.Wallet {
     private final Supplier<Unit> unitForFeeSupplier;
     private final Supplier<Currency> defaultUnitCurrencySupplier;
 
+    // Built from the core transfers on the first lookup by hash and then kept current from the transfer
+    // events handled by System; guarded by `transfersByHash`
+    private final Map<TransferHash, Transfer> transfersByHash;
+    private final Map<Transfer, TransferHash> hashesByTransfer;
+    private boolean transfersIndexed;
+
     private Wallet(BRCryptoWallet core, WalletManager walletManager, SystemCallbackCoordinator callbackCoordinator) {
         this.core = core;
         this.walletManager = walletManager;
@@ -76,6 +84,9 @@ final class Wallet implements com.breadwallet.crypto.Wallet {
         this.unitSupplier = Suppliers.memoize(() -> Unit.create(core.getUnit()));
         this.unitForFeeSupplier = Suppliers.memoize(() -> Unit.create(core.getUnitForFee()));
         this.defaultUnitCurrencySupplier = Suppliers.memoize(() -> Currency.create(core.getCurrency()));
+
+        this.transfersByHash = new HashMap<>();
+        this.hashesByTransfer = new HashMap<>();
     }
 
     @Override
@@ -151,17 +162,30 @@ final class Wallet implements com.breadwallet.crypto.Wallet {
         return transfers;
     }
 
+    @Override
+    public List<TransferSnapshot> getTransferSnapshots(int offset, int count) {
+        List<TransferSnapshot> snapshots = new ArrayList<>();
+
+        for (BRCryptoTransferSnapshot snapshot: core.getTransferSnapshots(offset, count)) {
+            snapshots.add(TransferSnapshot.create(snapshot, this));
+        }
+
+        return snapshots;
+    }
+
     @Override
     public Optional<Transfer> getTransferByHash(com.breadwallet.crypto.TransferHash hash) {
-        List<Transfer> transfers = getTransfers();
+        synchronized (transfersByHash) {
+            if (!transfersIndexed) {
+                transfersIndexed = true;
 
-        for (Transfer transfer : transfers) {
-            Optional<TransferHash> optional = transfer.getHash();
-            if (optional.isPresent() && optional.get().equals(hash)) {
-                return Optional.of(transfer);
+                for (Transfer transfer: getTransfers()) {
+                    indexTransfer(transfer);
+                }
             }
+
+            return Optional.fromNullable(transfersByHash.get(hash));
         }
-        return Optional.absent();
     }
 
     @Override
@@ -240,6 +264,39 @@ final class Wallet implements com.breadwallet.crypto.Wallet {
         return Transfer.takeAndCreate(transfer, this);
     }
 
+    // A transfer's hash is only known once it has been signed, so this is called again as it changes
+    /* package */
+    void indexTransfer(Transfer transfer) {
+        synchronized (transfersByHash) {
+            if (!transfersIndexed) {
+                return;
+            }
+
+            Optional<TransferHash> hash = transfer.getHash();
+            TransferHash oldHash = hash.isPresent() ?
+                    hashesByTransfer.put(transfer, hash.get()) :
+                    hashesByTransfer.remove(transfer);
+
+            if (null != oldHash) {
+                transfersByHash.remove(oldHash);
+            }
+
+            if (hash.isPresent()) {
+                transfersByHash.put(hash.get(), transfer);
+            }
+        }
+    }
+
+    /* package */
+    void unindexTransfer(Transfer transfer) {
+        synchronized (transfersByHash) {
+            TransferHash oldHash = hashesByTransfer.remove(transfer);
+            if (null != oldHash) {
+                transfersByHash.remove(oldHash);
+            }
+        }
+    }
+
     /* package */
     BRCryptoWallet getCoreBRCryptoWallet() {
         return core;
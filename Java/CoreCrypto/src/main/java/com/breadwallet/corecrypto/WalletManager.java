@@ -10,7 +10,6 @@ package com.breadwallet.corecrypto;
 import android.support.annotation.Nullable;
 import android.util.Log;
 
-import com.breadwallet.corenative.cleaner.ReferenceCleaner;
 import com.breadwallet.corenative.crypto.BRCryptoCWMClient;
 import com.breadwallet.corenative.crypto.BRCryptoCWMListener;
 import com.breadwallet.corenative.crypto.BRCryptoKey;
@@ -37,6 +36,8 @@ final class WalletManager implements com.breadwallet.crypto.WalletManager {
 
     private static final String TAG = WalletManager.class.getName();
 
+    private static final CoreWrapperCache<BRCryptoWalletManager, WalletManager> WRAPPERS = new CoreWrapperCache<>();
+
     /* package */
     static void wipe(Network network, String storagePath) {
         BRCryptoWalletManager.wipe(network.getCoreBRCryptoNetwork(), storagePath);
@@ -67,14 +68,17 @@ final class WalletManager implements com.breadwallet.crypto.WalletManager {
 
     /* package */
     static WalletManager takeAndCreate(BRCryptoWalletManager core, System system, SystemCallbackCoordinator callbackCoordinator) {
-        return WalletManager.create(core.take(), system, callbackCoordinator);
+        return WRAPPERS.get(core).or(() -> WalletManager.create(core.take(), system, callbackCoordinator));
     }
 
     /* package */
     static WalletManager create(BRCryptoWalletManager core, System system, SystemCallbackCoordinator callbackCoordinator) {
-        WalletManager manager = new WalletManager(core, system, callbackCoordinator);
-        ReferenceCleaner.register(manager, core::give);
-        return manager;
+        return WRAPPERS.create(core, core::give, c -> new WalletManager(c, system, callbackCoordinator));
+    }
+
+    /* package */
+    static Optional<WalletManager> lookup(BRCryptoWalletManager core) {
+        return WRAPPERS.get(core);
     }
 
     private BRCryptoWalletManager core;
@@ -0,0 +1,83 @@
+/*
+ * CoreWrapperCacheTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import com.sun.jna.Pointer;
+import com.sun.jna.PointerType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class CoreWrapperCacheTest {
+
+    public static class FakeCore extends PointerType {
+        public FakeCore(long peer) {
+            super(new Pointer(peer));
+        }
+    }
+
+    private static class FakeWrapper {
+        final FakeCore core;
+
+        FakeWrapper(FakeCore core) {
+            this.core = core;
+        }
+    }
+
+    private CoreWrapperCache<FakeCore, FakeWrapper> cache;
+    private AtomicInteger released;
+
+    @Before
+    public void setup() {
+        cache = new CoreWrapperCache<>();
+        released = new AtomicInteger();
+    }
+
+    @Test
+    public void testSameNativeObjectYieldsSameWrapper() {
+        FakeWrapper first = cache.create(new FakeCore(0x1000), released::incrementAndGet, FakeWrapper::new);
+        FakeWrapper second = cache.create(new FakeCore(0x1000), released::incrementAndGet, FakeWrapper::new);
+
+        assertSame(first, second);
+        assertSame(first, cache.get(new FakeCore(0x1000)).orNull());
+
+        // the duplicate reference is given back straight away
+        assertEquals(1, released.get());
+    }
+
+    @Test
+    public void testDistinctNativeObjectsYieldDistinctWrappers() {
+        FakeWrapper first = cache.create(new FakeCore(0x1000), released::incrementAndGet, FakeWrapper::new);
+        FakeWrapper second = cache.create(new FakeCore(0x2000), released::incrementAndGet, FakeWrapper::new);
+
+        assertNotSame(first, second);
+        assertFalse(cache.get(new FakeCore(0x3000)).isPresent());
+        assertEquals(0, released.get());
+    }
+
+    @Test
+    public void testCollectedWrapperIsReleasedAndEvicted() throws InterruptedException {
+        cache.create(new FakeCore(0x1000), released::incrementAndGet, FakeWrapper::new);
+        assertEquals(1, cache.size());
+
+        for (int i = 0; i < 100 && released.get() == 0; i++) {
+            java.lang.System.gc();
+            Thread.sleep(20);
+        }
+
+        assertEquals(1, released.get());
+        assertEquals(0, cache.size());
+        assertFalse(cache.get(new FakeCore(0x1000)).isPresent());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * PartitionedExecutorTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corecrypto;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class PartitionedExecutorTest {
+
+    @Test
+    public void testTasksForAKeyRunInOrder() throws InterruptedException {
+        PartitionedExecutor executor = PartitionedExecutor.create("test-%d", 4);
+
+        int count = 1000;
+        List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> second = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2 * count);
+
+        for (int i = 0; i < count; i++) {
+            int value = i;
+            executor.execute("first", () -> { first.add(value); done.countDown(); });
+            executor.execute("second", () -> { second.add(value); done.countDown(); });
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, (int) first.get(i));
+            assertEquals(i, (int) second.get(i));
+        }
+        assertEquals(0, executor.getQueueDepth());
+    }
+
+    @Test
+    public void testBlockedKeyDoesNotHoldUpOtherKeys() throws InterruptedException {
+        PartitionedExecutor executor = PartitionedExecutor.create("test-%d", 2);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        executor.execute("slow", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("slow", () -> {});
+        executor.execute("fast", ran::countDown);
+
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executor.getQueueDepth("slow"));
+        assertEquals(0, executor.getQueueDepth("fast"));
+
+        release.countDown();
+    }
+
+    @Test
+    public void testQueueDepthCountsPendingTasks() {
+        List<Runnable> scheduled = new ArrayList<>();
+        PartitionedExecutor executor = new PartitionedExecutor(scheduled::add);
+
+        executor.execute("a", () -> {});
+        executor.execute("a", () -> {});
+        executor.execute("b", () -> {});
+
+        // one turn per partition, however many tasks it holds
+        assertEquals(2, scheduled.size());
+        assertEquals(3, executor.getQueueDepth());
+        assertEquals(2, executor.getQueueDepth("a"));
+
+        scheduled.get(0).run();
+        assertEquals(1, executor.getQueueDepth());
+        assertEquals(0, executor.getQueueDepth("a"));
+    }
+}
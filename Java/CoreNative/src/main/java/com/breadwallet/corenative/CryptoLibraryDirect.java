@@ -248,6 +248,7 @@ public final class CryptoLibraryDirect {
     public static native int cryptoWalletGetState(Pointer wallet);
     public static native Pointer cryptoWalletGetBalance(Pointer wallet);
     public static native Pointer cryptoWalletGetTransfers(Pointer wallet, SizeTByReference count);
+    public static native SizeT cryptoWalletGetTransferSnapshots(Pointer wallet, SizeT offset, SizeT count, Pointer snapshots);
     public static native int cryptoWalletHasTransfer(Pointer wallet, Pointer transfer);
     public static native Pointer cryptoWalletGetAddress(Pointer wallet, int addressScheme);
     public static native Pointer cryptoWalletGetUnit(Pointer wallet);
@@ -320,14 +321,19 @@ public final class CryptoLibraryDirect {
     public static native void cwmAnnounceGetBlockNumberFailure(Pointer cwm, Pointer callbackState);
     public static native void cwmAnnounceGetTransactionsItemBTC(Pointer cwm, Pointer callbackState,
                                            byte[] transaction, SizeT transactionLength, long timestamp, long blockHeight);
+    public static native void cwmAnnounceGetTransactionsItemsBTC(Pointer cwm, Pointer callbackState, SizeT count,
+                                           ByteBuffer transactions, long[] transactionLengths, long[] timestamps, long[] blockHeights);
     public static native void cwmAnnounceGetTransactionsItemETH(Pointer cwm, Pointer callbackState,
                                            String hash, String sourceAddr, String targetAddr, String contractAddr,
                                            String amount, String gasLimit, String gasPrice, String data, String nonce,
                                            String gasUsed, String blockNumber, String blockHash,
                                            String blockConfirmations, String blockTransacionIndex, String blockTimestamp,
                                            String isError);
+    public static native void cwmAnnounceGetTransactionsItemsETH(Pointer cwm, Pointer callbackState, SizeT count, ByteBuffer items);
     public static native void cwmAnnounceGetTransactionsItemGEN(Pointer cwm, Pointer callbackState,
                                            byte[] transaction, SizeT transactionLength, long timestamp, long blockHeight);
+    public static native void cwmAnnounceGetTransactionsItemsGEN(Pointer cwm, Pointer callbackState, SizeT count,
+                                           ByteBuffer transactions, long[] transactionLengths, long[] timestamps, long[] blockHeights);
     public static native void cwmAnnounceGetTransactionsComplete(Pointer cwm, Pointer callbackState, int success);
     public static native void cwmAnnounceSubmitTransferSuccess(Pointer cwm, Pointer callbackState);
     public static native void cwmAnnounceSubmitTransferSuccessForHash(Pointer cwm, Pointer callbackState, String hash);
@@ -344,6 +350,7 @@ public final class CryptoLibraryDirect {
                                 String contract, int size, StringArray topicsArray, String data, String gasPrice,
                                 String gasUsed, String logIndex, String blockNumber, String blockTransactionIndex,
                                 String blockTimestamp);
+    public static native void cwmAnnounceGetLogsItems(Pointer cwm, Pointer callbackState, SizeT count, ByteBuffer items);
     public static native void cwmAnnounceGetLogsComplete(Pointer cwm, Pointer callbackState, int success);
     public static native void cwmAnnounceGetTokensItem(Pointer cwm, Pointer callbackState, String address,
                                   String symbol, String name, String description, int intValue, String gasLimit,
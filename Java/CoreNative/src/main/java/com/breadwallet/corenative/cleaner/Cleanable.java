@@ -0,0 +1,24 @@
+/*
+ * Cleanable
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.cleaner;
+
+/**
+ * A runnable registered with the {@link ReferenceCleaner}.
+ */
+public interface Cleanable {
+
+    /**
+     * Run the registered runnable now, rather than once the referent has been collected.
+     *
+     * The runnable is run at most once, however many times this is called and whether or not the
+     * referent has since been collected.
+     */
+    void clean();
+}
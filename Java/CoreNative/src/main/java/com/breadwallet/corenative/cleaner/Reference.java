@@ -9,31 +9,39 @@ package com.breadwallet.corenative.cleaner;
 
 import java.lang.ref.PhantomReference;
 import java.lang.ref.ReferenceQueue;
-import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /* package */
-final class Reference extends PhantomReference<Object> implements Runnable {
-
-    /* package */
-    static void create(ReferenceQueue<Object> queue, Object referent, Runnable runnable) {
-        REFS.add(new Reference(queue, referent, runnable));
-    }
-
-    private static final Set<Reference> REFS = Collections.newSetFromMap(new ConcurrentHashMap<>());
+final class Reference extends PhantomReference<Object> implements Cleanable {
 
+    // the references registered with, and not yet cleaned by, the same shard; holding them here keeps
+    // them reachable until they are enqueued
+    private final Set<Reference> refs;
     private final Runnable runnable;
 
-    private Reference(ReferenceQueue<Object> queue, Object referent, Runnable runnable) {
+    /* package */
+    Reference(ReferenceQueue<Object> queue, Set<Reference> refs, Object referent, Runnable runnable) {
         super(referent, queue);
+        this.refs = refs;
         this.runnable = runnable;
     }
 
     @Override
-    public void run() {
-        if (REFS.remove(this)) {
-            runnable.run();
+    public void clean() {
+        if (run()) {
+            ReferenceCleaner.onReleased();
         }
     }
+
+    // Returns true if this call ran the runnable
+    /* package */
+    boolean run() {
+        if (!refs.remove(this)) {
+            return false;
+        }
+
+        clear();
+        runnable.run();
+        return true;
+    }
 }
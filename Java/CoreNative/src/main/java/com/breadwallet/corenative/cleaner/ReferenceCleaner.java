@@ -10,6 +10,12 @@ package com.breadwallet.corenative.cleaner;
 import android.util.Log;
 
 import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class ReferenceCleaner {
 
@@ -19,54 +25,153 @@ public final class ReferenceCleaner {
      *
      * This method provides an alternative to the `finalize` method, which
      * is deprecated as of JDK9.
+     *
+     * The returned {@link Cleanable} runs the runnable straight away instead,
+     * for callers that know `referent` is no longer in use and don't want to
+     * wait on the GC to free the native memory it holds.
      */
-    public static void register(Object referent, Runnable runnable) {
-        INSTANCE.registerRunnable(referent, runnable);
+    public static Cleanable register(Object referent, Runnable runnable) {
+        return INSTANCE.registerRunnable(referent, runnable);
+    }
+
+    public static ReferenceCleanerStats getStats() {
+        return INSTANCE.snapshot();
+    }
+
+    /* package */
+    static void onReleased() {
+        INSTANCE.releasedCount.incrementAndGet();
     }
 
     private static final String TAG = ReferenceCleaner.class.getName();
+
+    // Number of enqueued references a shard cleans per wakeup, once the first one has arrived
+    private static final int DRAIN_BATCH_SIZE = 64;
+
+    // A shard's backlogSinceNanos while it is waiting on an empty queue
+    private static final long NO_BACKLOG = Long.MIN_VALUE;
+
+    private static final int SHARD_COUNT = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
     private static final ReferenceCleaner INSTANCE = new ReferenceCleaner();
 
-    private final ReferenceQueue<Object> queue;
-    private final Thread thread;
+    private final Shard[] shards;
+    private final AtomicInteger nextShard;
+
+    private final AtomicLong collectedCount;
+    private final AtomicLong releasedCount;
+    private final AtomicLong maxDrainBatchNanos;
+
+    // guarded by this
+    private long lastSnapshotNanos;
+    private long lastSnapshotCollectedCount;
 
     private ReferenceCleaner() {
-        this.queue = new ReferenceQueue<>();
-        this.thread = new Thread(new ReferenceCleanerRunnable(queue));
-        this.thread.setDaemon(true);
-        this.thread.setName(getClass().getName());
-        this.thread.start();
+        this.nextShard = new AtomicInteger();
+        this.collectedCount = new AtomicLong();
+        this.releasedCount = new AtomicLong();
+        this.maxDrainBatchNanos = new AtomicLong();
+        this.lastSnapshotNanos = System.nanoTime();
+
+        this.shards = new Shard[SHARD_COUNT];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard();
+
+            Thread thread = new Thread(shards[i]);
+            thread.setDaemon(true);
+            thread.setName(getClass().getName() + "-" + i);
+            thread.start();
+        }
     }
 
-    private void registerRunnable(Object referent, Runnable runnable) {
-        Reference.create(queue, referent, runnable);
+    private Cleanable registerRunnable(Object referent, Runnable runnable) {
+        Shard shard = shards[(nextShard.getAndIncrement() & Integer.MAX_VALUE) % shards.length];
+
+        Reference ref = new Reference(shard.queue, shard.refs, referent, runnable);
+        shard.refs.add(ref);
+        return ref;
     }
 
-    private static class ReferenceCleanerRunnable implements Runnable {
+    private synchronized ReferenceCleanerStats snapshot() {
+        long now = System.nanoTime();
 
-        final ReferenceQueue<Object> queue;
+        int pendingCount = 0;
+        long backlogAgeNanos = 0;
+        for (Shard shard: shards) {
+            pendingCount += shard.refs.size();
 
-        ReferenceCleanerRunnable(ReferenceQueue<Object> queue) {
-            this.queue = queue;
+            long backlogSinceNanos = shard.backlogSinceNanos;
+            if (NO_BACKLOG != backlogSinceNanos) {
+                backlogAgeNanos = Math.max(backlogAgeNanos, now - backlogSinceNanos);
+            }
         }
 
+        long collected = collectedCount.get();
+        double drainRate = (collected - lastSnapshotCollectedCount) * (double) TimeUnit.SECONDS.toNanos(1) /
+                Math.max(1, now - lastSnapshotNanos);
+
+        lastSnapshotNanos = now;
+        lastSnapshotCollectedCount = collected;
+
+        return new ReferenceCleanerStats(pendingCount, collected, releasedCount.get(), drainRate,
+                TimeUnit.NANOSECONDS.toMillis(maxDrainBatchNanos.getAndSet(0)), TimeUnit.NANOSECONDS.toMillis(backlogAgeNanos));
+    }
+
+    private void recordDrainBatch(int count, long nanos) {
+        collectedCount.addAndGet(count);
+
+        long max;
+        do {
+            max = maxDrainBatchNanos.get();
+        } while (nanos > max && !maxDrainBatchNanos.compareAndSet(max, nanos));
+    }
+
+    private final class Shard implements Runnable {
+
+        final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+        final Set<Reference> refs = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        // When this shard last woke to a collected reference without having since found its queue
+        // empty; every reference still on the queue was enqueued after this
+        volatile long backlogSinceNanos = NO_BACKLOG;
+
         @Override
         public void run() {
             for (;;) {
                 Reference ref;
 
                 try {
-                    ref = (Reference) queue.remove();
+                    ref = (Reference) queue.poll();
+                    if (null == ref) {
+                        // caught up; wait for the next collection
+                        backlogSinceNanos = NO_BACKLOG;
+                        ref = (Reference) queue.remove();
+                        backlogSinceNanos = System.nanoTime();
+                    }
                 } catch (ClassCastException | InterruptedException e) {
                     Log.e(TAG, "Error pumping queue", e);
                     continue;
                 }
 
-                try {
-                    ref.run();
-                } catch (Throwable t) {
-                    Log.e(TAG, "Error cleaning up", t);
-                }
+                // clean whatever else has been enqueued alongside it before blocking again
+                long start = System.nanoTime();
+                int count = 0;
+                do {
+                    if (clean(ref)) {
+                        count += 1;
+                    }
+                } while (count < DRAIN_BATCH_SIZE && null != (ref = (Reference) queue.poll()));
+
+                recordDrainBatch(count, System.nanoTime() - start);
+            }
+        }
+
+        private boolean clean(Reference ref) {
+            try {
+                return ref.run();
+            } catch (Throwable t) {
+                Log.e(TAG, "Error cleaning up", t);
+                return true;
             }
         }
     }
@@ -0,0 +1,96 @@
+/*
+ * ReferenceCleanerStats
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.cleaner;
+
+/**
+ * A snapshot of the {@link ReferenceCleaner}'s counters.
+ */
+public final class ReferenceCleanerStats {
+
+    private final int pendingCount;
+    private final long collectedCount;
+    private final long releasedCount;
+    private final double drainRate;
+    private final long maxDrainBatchMillis;
+    private final long backlogAgeMillis;
+
+    /* package */
+    ReferenceCleanerStats(int pendingCount, long collectedCount, long releasedCount, double drainRate, long maxDrainBatchMillis,
+                          long backlogAgeMillis) {
+        this.pendingCount = pendingCount;
+        this.collectedCount = collectedCount;
+        this.releasedCount = releasedCount;
+        this.drainRate = drainRate;
+        this.maxDrainBatchMillis = maxDrainBatchMillis;
+        this.backlogAgeMillis = backlogAgeMillis;
+    }
+
+    /**
+     * The number of runnables registered and not yet run.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * The number of runnables run because their referent was collected.
+     */
+    public long getCollectedCount() {
+        return collectedCount;
+    }
+
+    /**
+     * The number of runnables run explicitly, via {@link Cleanable#clean()}.
+     */
+    public long getReleasedCount() {
+        return releasedCount;
+    }
+
+    /**
+     * The number of collected referents cleaned per second since the previous snapshot was taken.
+     */
+    public double getDrainRate() {
+        return drainRate;
+    }
+
+    /**
+     * The longest time, since the previous snapshot was taken, that a cleaner thread spent running the
+     * runnables of one batch of collected referents.
+     *
+     * This is how long draining a batch took, not how long a referent waited to be cleaned; time spent
+     * on the queue before the batch started isn't counted.
+     */
+    public long getMaxDrainBatchMillis() {
+        return maxDrainBatchMillis;
+    }
+
+    /**
+     * How long, when the snapshot was taken, the cleaner thread furthest behind had been cleaning collected
+     * referents without once finding its queue empty; zero when every queue was drained.
+     *
+     * Every collected referent still waiting to be cleaned was enqueued within this time, so it bounds the
+     * age of the oldest one. The exact enqueue time isn't observable: the GC enqueues references itself.
+     */
+    public long getBacklogAgeMillis() {
+        return backlogAgeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceCleanerStats{" +
+                "pending=" + pendingCount +
+                ", collected=" + collectedCount +
+                ", released=" + releasedCount +
+                ", drainRate=" + drainRate +
+                ", maxDrainBatchMillis=" + maxDrainBatchMillis +
+                ", backlogAgeMillis=" + backlogAgeMillis +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * BRCryptoTransferSnapshot
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.crypto;
+
+import com.google.common.base.Optional;
+import com.sun.jna.Pointer;
+import com.sun.jna.Structure;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class BRCryptoTransferSnapshot extends Structure {
+
+    public BRCryptoTransfer transfer;
+    public BRCryptoAmount amount;
+    public BRCryptoAmount amountDirected;
+    public BRCryptoAddress sourceAddress;
+    public BRCryptoAddress targetAddress;
+    public BRCryptoHash hash;
+    public int directionEnum;
+    public BRCryptoTransferState state;
+
+    public BRCryptoTransferSnapshot() {
+        super();
+    }
+
+    public BRCryptoTransferSnapshot(Pointer peer) {
+        super(peer);
+    }
+
+    public Optional<BRCryptoAddress> getSourceAddress() {
+        return Optional.fromNullable(sourceAddress);
+    }
+
+    public Optional<BRCryptoAddress> getTargetAddress() {
+        return Optional.fromNullable(targetAddress);
+    }
+
+    public Optional<BRCryptoHash> getHash() {
+        return Optional.fromNullable(hash);
+    }
+
+    public BRCryptoTransferDirection getDirection() {
+        return BRCryptoTransferDirection.fromCore(directionEnum);
+    }
+
+    protected List<String> getFieldOrder() {
+        return Arrays.asList("transfer", "amount", "amountDirected", "sourceAddress", "targetAddress", "hash",
+                "directionEnum", "state");
+    }
+
+    public static class ByReference extends BRCryptoTransferSnapshot implements Structure.ByReference {
+
+    }
+
+    public static class ByValue extends BRCryptoTransferSnapshot implements Structure.ByValue {
+
+    }
+}
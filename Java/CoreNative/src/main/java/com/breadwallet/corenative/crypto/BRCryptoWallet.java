@@ -9,6 +9,7 @@ package com.breadwallet.corenative.crypto;
 
 import com.breadwallet.corenative.CryptoLibraryDirect;
 import com.breadwallet.corenative.utility.Cookie;
+import com.breadwallet.corenative.utility.SizeT;
 import com.breadwallet.corenative.utility.SizeTByReference;
 import com.google.common.base.Optional;
 import com.google.common.primitives.UnsignedInts;
@@ -56,6 +57,28 @@ public class BRCryptoWallet extends PointerType {
     }
 
 
+    public List<BRCryptoTransferSnapshot> getTransferSnapshots(int offset, int count) {
+        Pointer thisPtr = this.getPointer();
+
+        List<BRCryptoTransferSnapshot> snapshots = new ArrayList<>();
+        if (0 != count) {
+            // contiguous, so that core can fill the whole page in place
+            BRCryptoTransferSnapshot[] snapshotsArray = (BRCryptoTransferSnapshot[]) new BRCryptoTransferSnapshot().toArray(count);
+            int snapshotsSize = UnsignedInts.checkedCast(CryptoLibraryDirect.cryptoWalletGetTransferSnapshots(
+                    thisPtr,
+                    new SizeT(offset),
+                    new SizeT(count),
+                    snapshotsArray[0].getPointer()
+            ).longValue());
+
+            for (int i = 0; i < snapshotsSize; i++) {
+                snapshotsArray[i].read();
+                snapshots.add(snapshotsArray[i]);
+            }
+        }
+        return snapshots;
+    }
+
     public boolean containsTransfer(BRCryptoTransfer transfer) {
         Pointer thisPtr = this.getPointer();
 
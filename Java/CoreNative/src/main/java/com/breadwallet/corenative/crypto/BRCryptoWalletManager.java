@@ -10,6 +10,9 @@ package com.breadwallet.corenative.crypto;
 import com.breadwallet.corenative.CryptoLibraryDirect;
 import com.breadwallet.corenative.support.BRSyncDepth;
 import com.breadwallet.corenative.support.BRSyncMode;
+import com.breadwallet.corenative.utility.DirectBufferPool;
+import com.breadwallet.corenative.utility.PackedStrings;
+import com.breadwallet.corenative.utility.RawTransactions;
 import com.breadwallet.corenative.utility.SizeT;
 import com.breadwallet.corenative.utility.SizeTByReference;
 import com.google.common.base.Optional;
@@ -31,6 +34,15 @@ import javax.annotation.Nullable;
 
 public class BRCryptoWalletManager extends PointerType {
 
+    // Slabs that pages of raw transactions are copied into, so that a page goes to core in one call
+    // rather than one per transaction; core parses (and so copies) each transaction before the announce
+    // returns, after which the slab is reused
+    private static final DirectBufferPool RAW_TRANSACTION_BUFFERS = new DirectBufferPool(256 * 1024, 4);
+
+    // Slabs that pages of packed strings are written into; as above, core copies each string it keeps
+    // before the announce returns
+    private static final DirectBufferPool PACKED_STRING_BUFFERS = new DirectBufferPool(256 * 1024, 4);
+
     public static void wipe(BRCryptoNetwork network, String path) {
         CryptoLibraryDirect.cryptoWalletManagerWipe(network.getPointer(), path);
     }
@@ -276,6 +288,21 @@ public class BRCryptoWalletManager extends PointerType {
                 timestamp.longValue(), blockHeight.longValue());
     }
 
+    public void announceGetTransactionsItemsBtc(BRCryptoCWMClientCallbackState callbackState, RawTransactions transactions) {
+        Pointer thisPtr = this.getPointer();
+
+        ByteBuffer buffer = RAW_TRANSACTION_BUFFERS.acquire(transactions.getByteCount());
+        try {
+            transactions.writeTo(buffer);
+            buffer.flip();
+
+            CryptoLibraryDirect.cwmAnnounceGetTransactionsItemsBTC(thisPtr, callbackState.getPointer(), new SizeT(transactions.size()),
+                    buffer, transactions.getLengths(), transactions.getTimestamps(), transactions.getBlockHeights());
+        } finally {
+            RAW_TRANSACTION_BUFFERS.release(buffer);
+        }
+    }
+
     public void announceGetTransactionsItemEth(BRCryptoCWMClientCallbackState callbackState, String hash, String sourceAddr,
                                                String targetAddr, String contractAddr, String amount, String gasLimit,
                                                String gasPrice, String data, String nonce, String gasUsed,
@@ -288,6 +315,24 @@ public class BRCryptoWalletManager extends PointerType {
                 blockTransacionIndex, blockTimestamp, isError);
     }
 
+    /**
+     * Announce a page of transactions in a single call; `items` holds, for each of `count` transactions,
+     * the sixteen values taken by {@link #announceGetTransactionsItemEth}, in the same order.
+     */
+    public void announceGetTransactionsItemsEth(BRCryptoCWMClientCallbackState callbackState, int count, PackedStrings items) {
+        Pointer thisPtr = this.getPointer();
+
+        ByteBuffer buffer = PACKED_STRING_BUFFERS.acquire(items.getByteCount());
+        try {
+            items.writeTo(buffer);
+            buffer.flip();
+
+            CryptoLibraryDirect.cwmAnnounceGetTransactionsItemsETH(thisPtr, callbackState.getPointer(), new SizeT(count), buffer);
+        } finally {
+            PACKED_STRING_BUFFERS.release(buffer);
+        }
+    }
+
     public void announceGetTransactionsItemGen(BRCryptoCWMClientCallbackState callbackState, byte[] transaction,
                                                UnsignedLong timestamp, UnsignedLong blockHeight) {
         Pointer thisPtr = this.getPointer();
@@ -296,6 +341,21 @@ public class BRCryptoWalletManager extends PointerType {
                 timestamp.longValue(), blockHeight.longValue());
     }
 
+    public void announceGetTransactionsItemsGen(BRCryptoCWMClientCallbackState callbackState, RawTransactions transactions) {
+        Pointer thisPtr = this.getPointer();
+
+        ByteBuffer buffer = RAW_TRANSACTION_BUFFERS.acquire(transactions.getByteCount());
+        try {
+            transactions.writeTo(buffer);
+            buffer.flip();
+
+            CryptoLibraryDirect.cwmAnnounceGetTransactionsItemsGEN(thisPtr, callbackState.getPointer(), new SizeT(transactions.size()),
+                    buffer, transactions.getLengths(), transactions.getTimestamps(), transactions.getBlockHeights());
+        } finally {
+            RAW_TRANSACTION_BUFFERS.release(buffer);
+        }
+    }
+
     public void announceGetTransactionsComplete(BRCryptoCWMClientCallbackState callbackState, boolean success) {
         Pointer thisPtr = this.getPointer();
 
@@ -369,6 +429,25 @@ public class BRCryptoWalletManager extends PointerType {
                 blockNumber, blockTransactionIndex, blockTimestamp);
     }
 
+    /**
+     * Announce a page of logs in a single call; `items` holds, for each of `count` logs, the values taken
+     * by {@link #announceGetLogsItem}, in the same order, with the topics given as their count followed
+     * by the topics themselves.
+     */
+    public void announceGetLogsItems(BRCryptoCWMClientCallbackState callbackState, int count, PackedStrings items) {
+        Pointer thisPtr = this.getPointer();
+
+        ByteBuffer buffer = PACKED_STRING_BUFFERS.acquire(items.getByteCount());
+        try {
+            items.writeTo(buffer);
+            buffer.flip();
+
+            CryptoLibraryDirect.cwmAnnounceGetLogsItems(thisPtr, callbackState.getPointer(), new SizeT(count), buffer);
+        } finally {
+            PACKED_STRING_BUFFERS.release(buffer);
+        }
+    }
+
     public void announceGetLogsComplete(BRCryptoCWMClientCallbackState callbackState, boolean success) {
         Pointer thisPtr = this.getPointer();
 
@@ -0,0 +1,74 @@
+/*
+ * DirectBufferPool
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.utility;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A pool of fixed size, direct (off-heap) slabs that can be handed to core without JNA copying them.
+ *
+ * Requests larger than a slab are met with a one-off direct buffer, which is dropped on release.
+ */
+public final class DirectBufferPool {
+
+    private final int slabSize;
+    private final int maxPooled;
+
+    // guarded by this
+    private final Deque<ByteBuffer> slabs;
+
+    public DirectBufferPool(int slabSize, int maxPooled) {
+        checkArgument(slabSize > 0);
+        checkArgument(maxPooled >= 0);
+
+        this.slabSize = slabSize;
+        this.maxPooled = maxPooled;
+        this.slabs = new ArrayDeque<>();
+    }
+
+    /**
+     * Get a cleared buffer with room for at least `size` bytes.
+     */
+    public ByteBuffer acquire(int size) {
+        if (size > slabSize) {
+            return ByteBuffer.allocateDirect(size);
+        }
+
+        ByteBuffer slab;
+        synchronized (this) {
+            slab = slabs.poll();
+        }
+        return null == slab ? ByteBuffer.allocateDirect(slabSize) : slab;
+    }
+
+    /**
+     * Give back a buffer obtained from {@link #acquire(int)}; it must no longer be in use, by Java or by core.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer.capacity() != slabSize) {
+            return;
+        }
+
+        buffer.clear();
+        synchronized (this) {
+            if (slabs.size() < maxPooled) {
+                slabs.push(buffer);
+            }
+        }
+    }
+
+    public synchronized int getPooledCount() {
+        return slabs.size();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * PackedStrings
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.utility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A sequence of strings packed, as NUL terminated UTF-8, into a single native buffer so that many of
+ * them can be handed to core in one call rather than each being marshalled separately.
+ *
+ * A null string is packed as the single byte 0xFF, which can't occur in UTF-8.
+ */
+public final class PackedStrings {
+
+    private static final byte[] NULL_MARKER = {(byte) 0xFF};
+
+    private final List<byte[]> strings;
+    private int byteCount;
+
+    public PackedStrings() {
+        this.strings = new ArrayList<>();
+    }
+
+    public PackedStrings add(@Nullable String value) {
+        byte[] encoded = null == value ? NULL_MARKER : value.getBytes(StandardCharsets.UTF_8);
+        strings.add(encoded);
+        byteCount += encoded.length + 1;
+        return this;
+    }
+
+    public PackedStrings add(int value) {
+        return add(Integer.toString(value));
+    }
+
+    public int getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Write the strings, each followed by a NUL, into `buffer`; it must have room for
+     * {@link #getByteCount()} bytes.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        for (byte[] string: strings) {
+            buffer.put(string);
+            buffer.put((byte) 0);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * RawTransactions
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.corenative.utility;
+
+import com.google.common.primitives.UnsignedLong;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A page of serialized transactions, with their timestamps and block heights, to be announced to core
+ * in one call.
+ *
+ * The transactions are laid out back to back in a single direct buffer; core is told the length of
+ * each one.
+ *
+ * This batches the native calls only. Each transaction is still decoded to its own byte[] by the
+ * blockchaindb models and copied once into the buffer, as JNA would have copied it for a call of its
+ * own; the copies and garbage per transaction are unchanged.
+ */
+public final class RawTransactions {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<byte[]> transactions;
+    private long[] lengths;
+    private long[] timestamps;
+    private long[] blockHeights;
+    private int byteCount;
+
+    public RawTransactions() {
+        this.transactions = new ArrayList<>();
+        this.lengths = new long[INITIAL_CAPACITY];
+        this.timestamps = new long[INITIAL_CAPACITY];
+        this.blockHeights = new long[INITIAL_CAPACITY];
+    }
+
+    public RawTransactions add(byte[] transaction, UnsignedLong timestamp, UnsignedLong blockHeight) {
+        int index = transactions.size();
+        if (index == lengths.length) {
+            int capacity = 2 * index;
+            lengths = Arrays.copyOf(lengths, capacity);
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            blockHeights = Arrays.copyOf(blockHeights, capacity);
+        }
+
+        transactions.add(transaction);
+        lengths[index] = transaction.length;
+        timestamps[index] = timestamp.longValue();
+        blockHeights[index] = blockHeight.longValue();
+        byteCount += transaction.length;
+        return this;
+    }
+
+    public int size() {
+        return transactions.size();
+    }
+
+    public boolean isEmpty() {
+        return transactions.isEmpty();
+    }
+
+    public int getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Write the transactions, back to back, into `buffer`; it must have room for {@link #getByteCount()}
+     * bytes.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        for (byte[] transaction: transactions) {
+            buffer.put(transaction);
+        }
+    }
+
+    public long[] getLengths() {
+        return Arrays.copyOf(lengths, transactions.size());
+    }
+
+    public long[] getTimestamps() {
+        return Arrays.copyOf(timestamps, transactions.size());
+    }
+
+    public long[] getBlockHeights() {
+        return Arrays.copyOf(blockHeights, transactions.size());
+    }
+}
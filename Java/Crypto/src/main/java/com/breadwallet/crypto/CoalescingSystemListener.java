@@ -0,0 +1,196 @@
+/*
+ * CoalescingSystemListener
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto;
+
+import com.breadwallet.crypto.events.network.NetworkEvent;
+import com.breadwallet.crypto.events.system.SystemEvent;
+import com.breadwallet.crypto.events.system.SystemListener;
+import com.breadwallet.crypto.events.transfer.TranferEvent;
+import com.breadwallet.crypto.events.wallet.WalletBalanceUpdatedEvent;
+import com.breadwallet.crypto.events.wallet.WalletEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerBlockUpdatedEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerDeletedEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerSyncProgressEvent;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A listener that coalesces the high frequency events emitted while a wallet manager syncs before
+ * passing them on to another listener.
+ *
+ * Within each window, only the latest {@link WalletManagerSyncProgressEvent} and
+ * {@link WalletManagerBlockUpdatedEvent} for a manager, and the latest {@link WalletBalanceUpdatedEvent}
+ * for a wallet, are delivered. All other events are delivered immediately and are never dropped; any
+ * coalesced events pending for the same manager are delivered ahead of them, so that the order in which
+ * a manager's events are observed is preserved.
+ *
+ * A manager's events are delivered to the wrapped listener one at a time. No lock is held across delivery
+ * that would hold up events for other managers, or the coalescing of further events for the same one.
+ *
+ * A manager is forgotten once its {@link WalletManagerDeletedEvent} has been delivered.
+ */
+public final class CoalescingSystemListener implements SystemListener {
+
+    private final SystemListener listener;
+    private final ScheduledExecutorService executor;
+    private final long windowMillis;
+
+    // guarded by this
+    private final Map<WalletManager, ManagerEvents> managers;
+
+    /**
+     * @param listener the listener to deliver events to
+     * @param executor the executor on which events coalesced at the end of a window are delivered;
+     *                 normally the same one that the System delivers events on
+     * @param window the length of the window, from the first event coalesced for a manager
+     */
+    public CoalescingSystemListener(SystemListener listener, ScheduledExecutorService executor, long window, TimeUnit unit) {
+        checkArgument(window >= 0);
+
+        this.listener = listener;
+        this.executor = executor;
+        this.windowMillis = unit.toMillis(window);
+        this.managers = new HashMap<>();
+    }
+
+    @Override
+    public void handleSystemEvent(System system, SystemEvent event) {
+        listener.handleSystemEvent(system, event);
+    }
+
+    @Override
+    public void handleNetworkEvent(System system, Network network, NetworkEvent event) {
+        listener.handleNetworkEvent(system, network, event);
+    }
+
+    @Override
+    public void handleManagerEvent(System system, WalletManager manager, WalletManagerEvent event) {
+        if (event instanceof WalletManagerSyncProgressEvent || event instanceof WalletManagerBlockUpdatedEvent) {
+            synchronized (this) {
+                getPendingEvents(system, manager).managerEvents.put(event.getClass(), event);
+            }
+            return;
+        }
+
+        ManagerEvents events = getManagerEvents(manager);
+        synchronized (events.deliveryLock) {
+            flush(manager, events);
+            listener.handleManagerEvent(system, manager, event);
+        }
+
+        if (event instanceof WalletManagerDeletedEvent) {
+            synchronized (this) {
+                managers.remove(manager);
+            }
+        }
+    }
+
+    @Override
+    public void handleWalletEvent(System system, WalletManager manager, Wallet wallet, WalletEvent event) {
+        if (event instanceof WalletBalanceUpdatedEvent) {
+            synchronized (this) {
+                getPendingEvents(system, manager).walletEvents.put(wallet, event);
+            }
+            return;
+        }
+
+        ManagerEvents events = getManagerEvents(manager);
+        synchronized (events.deliveryLock) {
+            flush(manager, events);
+            listener.handleWalletEvent(system, manager, wallet, event);
+        }
+    }
+
+    @Override
+    public void handleTransferEvent(System system, WalletManager manager, Wallet wallet, Transfer transfer, TranferEvent event) {
+        ManagerEvents events = getManagerEvents(manager);
+        synchronized (events.deliveryLock) {
+            flush(manager, events);
+            listener.handleTransferEvent(system, manager, wallet, transfer, event);
+        }
+    }
+
+    /* package */
+    synchronized int getManagerCount() {
+        return managers.size();
+    }
+
+    private synchronized ManagerEvents getManagerEvents(WalletManager manager) {
+        ManagerEvents events = managers.get(manager);
+        if (null == events) {
+            events = new ManagerEvents();
+            managers.put(manager, events);
+        }
+        return events;
+    }
+
+    // must hold this
+    private PendingEvents getPendingEvents(System system, WalletManager manager) {
+        ManagerEvents events = getManagerEvents(manager);
+        if (null == events.pending) {
+            events.pending = new PendingEvents(system);
+
+            executor.schedule(() -> {
+                synchronized (events.deliveryLock) {
+                    flush(manager, events);
+                }
+            }, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return events.pending;
+    }
+
+    // must hold events.deliveryLock
+    private void flush(WalletManager manager, ManagerEvents events) {
+        PendingEvents pending;
+        synchronized (this) {
+            pending = events.pending;
+            events.pending = null;
+        }
+
+        if (null == pending) {
+            return;
+        }
+
+        for (WalletManagerEvent event: pending.managerEvents.values()) {
+            listener.handleManagerEvent(pending.system, manager, event);
+        }
+
+        for (Map.Entry<Wallet, WalletEvent> entry: pending.walletEvents.entrySet()) {
+            listener.handleWalletEvent(pending.system, manager, entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static class ManagerEvents {
+
+        // held while delivering this manager's events, so that they reach the listener in order
+        final Object deliveryLock = new Object();
+
+        // guarded by CoalescingSystemListener.this
+        PendingEvents pending;
+    }
+
+    private static class PendingEvents {
+
+        final System system;
+        final Map<Class<?>, WalletManagerEvent> managerEvents = new LinkedHashMap<>();
+        final Map<Wallet, WalletEvent> walletEvents = new LinkedHashMap<>();
+
+        PendingEvents(System system) {
+            this.system = system;
+        }
+    }
+}
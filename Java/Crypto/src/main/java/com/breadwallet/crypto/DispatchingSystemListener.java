@@ -8,29 +8,40 @@
 package com.breadwallet.crypto;
 
 import com.breadwallet.crypto.events.network.NetworkEvent;
-import com.breadwallet.crypto.events.system.DefaultSystemListener;
 import com.breadwallet.crypto.events.system.SystemEvent;
 import com.breadwallet.crypto.events.system.SystemListener;
 import com.breadwallet.crypto.events.transfer.TranferEvent;
 import com.breadwallet.crypto.events.wallet.WalletEvent;
 import com.breadwallet.crypto.events.walletmanager.WalletManagerEvent;
 
-import java.util.Objects;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
 
 public final class DispatchingSystemListener implements SystemListener {
 
-    private final CopyOnWriteArraySet<SystemListener> listeners;
+    private final Set<SystemListener> listeners;
+
+    // Scoped listeners are routed by the object they are scoped to, so that an event only visits the
+    // listeners interested in it; the maps and sets are only modified while holding `this`
+    private final Map<WalletManager, Set<SystemListener>> managerListeners;
+    private final Map<Wallet, Set<SystemListener>> walletListeners;
+    private final Map<Transfer, Set<SystemListener>> transferListeners;
 
     public DispatchingSystemListener() {
         this.listeners = new CopyOnWriteArraySet<>();
+        this.managerListeners = new ConcurrentHashMap<>();
+        this.walletListeners = new ConcurrentHashMap<>();
+        this.transferListeners = new ConcurrentHashMap<>();
     }
 
     @Override
     public void handleSystemEvent(System system, SystemEvent event) {
         for (SystemListener listener: listeners) {
             listener.handleSystemEvent(system, event);
-        };
+        }
     }
 
     @Override
@@ -45,6 +56,10 @@ public final class DispatchingSystemListener implements SystemListener {
         for (SystemListener listener: listeners) {
             listener.handleManagerEvent(system, manager, event);
         }
+
+        for (SystemListener listener: getListeners(managerListeners, manager)) {
+            listener.handleManagerEvent(system, manager, event);
+        }
     }
 
     @Override
@@ -52,6 +67,14 @@ public final class DispatchingSystemListener implements SystemListener {
         for (SystemListener listener: listeners) {
             listener.handleWalletEvent(system, manager, wallet, event);
         }
+
+        for (SystemListener listener: getListeners(managerListeners, manager)) {
+            listener.handleWalletEvent(system, manager, wallet, event);
+        }
+
+        for (SystemListener listener: getListeners(walletListeners, wallet)) {
+            listener.handleWalletEvent(system, manager, wallet, event);
+        }
     }
 
     @Override
@@ -59,6 +82,18 @@ public final class DispatchingSystemListener implements SystemListener {
         for (SystemListener listener: listeners) {
             listener.handleTransferEvent(system, manager, wallet, transfer, event);
         }
+
+        for (SystemListener listener: getListeners(managerListeners, manager)) {
+            listener.handleTransferEvent(system, manager, wallet, transfer, event);
+        }
+
+        for (SystemListener listener: getListeners(walletListeners, wallet)) {
+            listener.handleTransferEvent(system, manager, wallet, transfer, event);
+        }
+
+        for (SystemListener listener: getListeners(transferListeners, transfer)) {
+            listener.handleTransferEvent(system, manager, wallet, transfer, event);
+        }
     }
 
     // SystemListener registration
@@ -85,14 +120,14 @@ public final class DispatchingSystemListener implements SystemListener {
      * This includes {@link WalletManagerEvent}, {@link WalletEvent} and {@link TranferEvent} events.
      */
     public void addWalletManagerListener(WalletManager manager, SystemListener listener) {
-        listeners.add(new ScopedWalletManagerListener(manager, listener));
+        addListener(managerListeners, manager, listener);
     }
 
     /**
      * Remove a listener for events scoped to a {@link WalletManager}.
      */
     public void removeWalletManagerListener(WalletManager manager, SystemListener listener) {
-        listeners.remove(new ScopedWalletManagerListener(manager, listener));
+        removeListener(managerListeners, manager, listener);
     }
 
     // WalletListener registration
@@ -103,14 +138,14 @@ public final class DispatchingSystemListener implements SystemListener {
      * This includes {@link WalletEvent} and {@link TranferEvent} events.
      */
     public void addWalletListener(Wallet wallet, SystemListener listener) {
-        listeners.add(new ScopedWalletListener(wallet, listener));
+        addListener(walletListeners, wallet, listener);
     }
 
     /**
      * Remove a listener for events scoped to a {@link Wallet}.
      */
     public void removeWalletListener(Wallet wallet, SystemListener listener) {
-        listeners.remove(new ScopedWalletListener(wallet, listener));
+        removeListener(walletListeners, wallet, listener);
     }
 
     // TransferListener registration
@@ -121,148 +156,36 @@ public final class DispatchingSystemListener implements SystemListener {
      * This includes {@link TranferEvent} events.
      */
     public void addTransferListener(Transfer transfer, SystemListener listener) {
-        listeners.add(new ScopedTransferListener(transfer, listener));
+        addListener(transferListeners, transfer, listener);
     }
 
     /**
      * Remove a listener for events scoped to a {@link Transfer}.
      */
     public void removeTransferListener(Transfer transfer, SystemListener listener) {
-        listeners.remove(new ScopedTransferListener(transfer, listener));
+        removeListener(transferListeners, transfer, listener);
     }
 
-    private static class ScopedWalletManagerListener implements DefaultSystemListener {
-
-        private final WalletManager manager;
-        private final SystemListener listener;
-
-        ScopedWalletManagerListener(WalletManager manager, SystemListener listener) {
-            this.manager = manager;
-            this.listener = listener;
-        }
-
-        @Override
-        public void handleManagerEvent(System system, WalletManager manager, WalletManagerEvent event) {
-            if (this.manager.equals(manager)) {
-                listener.handleManagerEvent(system, manager, event);
-            }
-        }
-
-        @Override
-        public void handleWalletEvent(System system, WalletManager manager, Wallet wallet, WalletEvent event) {
-            if (this.manager.equals(manager)) {
-                listener.handleWalletEvent(system, manager, wallet, event);
-            }
-        }
-
-        @Override
-        public void handleTransferEvent(System system, WalletManager manager, Wallet wallet, Transfer transfer, TranferEvent event) {
-            if (this.manager.equals(manager)) {
-                listener.handleTransferEvent(system, manager, wallet, transfer, event);
-            }
-        }
+    // Routing
 
-        @Override
-        public boolean equals(Object object) {
-            if (this == object) {
-                return true;
-            }
-
-            if (!(object instanceof ScopedWalletManagerListener)) {
-                return false;
-            }
-
-            ScopedWalletManagerListener that = (ScopedWalletManagerListener) object;
-            return manager.equals(that.manager) &&
-                    listener.equals(that.listener);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(manager, listener);
-        }
+    private static <K> Set<SystemListener> getListeners(Map<K, Set<SystemListener>> routes, K key) {
+        Set<SystemListener> listeners = routes.get(key);
+        return null == listeners ? Collections.emptySet() : listeners;
     }
 
-    private static class ScopedWalletListener implements DefaultSystemListener {
-
-        private final Wallet wallet;
-        private final SystemListener listener;
-
-        ScopedWalletListener(Wallet wallet, SystemListener listener) {
-            this.wallet = wallet;
-            this.listener = listener;
-        }
-
-        @Override
-        public void handleWalletEvent(System system, WalletManager manager, Wallet wallet, WalletEvent event) {
-            if (this.wallet.equals(wallet)) {
-                listener.handleWalletEvent(system, manager, wallet, event);
-            }
-        }
-
-        @Override
-        public void handleTransferEvent(System system, WalletManager manager, Wallet wallet, Transfer transfer, TranferEvent event) {
-            if (this.wallet.equals(wallet)) {
-                listener.handleTransferEvent(system, manager, wallet, transfer, event);
-            }
-        }
-
-        @Override
-        public boolean equals(Object object) {
-            if (this == object) {
-                return true;
-            }
-
-            if (!(object instanceof ScopedWalletListener)) {
-                return false;
-            }
-
-            ScopedWalletListener that = (ScopedWalletListener) object;
-            return wallet.equals(that.wallet) &&
-                    listener.equals(that.listener);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(wallet, listener);
+    private synchronized <K> void addListener(Map<K, Set<SystemListener>> routes, K key, SystemListener listener) {
+        Set<SystemListener> listeners = routes.get(key);
+        if (null == listeners) {
+            listeners = Collections.newSetFromMap(new ConcurrentHashMap<>());
+            routes.put(key, listeners);
         }
+        listeners.add(listener);
     }
 
-    private static class ScopedTransferListener implements DefaultSystemListener {
-
-        private final Transfer transfer;
-        private final SystemListener listener;
-
-        ScopedTransferListener(Transfer transfer, SystemListener listener) {
-            this.transfer = transfer;
-            this.listener = listener;
-        }
-
-        @Override
-        public void handleTransferEvent(System system, WalletManager manager, Wallet wallet, Transfer transfer, TranferEvent event) {
-            if (this.transfer.equals(transfer)) {
-                listener.handleTransferEvent(system, manager, wallet, transfer, event);
-            }
-        }
-
-        @Override
-        public boolean equals(Object object) {
-            if (this == object) {
-                return true;
-            }
-
-            if (!(object instanceof ScopedTransferListener)) {
-                return false;
-            }
-
-            ScopedTransferListener that = (ScopedTransferListener) object;
-            return transfer.equals(that.transfer) &&
-                    listener.equals(that.listener);
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(transfer, listener);
+    private synchronized <K> void removeListener(Map<K, Set<SystemListener>> routes, K key, SystemListener listener) {
+        Set<SystemListener> listeners = routes.get(key);
+        if (null != listeners && listeners.remove(listener) && listeners.isEmpty()) {
+            routes.remove(key);
         }
     }
 }
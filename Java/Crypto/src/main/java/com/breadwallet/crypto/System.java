@@ -44,6 +44,20 @@ public interface System {
         return CryptoApi.getProvider().systemProvider().create(executor, listener, account, isMainnet,storagePath, query);
     }
 
+    /**
+     * Create a new system, as above, sizing the thread pools on which it handles events from, and
+     * serves queries for, its wallet managers. A manager's events and queries are handled in order;
+     * the pools only bound how many managers make progress at once.
+     *
+     * @param listenerThreadCount the number of threads handling wallet manager events; 2 by default
+     * @param clientThreadCount the number of threads serving wallet manager queries; 4 by default
+     */
+    static System create(ScheduledExecutorService executor, SystemListener listener, Account account, boolean isMainnet, String storagePath, BlockchainDb query,
+                         int listenerThreadCount, int clientThreadCount) {
+        return CryptoApi.getProvider().systemProvider().create(executor, listener, account, isMainnet, storagePath, query,
+                listenerThreadCount, clientThreadCount);
+    }
+
     /**
      * Create a BlockChainDB.Model.Currency to be used in the event that the BlockChainDB does
      * not provide its own currency model.
@@ -0,0 +1,37 @@
+/*
+ * TransferSnapshot
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto;
+
+import com.google.common.base.Optional;
+
+/**
+ * The attributes of a transfer needed to display it, as they were when the snapshot was taken.
+ *
+ * Unlike the equivalent {@link Transfer} getters, none of these call into core; use {@link #getTransfer()}
+ * for anything not captured here or to observe later changes.
+ */
+public interface TransferSnapshot {
+
+    Transfer getTransfer();
+
+    Optional<? extends Address> getSource();
+
+    Optional<? extends Address> getTarget();
+
+    Amount getAmount();
+
+    Amount getAmountDirected();
+
+    TransferDirection getDirection();
+
+    Optional<? extends TransferHash> getHash();
+
+    TransferState getState();
+}
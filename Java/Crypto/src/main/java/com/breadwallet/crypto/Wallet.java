@@ -39,6 +39,15 @@ public interface Wallet {
 
     List<? extends Transfer> getTransfers();
 
+    /**
+     * Get snapshots of up to <code>count</code> transfers, starting at <code>offset</code> in the order of
+     * {@link #getTransfers()}.
+     *
+     * The snapshots for a whole page of transfers are filled in by a single call into core, making this the
+     * preferred way to display or export a long transfer history.
+     */
+    List<? extends TransferSnapshot> getTransferSnapshots(int offset, int count);
+
     Optional<? extends Transfer> getTransferByHash(TransferHash hash);
 
     Address getTarget();
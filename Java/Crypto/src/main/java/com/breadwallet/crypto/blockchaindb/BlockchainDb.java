@@ -23,6 +23,10 @@ import com.breadwallet.crypto.blockchaindb.apis.brd.EthGasApi;
 import com.breadwallet.crypto.blockchaindb.apis.brd.EthTokenApi;
 import com.breadwallet.crypto.blockchaindb.apis.brd.EthBlockApi;
 import com.breadwallet.crypto.blockchaindb.apis.brd.EthTransferApi;
+import com.breadwallet.crypto.blockchaindb.cache.CachingDataTask;
+import com.breadwallet.crypto.blockchaindb.cache.MemoryResponseCache;
+import com.breadwallet.crypto.blockchaindb.cache.ResponseCache;
+import com.breadwallet.crypto.blockchaindb.cache.TransactionCache;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.models.bdb.Block;
 import com.breadwallet.crypto.blockchaindb.models.bdb.Blockchain;
@@ -35,13 +39,15 @@ import com.breadwallet.crypto.blockchaindb.models.bdb.Transfer;
 import com.breadwallet.crypto.blockchaindb.models.brd.EthLog;
 import com.breadwallet.crypto.blockchaindb.models.brd.EthToken;
 import com.breadwallet.crypto.blockchaindb.models.brd.EthTransaction;
+import com.breadwallet.crypto.metrics.Metrics;
+import com.breadwallet.crypto.metrics.NoopMetrics;
 import com.breadwallet.crypto.utility.CompletionHandler;
+import com.breadwallet.crypto.utility.StreamingCompletionHandler;
 import com.google.common.primitives.UnsignedInteger;
 import com.google.common.primitives.UnsignedLong;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import okhttp3.OkHttpClient;
@@ -55,6 +61,15 @@ public class BlockchainDb {
 
     private final AtomicInteger ridGenerator;
 
+    private final CachingDataTask bdbCachingDataTask;
+    private final CachingDataTask apiCachingDataTask;
+
+    private final BdbApiClient bdbClient;
+    private final BrdApiClient brdClient;
+
+    private volatile Metrics metrics = NoopMetrics.INSTANCE;
+    private volatile RequestCoalescer coalescer = new RequestCoalescer();
+
     private final BlockApi blockApi;
     private final BlockchainApi blockchainApi;
     private final CurrencyApi currencyApi;
@@ -81,16 +96,62 @@ public class BlockchainDb {
                         @Nullable DataTask bdbDataTask,
                         @Nullable String apiBaseURL,
                         @Nullable DataTask apiDataTask) {
+        this(client, bdbBaseURL, bdbDataTask, apiBaseURL, apiDataTask, null);
+    }
+
+    public BlockchainDb(OkHttpClient client,
+                        @Nullable String bdbBaseURL,
+                        @Nullable DataTask bdbDataTask,
+                        @Nullable String apiBaseURL,
+                        @Nullable DataTask apiDataTask,
+                        @Nullable RequestScheduler scheduler) {
+        this(client, bdbBaseURL, bdbDataTask, apiBaseURL, apiDataTask, scheduler, null);
+    }
+
+    public BlockchainDb(OkHttpClient client,
+                        @Nullable String bdbBaseURL,
+                        @Nullable DataTask bdbDataTask,
+                        @Nullable String apiBaseURL,
+                        @Nullable DataTask apiDataTask,
+                        @Nullable RequestScheduler scheduler,
+                        @Nullable HttpTransport transport) {
+        this(client, bdbBaseURL, bdbDataTask, apiBaseURL, apiDataTask, scheduler, transport, null, null);
+    }
+
+    /**
+     * @param responseCache where cacheable query responses are kept; an in-memory cache when null
+     * @param transactionCache where the finalized transactions of each address are kept; none when null
+     *
+     * A BlockchainDb may be shared by several Systems, so its caches are chosen here, once, rather than
+     * by any one of them.
+     */
+    public BlockchainDb(OkHttpClient client,
+                        @Nullable String bdbBaseURL,
+                        @Nullable DataTask bdbDataTask,
+                        @Nullable String apiBaseURL,
+                        @Nullable DataTask apiDataTask,
+                        @Nullable RequestScheduler scheduler,
+                        @Nullable HttpTransport transport,
+                        @Nullable ResponseCache responseCache,
+                        @Nullable TransactionCache transactionCache) {
         bdbBaseURL = bdbBaseURL == null ? DEFAULT_BDB_BASE_URL : bdbBaseURL;
         apiBaseURL = apiBaseURL == null ? DEFAULT_API_BASE_URL : apiBaseURL;
 
         bdbDataTask = bdbDataTask == null ? DEFAULT_DATA_TASK : bdbDataTask;
         apiDataTask = apiDataTask == null ? DEFAULT_DATA_TASK : apiDataTask;
 
-        BdbApiClient bdbClient = new BdbApiClient(client, bdbBaseURL, bdbDataTask);
-        BrdApiClient brdClient = new BrdApiClient(client, apiBaseURL, apiDataTask);
+        scheduler = scheduler == null ? new RequestScheduler() : scheduler;
+        transport = transport == null ? new HttpTransport() : transport;
+
+        responseCache = responseCache == null ? new MemoryResponseCache() : responseCache;
+
+        this.bdbCachingDataTask = new CachingDataTask(scheduler.schedule(bdbDataTask), responseCache);
+        this.apiCachingDataTask = new CachingDataTask(scheduler.schedule(apiDataTask), responseCache);
 
-        ExecutorService executorService = Executors.newCachedThreadPool();
+        this.bdbClient = new BdbApiClient(transport.configure(client), bdbBaseURL, bdbCachingDataTask);
+        this.brdClient = new BrdApiClient(transport.configure(client), apiBaseURL, apiCachingDataTask);
+
+        ExecutorService executorService = scheduler.getExecutor();
 
         this.ridGenerator = new AtomicInteger(0);
 
@@ -99,7 +160,7 @@ public class BlockchainDb {
         this.currencyApi = new CurrencyApi(bdbClient);
         this.subscriptionApi = new SubscriptionApi(bdbClient);
         this.transferApi = new TransferApi(bdbClient, executorService);
-        this.transactionApi = new TransactionApi(bdbClient, executorService);
+        this.transactionApi = new TransactionApi(bdbClient, executorService, transactionCache);
 
         this.ethBalanceApi = new EthBalanceApi(brdClient);
         this.ethBlockApi = new EthBlockApi(brdClient);
@@ -117,13 +178,45 @@ public class BlockchainDb {
                                               String bdbAuthToken,
                                               @Nullable String bdbBaseURL,
                                               @Nullable String apiBaseURL) {
+        return createForTest(client, bdbAuthToken, bdbBaseURL, apiBaseURL, null, null);
+    }
+
+    public static BlockchainDb createForTest (OkHttpClient client,
+                                              String bdbAuthToken,
+                                              @Nullable String bdbBaseURL,
+                                              @Nullable String apiBaseURL,
+                                              @Nullable ResponseCache responseCache,
+                                              @Nullable TransactionCache transactionCache) {
         DataTask brdDataTask = (cli, request, callback) -> {
             Request decoratedRequest = request.newBuilder()
                     .header("Authorization", "Bearer " + bdbAuthToken)
                     .build();
             cli.newCall(decoratedRequest).enqueue(callback);
         };
-        return new BlockchainDb (client, bdbBaseURL, brdDataTask, apiBaseURL, null);
+        return new BlockchainDb (client, bdbBaseURL, brdDataTask, apiBaseURL, null, null, null, responseCache,
+                transactionCache);
+    }
+
+    // Metrics
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+        bdbClient.setMetrics(metrics);
+        brdClient.setMetrics(metrics);
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    // Coalescing
+
+    public void setRequestCoalescer(RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    public RequestCoalescer getRequestCoalescer() {
+        return coalescer;
     }
 
     // Blockchain
@@ -133,11 +226,13 @@ public class BlockchainDb {
     }
 
     public void getBlockchains(boolean isMainnet, CompletionHandler<List<Blockchain>, QueryError> handler) {
-        blockchainApi.getBlockchains(isMainnet, handler);
+        coalescer.execute("blockchains:" + isMainnet, handler,
+                h -> blockchainApi.getBlockchains(isMainnet, h));
     }
 
     public void getBlockchain(String id, CompletionHandler<Blockchain, QueryError> handler) {
-        blockchainApi.getBlockchain(id, handler);
+        coalescer.execute("blockchain:" + id, handler,
+                h -> blockchainApi.getBlockchain(id, h));
     }
 
     // Currency
@@ -225,6 +320,17 @@ public class BlockchainDb {
                 maxPageSize, handler);
     }
 
+    public void getTransactions(String id, List<String> addresses,
+                                UnsignedLong beginBlockNumber,
+                                UnsignedLong endBlockNumber,
+                                boolean includeRaw,
+                                boolean includeProof,
+                                @Nullable Integer maxPageSize,
+                                StreamingCompletionHandler<List<Transaction>, QueryError> handler) {
+        transactionApi.getTransactions(id, addresses, beginBlockNumber, endBlockNumber, includeRaw, includeProof,
+                maxPageSize, handler);
+    }
+
     public void getTransaction(String id, boolean includeRaw, boolean includeProof,
                                CompletionHandler<Transaction, QueryError> handler) {
         transactionApi.getTransaction(id, includeRaw, includeProof, handler);
@@ -270,7 +376,8 @@ public class BlockchainDb {
     // ETH Gas
 
     public void getGasPriceAsEth(String networkName, CompletionHandler<String, QueryError> handler) {
-        ethGasApi.getGasPriceAsEth(networkName, ridGenerator.getAndIncrement(), handler);
+        coalescer.execute("gasPrice:" + networkName, handler,
+                h -> ethGasApi.getGasPriceAsEth(networkName, ridGenerator.getAndIncrement(), h));
     }
 
     public void getGasEstimateAsEth(String networkName, String from, String to, String amount, String data,
@@ -281,13 +388,15 @@ public class BlockchainDb {
     // ETH Token
 
     public void getTokensAsEth(CompletionHandler<List<EthToken>, QueryError> handler) {
-        ethTokenApi.getTokensAsEth(ridGenerator.getAndIncrement(), handler);
+        coalescer.execute("tokens", handler,
+                h -> ethTokenApi.getTokensAsEth(ridGenerator.getAndIncrement(), h));
     }
 
     // ETH Block
 
     public void getBlockNumberAsEth(String networkName, CompletionHandler<String, QueryError> handler) {
-        ethBlockApi.getBlockNumberAsEth(networkName, ridGenerator.getAndIncrement(), handler);
+        coalescer.execute("blockNumber:" + networkName, handler,
+                h -> ethBlockApi.getBlockNumberAsEth(networkName, ridGenerator.getAndIncrement(), h));
     }
 
     // ETH Transfer
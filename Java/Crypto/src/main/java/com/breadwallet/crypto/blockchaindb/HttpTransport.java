@@ -0,0 +1,70 @@
+/*
+ * HttpTransport
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Derives, from the OkHttpClient handed to BlockchainDb, a client for each of the BlockchainDB and
+ * BRD hosts with its own dispatcher and connection pool, so that a bulk history download against one
+ * host neither holds the other's sockets nor queues behind its calls.
+ *
+ * Each pool keeps few connections, but keeps them open for longer than OkHttp's default, to suit the
+ * periodic polls made against each host. Protocol and compression are left to OkHttp, which already
+ * offers HTTP/2 and asks for, and decodes, gzip.
+ */
+public final class HttpTransport {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 2;
+    public static final long DEFAULT_KEEP_ALIVE_SECONDS = 120;
+
+    private final int maxRequestsPerHost;
+    private final int maxIdleConnections;
+    private final long keepAliveSeconds;
+
+    public HttpTransport() {
+        this(RequestScheduler.DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_IDLE_CONNECTIONS, DEFAULT_KEEP_ALIVE_SECONDS);
+    }
+
+    /**
+     * @param maxRequestsPerHost the calls the dispatcher runs at once against a host; this should be no
+     *                           less than the RequestScheduler's limit, which otherwise goes unused
+     * @param maxIdleConnections the connections kept open between calls, per host
+     * @param keepAliveSeconds   the time an idle connection is kept open for
+     */
+    public HttpTransport(int maxRequestsPerHost, int maxIdleConnections, long keepAliveSeconds) {
+        checkArgument(maxRequestsPerHost > 0);
+        checkArgument(maxIdleConnections >= 0);
+        checkArgument(keepAliveSeconds > 0);
+
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.maxIdleConnections = maxIdleConnections;
+        this.keepAliveSeconds = keepAliveSeconds;
+    }
+
+    /* package */
+    OkHttpClient configure(OkHttpClient client) {
+        // a host gets one dispatcher, so its limit across hosts is the per-host limit
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequestsPerHost);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return client.newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .build();
+    }
+}
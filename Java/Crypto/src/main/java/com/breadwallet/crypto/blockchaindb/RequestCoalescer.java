@@ -0,0 +1,250 @@
+/*
+ * RequestCoalescer
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import android.util.Log;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Shares one query among every caller that asks for the same resource while it is outstanding, as
+ * happens when several wallet managers (or Systems) poll the same blockchain at once. Optionally, a
+ * successful result keeps answering the same request for a short freshness window afterwards.
+ *
+ * Every caller is handed the same result instance, which it must not modify. Errors are never kept.
+ *
+ * A query that hasn't answered within the flight timeout is given up on: its callers are failed and
+ * the next request for the same resource goes back out. Results past their freshness window are
+ * dropped as further requests come in.
+ */
+public final class RequestCoalescer {
+
+    public static final long DEFAULT_FLIGHT_TIMEOUT_SECONDS = 120;
+
+    private static final String TAG = RequestCoalescer.class.getName();
+
+    /* package */
+    interface Query<T> {
+        void execute(CompletionHandler<T, QueryError> handler);
+    }
+
+    private final long freshForNanos;
+    private final long flightTimeoutNanos;
+
+    // guarded by this
+    private final Map<String, Flight<?>> flights;
+    private long hitCount;
+    private long missCount;
+
+    public RequestCoalescer() {
+        this(0, TimeUnit.MILLISECONDS);
+    }
+
+    public RequestCoalescer(long freshFor, TimeUnit unit) {
+        this(unit.toNanos(freshFor), TimeUnit.SECONDS.toNanos(DEFAULT_FLIGHT_TIMEOUT_SECONDS), TimeUnit.NANOSECONDS);
+    }
+
+    public RequestCoalescer(long freshFor, long flightTimeout, TimeUnit unit) {
+        checkArgument(freshFor >= 0);
+        checkArgument(flightTimeout > 0);
+
+        this.freshForNanos = unit.toNanos(freshFor);
+        this.flightTimeoutNanos = unit.toNanos(flightTimeout);
+        this.flights = new HashMap<>();
+    }
+
+    // Requests answered by a query already in flight, or by a fresh result
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    // Requests that went to the network
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /* package */
+    synchronized int getFlightCount() {
+        return flights.size();
+    }
+
+    /* package */
+    <T> void execute(String key, CompletionHandler<T, QueryError> handler, Query<T> query) {
+        Flight<T> flight = null;
+        boolean joined = false;
+        T freshData = null;
+        List<Runnable> abandoned;
+
+        synchronized (this) {
+            long now = System.nanoTime();
+            abandoned = evict(now);
+
+            @SuppressWarnings("unchecked")
+            Flight<T> existing = (Flight<T>) flights.get(key);
+
+            if (null == existing) {
+                missCount += 1;
+                flight = new Flight<>(now);
+                flight.handlers.add(handler);
+                flights.put(key, flight);
+
+            } else if (!existing.isComplete()) {
+                hitCount += 1;
+                existing.handlers.add(handler);
+                joined = true;
+
+            } else {
+                // anything complete that survived eviction is fresh
+                hitCount += 1;
+                freshData = existing.data;
+            }
+        }
+
+        for (Runnable failure : abandoned) {
+            failure.run();
+        }
+
+        if (joined) {
+            return;
+
+        } else if (null == flight) {
+            handler.handleData(freshData);
+            return;
+        }
+
+        Flight<T> started = flight;
+        CompletionHandler<T, QueryError> completion = new CompletionHandler<T, QueryError>() {
+            @Override
+            public void handleData(T data) {
+                List<CompletionHandler<T, QueryError>> handlers;
+                synchronized (RequestCoalescer.this) {
+                    if (started.isComplete()) {
+                        // already given up on
+                        return;
+                    }
+
+                    handlers = started.complete(data, System.nanoTime());
+                    if (0 == freshForNanos) {
+                        flights.remove(key);
+                    }
+                }
+
+                for (CompletionHandler<T, QueryError> handler : handlers) {
+                    try {
+                        handler.handleData(data);
+                    } catch (RuntimeException e) {
+                        Log.e(TAG, "handler failed for " + key, e);
+                    }
+                }
+            }
+
+            @Override
+            public void handleError(QueryError error) {
+                List<CompletionHandler<T, QueryError>> handlers;
+                synchronized (RequestCoalescer.this) {
+                    if (started.isComplete()) {
+                        return;
+                    }
+
+                    handlers = started.complete(null, 0);
+                    flights.remove(key);
+                }
+
+                failAll(key, handlers, error);
+            }
+        };
+
+        try {
+            query.execute(completion);
+        } catch (RuntimeException e) {
+            completion.handleError(new QuerySubmissionError(e.getMessage()));
+        }
+    }
+
+    // Drop results past their freshness window and give up on flights past their timeout; returns the
+    // failures to deliver to the latter's callers once the lock is released
+    private List<Runnable> evict(long nowNanos) {
+        List<Runnable> abandoned = new ArrayList<>();
+
+        Iterator<Map.Entry<String, Flight<?>>> iterator = flights.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Flight<?>> entry = iterator.next();
+            Flight<?> flight = entry.getValue();
+
+            if (flight.isComplete()) {
+                if (!flight.isFresh(nowNanos, freshForNanos)) {
+                    iterator.remove();
+                }
+
+            } else if (nowNanos - flight.startedAtNanos >= flightTimeoutNanos) {
+                iterator.remove();
+                abandoned.add(abandon(entry.getKey(), flight));
+            }
+        }
+
+        return abandoned;
+    }
+
+    private static <T> Runnable abandon(String key, Flight<T> flight) {
+        List<CompletionHandler<T, QueryError>> handlers = flight.complete(null, 0);
+        return () -> failAll(key, handlers, new QuerySubmissionError("timed out"));
+    }
+
+    private static <T> void failAll(String key, List<CompletionHandler<T, QueryError>> handlers, QueryError error) {
+        for (CompletionHandler<T, QueryError> handler : handlers) {
+            try {
+                handler.handleError(error);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "handler failed for " + key, e);
+            }
+        }
+    }
+
+    // guarded by the coalescer
+    private static final class Flight<T> {
+
+        private final long startedAtNanos;
+        private List<CompletionHandler<T, QueryError>> handlers = new ArrayList<>();
+
+        private T data;
+        private long completedAtNanos;
+
+        Flight(long startedAtNanos) {
+            this.startedAtNanos = startedAtNanos;
+        }
+
+        boolean isComplete() {
+            return null == handlers;
+        }
+
+        boolean isFresh(long nowNanos, long freshForNanos) {
+            return isComplete() && nowNanos - completedAtNanos < freshForNanos;
+        }
+
+        List<CompletionHandler<T, QueryError>> complete(T data, long nowNanos) {
+            List<CompletionHandler<T, QueryError>> waiting = handlers;
+            this.handlers = null;
+            this.data = data;
+            this.completedAtNanos = nowNanos;
+            return waiting;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * RequestScheduler
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Limits the number of requests that BlockchainDb has outstanding against any one host and hands out
+ * the available slots round-robin across blockchains, so that one large wallet sync can neither flood
+ * a host nor starve the queries made on behalf of other blockchains.
+ */
+public final class RequestScheduler {
+
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 4;
+    public static final int DEFAULT_MAX_WORKER_THREADS = 2;
+
+    private static final String BLOCKCHAIN_ID_PARAMETER = "blockchain_id";
+    private static final String DEFAULT_QUEUE_KEY = "";
+
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30;
+
+    private final int maxRequestsPerHost;
+    private final ThreadPoolExecutor executor;
+
+    // guarded by this
+    private final Map<String, HostQueue> hostQueues;
+
+    public RequestScheduler() {
+        this(DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_WORKER_THREADS);
+    }
+
+    public RequestScheduler(int maxRequestsPerHost, int maxWorkerThreads) {
+        checkArgument(maxRequestsPerHost > 0);
+        checkArgument(maxWorkerThreads > 0);
+
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        this.hostQueues = new HashMap<>();
+
+        this.executor = new ThreadPoolExecutor(maxWorkerThreads, maxWorkerThreads,
+                WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("blockchaindb-worker-%d").setDaemon(true).build());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public synchronized int getQueuedRequestCount() {
+        int count = 0;
+        for (HostQueue hostQueue : hostQueues.values()) {
+            count += hostQueue.queuedCount;
+        }
+        return count;
+    }
+
+    public synchronized int getInFlightRequestCount() {
+        int count = 0;
+        for (HostQueue hostQueue : hostQueues.values()) {
+            count += hostQueue.inFlightCount;
+        }
+        return count;
+    }
+
+    /* package */
+    ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /* package */
+    DataTask schedule(DataTask dataTask) {
+        return (client, request, callback) -> enqueue(new PendingRequest(dataTask, client, request, callback));
+    }
+
+    private void enqueue(PendingRequest pendingRequest) {
+        List<PendingRequest> ready;
+
+        synchronized (this) {
+            HostQueue hostQueue = hostQueues.get(pendingRequest.host);
+            if (null == hostQueue) {
+                hostQueue = new HostQueue();
+                hostQueues.put(pendingRequest.host, hostQueue);
+            }
+
+            hostQueue.add(pendingRequest);
+            ready = hostQueue.promote(maxRequestsPerHost);
+        }
+
+        executeAll(ready);
+    }
+
+    private void finished(PendingRequest pendingRequest) {
+        List<PendingRequest> ready;
+
+        synchronized (this) {
+            HostQueue hostQueue = hostQueues.get(pendingRequest.host);
+            hostQueue.inFlightCount -= 1;
+            ready = hostQueue.promote(maxRequestsPerHost);
+
+            if (hostQueue.isIdle()) {
+                hostQueues.remove(pendingRequest.host);
+            }
+        }
+
+        executeAll(ready);
+    }
+
+    private static void executeAll(List<PendingRequest> ready) {
+        for (PendingRequest request : ready) {
+            request.execute();
+        }
+    }
+
+    // Per-host state; each blockchain gets its own FIFO and the FIFOs take turns at the free slots
+    private static final class HostQueue {
+
+        private final Map<String, Queue<PendingRequest>> queues = new HashMap<>();
+        private final Deque<String> rotation = new ArrayDeque<>();
+
+        private int queuedCount;
+        private int inFlightCount;
+
+        void add(PendingRequest request) {
+            Queue<PendingRequest> queue = queues.get(request.queueKey);
+            if (null == queue) {
+                queue = new ArrayDeque<>();
+                queues.put(request.queueKey, queue);
+                rotation.addLast(request.queueKey);
+            }
+
+            queue.add(request);
+            queuedCount += 1;
+        }
+
+        List<PendingRequest> promote(int maxInFlight) {
+            List<PendingRequest> ready = new ArrayList<>();
+
+            while (inFlightCount < maxInFlight && !rotation.isEmpty()) {
+                String key = rotation.removeFirst();
+                Queue<PendingRequest> queue = queues.get(key);
+
+                ready.add(queue.remove());
+                queuedCount -= 1;
+                inFlightCount += 1;
+
+                if (queue.isEmpty()) {
+                    queues.remove(key);
+                } else {
+                    rotation.addLast(key);
+                }
+            }
+
+            return ready;
+        }
+
+        boolean isIdle() {
+            return inFlightCount == 0 && queuedCount == 0;
+        }
+    }
+
+    private final class PendingRequest implements Callback {
+
+        private final DataTask dataTask;
+        private final OkHttpClient client;
+        private final Request request;
+        private final Callback callback;
+
+        private final String host;
+        private final String queueKey;
+
+        PendingRequest(DataTask dataTask, OkHttpClient client, Request request, Callback callback) {
+            this.dataTask = dataTask;
+            this.client = client;
+            this.request = request;
+            this.callback = callback;
+
+            String blockchainId = request.url().queryParameter(BLOCKCHAIN_ID_PARAMETER);
+            this.host = request.url().host();
+            this.queueKey = null == blockchainId ? DEFAULT_QUEUE_KEY : blockchainId;
+        }
+
+        void execute() {
+            // this may be running on the thread finishing some other request, so a request that fails to
+            // start reports the failure to its own callback, which also releases its slot
+            try {
+                dataTask.execute(client, request, this);
+            } catch (RuntimeException e) {
+                onFailure(client.newCall(request), new IOException(e));
+            }
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) throws IOException {
+            // the slot is held until the response has been consumed by the callback
+            try {
+                callback.onResponse(call, response);
+            } finally {
+                finished(this);
+            }
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            try {
+                callback.onFailure(call, e);
+            } finally {
+                finished(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * CountingResponseBody
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis;
+
+import android.support.annotation.Nullable;
+
+import java.io.IOException;
+
+import okhttp3.MediaType;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
+
+// Counts the bytes read from a response body; the Content-Length header can't be relied on for
+// this as it is dropped when the body arrives compressed.
+public final class CountingResponseBody extends ResponseBody {
+
+    private final ResponseBody body;
+    private final BufferedSource source;
+
+    private long byteCount;
+
+    public CountingResponseBody(ResponseBody body) {
+        this.body = body;
+        this.source = Okio.buffer(new ForwardingSource(body.source()) {
+            @Override
+            public long read(Buffer sink, long count) throws IOException {
+                long read = super.read(sink, count);
+                if (read != -1) {
+                    byteCount += read;
+                }
+                return read;
+            }
+        });
+    }
+
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    @Nullable
+    @Override
+    public MediaType contentType() {
+        return body.contentType();
+    }
+
+    @Override
+    public long contentLength() {
+        return body.contentLength();
+    }
+
+    @Override
+    public BufferedSource source() {
+        return source;
+    }
+}
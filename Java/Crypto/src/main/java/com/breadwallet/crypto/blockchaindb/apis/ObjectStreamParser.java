@@ -0,0 +1,21 @@
+/*
+ * ObjectStreamParser
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis;
+
+import android.util.JsonReader;
+
+import com.google.common.base.Optional;
+
+import java.io.IOException;
+
+// Parses a single JSON object, consuming it from the reader's current position
+public interface ObjectStreamParser<T> {
+    Optional<T> parse(JsonReader reader) throws IOException;
+}
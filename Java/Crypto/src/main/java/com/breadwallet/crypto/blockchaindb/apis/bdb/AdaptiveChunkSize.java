@@ -0,0 +1,62 @@
+/*
+ * AdaptiveChunkSize
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.bdb;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/* package */
+class AdaptiveChunkSize {
+
+    private static final int MIN_COUNT = 10;
+    private static final int MAX_COUNT = 100;
+    private static final int STEP_COUNT = 10;
+
+    private static final long SLOW_CHUNK_MILLIS = 10_000;
+    private static final long FAST_CHUNK_MILLIS = 2_000;
+
+    private final int initialCount;
+    private final Map<String, Integer> counts;
+
+    /* package */
+    AdaptiveChunkSize(int initialCount) {
+        this.initialCount = initialCount;
+        this.counts = new ConcurrentHashMap<>();
+    }
+
+    /* package */
+    int get(String blockchainId) {
+        Integer count = counts.get(blockchainId);
+        return count == null ? initialCount : count;
+    }
+
+    /* package */
+    long start() {
+        return System.nanoTime();
+    }
+
+    // Halve the chunk when a chunk spilled over into more than one page or took too long; grow it
+    // slowly while chunks come back in a single, quick page.
+    /* package */
+    void record(String blockchainId, int chunkCount, int pageCount, long startNanos) {
+        long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+        int count = get(blockchainId);
+        if (pageCount > 1 || elapsedMillis > SLOW_CHUNK_MILLIS) {
+            count = Math.max(MIN_COUNT, Math.min(count, chunkCount) / 2);
+        } else if (elapsedMillis < FAST_CHUNK_MILLIS && chunkCount >= count) {
+            count = Math.min(MAX_COUNT, count + STEP_COUNT);
+        } else {
+            return;
+        }
+
+        counts.put(blockchainId, count);
+    }
+}
@@ -8,20 +8,27 @@
 package com.breadwallet.crypto.blockchaindb.apis.bdb;
 
 import android.support.annotation.Nullable;
+import android.util.JsonReader;
 import android.util.Log;
+import android.util.MalformedJsonException;
 
 import com.breadwallet.crypto.blockchaindb.DataTask;
 import com.breadwallet.crypto.blockchaindb.apis.ArrayResponseParser;
+import com.breadwallet.crypto.blockchaindb.apis.CountingResponseBody;
 import com.breadwallet.crypto.blockchaindb.apis.HttpStatusCodes;
 import com.breadwallet.crypto.blockchaindb.apis.ObjectResponseParser;
+import com.breadwallet.crypto.blockchaindb.apis.ObjectStreamParser;
 import com.breadwallet.crypto.blockchaindb.apis.PageInfo;
 import com.breadwallet.crypto.blockchaindb.apis.PagedCompletionHandler;
+import com.breadwallet.crypto.blockchaindb.cache.CachePolicy;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryJsonParseError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryModelError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryNoDataError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
 import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.metrics.Metrics;
+import com.breadwallet.crypto.metrics.NoopMetrics;
 import com.breadwallet.crypto.utility.CompletionHandler;
 import com.google.common.base.Optional;
 import com.google.common.collect.Multimap;
@@ -31,6 +38,7 @@ import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -59,12 +67,18 @@ public class BdbApiClient {
     private final String baseUrl;
     private final DataTask dataTask;
 
+    private volatile Metrics metrics = NoopMetrics.INSTANCE;
+
     public BdbApiClient(OkHttpClient client, String baseUrl, DataTask dataTask) {
         this.client = client;
         this.baseUrl = baseUrl;
         this.dataTask = dataTask;
     }
 
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
     // Create (Crud)
 
     void sendPost(String resource, Multimap<String, String> params, JSONObject json,
@@ -103,17 +117,24 @@ public class BdbApiClient {
     /* package */
     <T> void sendGetForArray(String resource, Multimap<String, String> params, ArrayResponseParser<T> parser,
                              CompletionHandler<T, QueryError> handler) {
+        sendGetForArray(resource, params, null, parser, handler);
+    }
+
+    /* package */
+    <T> void sendGetForArray(String resource, Multimap<String, String> params, @Nullable CachePolicy cachePolicy,
+                             ArrayResponseParser<T> parser, CompletionHandler<T, QueryError> handler) {
         makeAndSendRequest(
                 Collections.singletonList(resource),
                 params,
                 null,
                 "GET",
+                cachePolicy,
                 new EmbeddedArrayResponseHandler<>(resource, parser, handler));
     }
 
     /* package */
-    <T> void sendGetForArrayWithPaging(String resource, Multimap<String, String> params, ArrayResponseParser<T> parser,
-                                       PagedCompletionHandler<T, QueryError> handler) {
+    <T> void sendGetForArrayWithPaging(String resource, Multimap<String, String> params, ObjectStreamParser<T> parser,
+                                       PagedCompletionHandler<List<T>, QueryError> handler) {
         makeAndSendRequest(
                 Collections.singletonList(resource),
                 params,
@@ -123,9 +144,10 @@ public class BdbApiClient {
     }
 
     /* package */
-    <T> void sendGetForArrayWithPaging(String resource, String url, ArrayResponseParser<T> parser,
-                                       PagedCompletionHandler<T, QueryError> handler) {
+    <T> void sendGetForArrayWithPaging(String resource, String url, ObjectStreamParser<T> parser,
+                                       PagedCompletionHandler<List<T>, QueryError> handler) {
         makeAndSendRequest(
+                resource,
                 url,
                 "GET",
                 new EmbeddedPagedArrayResponseHandler<>(resource, parser, handler));
@@ -177,7 +199,8 @@ public class BdbApiClient {
                 new EmptyResponseHandler(handler));
     }
 
-    private <T> void makeAndSendRequest(String url,
+    private <T> void makeAndSendRequest(String resource,
+                                        String url,
                                         String httpMethod,
                                         ResponseHandler<T> handler) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(url).newBuilder();
@@ -189,7 +212,7 @@ public class BdbApiClient {
         requestBuilder.header("Accept", "application/json");
         requestBuilder.method(httpMethod, null);
 
-        sendRequest(requestBuilder.build(), dataTask, handler);
+        sendRequest(requestBuilder.build(), httpMethod + " " + resource, dataTask, handler);
     }
 
     private <T> void makeAndSendRequest(List<String> pathSegments,
@@ -197,6 +220,15 @@ public class BdbApiClient {
                                         @Nullable JSONObject json,
                                         String httpMethod,
                                         ResponseHandler<T> handler) {
+        makeAndSendRequest(pathSegments, params, json, httpMethod, null, handler);
+    }
+
+    private <T> void makeAndSendRequest(List<String> pathSegments,
+                                        Multimap<String, String> params,
+                                        @Nullable JSONObject json,
+                                        String httpMethod,
+                                        @Nullable CachePolicy cachePolicy,
+                                        ResponseHandler<T> handler) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl).newBuilder();
 
         for (String segment : pathSegments) {
@@ -216,14 +248,23 @@ public class BdbApiClient {
         requestBuilder.url(httpUrl);
         requestBuilder.header("Accept", "application/json");
         requestBuilder.method(httpMethod, json == null ? null : RequestBody.create(MEDIA_TYPE_JSON, json.toString()));
+        requestBuilder.tag(CachePolicy.class, cachePolicy);
 
-        sendRequest(requestBuilder.build(), dataTask, handler);
+        // label requests by resource, with any id elided, so that they aggregate by endpoint
+        String endpoint = httpMethod + " " + pathSegments.get(0) + (pathSegments.size() > 1 ? "/{id}" : "");
+        sendRequest(requestBuilder.build(), endpoint, dataTask, handler);
     }
 
-    private <T> void sendRequest(Request request, DataTask dataTask, ResponseHandler<T> handler) {
+    private <T> void sendRequest(Request request, String endpoint, DataTask dataTask, ResponseHandler<T> responseHandler) {
+        Metrics metrics = this.metrics;
+        String blockchainId = request.url().queryParameter("blockchain_id");
+        ResponseHandler<T> handler = new MeteredResponseHandler<>(responseHandler, metrics, endpoint, blockchainId);
+
+        long sentNanos = System.nanoTime();
         dataTask.execute(client, request, new Callback() {
             @Override
             public void onResponse(Call call, Response response) throws IOException {
+                long latencyNanos = System.nanoTime() - sentNanos;
                 int responseCode = response.code();
                 if (HttpStatusCodes.responseSuccess(request.method()).contains(responseCode)) {
                     try (ResponseBody responseBody = response.body()) {
@@ -231,15 +272,24 @@ public class BdbApiClient {
                             Log.e(TAG, "response failed with null body");
                             handler.handleError(new QueryNoDataError());
                         } else {
-                            T data = null;
+                            CountingResponseBody countingBody = new CountingResponseBody(responseBody);
+                            long parseStartNanos = System.nanoTime();
+                            T data;
 
                             try {
-                                data = handler.parseResponse(responseBody.string());
-                            } catch (JSONException e) {
+                                data = handler.parseResponse(countingBody);
+                            } catch (JSONException | MalformedJsonException e) {
                                 Log.e(TAG, "response failed parsing json", e);
                                 handler.handleError(new QueryJsonParseError(e.getMessage()));
+                                return;
+                            } catch (IOException e) {
+                                Log.e(TAG, "response failed reading body", e);
+                                handler.handleError(new QuerySubmissionError(e.getMessage()));
+                                return;
                             }
 
+                            metrics.recordQuery(endpoint, blockchainId, latencyNanos, System.nanoTime() - parseStartNanos,
+                                    countingBody.getByteCount(), handler.countItems(data));
                             handler.handleResponse(data);
                         }
                     }
@@ -258,11 +308,49 @@ public class BdbApiClient {
     }
 
     private interface ResponseHandler<R> {
-        R parseResponse(String responseRaw) throws JSONException;
+        R parseResponse(ResponseBody responseBody) throws JSONException, IOException;
+        int countItems(R responseData);
         void handleResponse(R responseData);
         void handleError(QueryError error);
     }
 
+    // Records every error, from transport through to the model, against the request's endpoint
+    private static class MeteredResponseHandler<R> implements ResponseHandler<R> {
+
+        private final ResponseHandler<R> handler;
+        private final Metrics metrics;
+        private final String endpoint;
+        private final @Nullable String blockchainId;
+
+        MeteredResponseHandler(ResponseHandler<R> handler, Metrics metrics, String endpoint, @Nullable String blockchainId) {
+            this.handler = handler;
+            this.metrics = metrics;
+            this.endpoint = endpoint;
+            this.blockchainId = blockchainId;
+        }
+
+        @Override
+        public R parseResponse(ResponseBody responseBody) throws JSONException, IOException {
+            return handler.parseResponse(responseBody);
+        }
+
+        @Override
+        public int countItems(R responseData) {
+            return handler.countItems(responseData);
+        }
+
+        @Override
+        public void handleResponse(R responseData) {
+            handler.handleResponse(responseData);
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            metrics.recordQueryError(endpoint, blockchainId, error);
+            handler.handleError(error);
+        }
+    }
+
     private static class EmptyResponseHandler implements ResponseHandler<Void> {
 
         private final CompletionHandler<Void, QueryError> handler;
@@ -272,11 +360,17 @@ public class BdbApiClient {
         }
 
         @Override
-        public Void parseResponse(String responseRaw) {
-            checkState(responseRaw == null || responseRaw.length() == 0);
+        public Void parseResponse(ResponseBody responseBody) throws IOException {
+            String responseRaw = responseBody.string();
+            checkState(responseRaw.length() == 0);
             return null;
         }
 
+        @Override
+        public int countItems(Void responseData) {
+            return 0;
+        }
+
         @Override
         public void handleResponse(Void response) {
             handler.handleData(null);
@@ -299,8 +393,13 @@ public class BdbApiClient {
         }
 
         @Override
-        public JSONObject parseResponse(String responseRaw) throws JSONException {
-            return new JSONObject(responseRaw);
+        public JSONObject parseResponse(ResponseBody responseBody) throws JSONException, IOException {
+            return new JSONObject(responseBody.string());
+        }
+
+        @Override
+        public int countItems(JSONObject responseData) {
+            return 1;
         }
 
         @Override
@@ -339,8 +438,14 @@ public class BdbApiClient {
         }
 
         @Override
-        public JSONObject parseResponse(String responseRaw) throws JSONException {
-            return new JSONObject(responseRaw);
+        public JSONObject parseResponse(ResponseBody responseBody) throws JSONException, IOException {
+            return new JSONObject(responseBody.string());
+        }
+
+        @Override
+        public int countItems(JSONObject responseData) {
+            JSONArray jsonEmbeddedData = getEmbeddedData(responseData);
+            return jsonEmbeddedData == null ? 0 : jsonEmbeddedData.length();
         }
 
         @Override
@@ -349,8 +454,7 @@ public class BdbApiClient {
             checkState(pageInfo.nextUrl == null);
             checkState(pageInfo.prevUrl== null);
 
-            JSONObject jsonEmbedded = responseData.optJSONObject("_embedded");
-            JSONArray jsonEmbeddedData = jsonEmbedded == null ? new JSONArray() : jsonEmbedded.optJSONArray(path);
+            JSONArray jsonEmbeddedData = getEmbeddedData(responseData);
 
             Optional<T> data = parser.parse(jsonEmbeddedData);
             if (data.isPresent()) {
@@ -367,36 +471,69 @@ public class BdbApiClient {
         public void handleError(QueryError error) {
             handler.handleError(error);
         }
+
+        @Nullable
+        private JSONArray getEmbeddedData(JSONObject responseData) {
+            JSONObject jsonEmbedded = responseData.optJSONObject("_embedded");
+            return jsonEmbedded == null ? new JSONArray() : jsonEmbedded.optJSONArray(path);
+        }
     }
 
-    private static class EmbeddedPagedArrayResponseHandler<T> implements ResponseHandler<JSONObject> {
+    private static class EmbeddedPagedArrayResponseHandler<T> implements ResponseHandler<EmbeddedPage<T>> {
 
         private final String path;
-        private final ArrayResponseParser<T> parser;
-        private final PagedCompletionHandler<T, QueryError> handler;
+        private final ObjectStreamParser<T> parser;
+        private final PagedCompletionHandler<List<T>, QueryError> handler;
 
-
-        EmbeddedPagedArrayResponseHandler(String path, ArrayResponseParser<T> parser, PagedCompletionHandler<T, QueryError> handler) {
+        EmbeddedPagedArrayResponseHandler(String path, ObjectStreamParser<T> parser,
+                                          PagedCompletionHandler<List<T>, QueryError> handler) {
             this.path = path;
             this.parser = parser;
             this.handler = handler;
         }
 
+        // Pull the page straight off the body's byte stream, decoding each embedded item as it is
+        // reached, rather than materializing the body as a String and a JSONObject tree first.
         @Override
-        public JSONObject parseResponse(String responseRaw) throws JSONException {
-            return new JSONObject(responseRaw);
+        public EmbeddedPage<T> parseResponse(ResponseBody responseBody) throws IOException {
+            List<T> items = new ArrayList<>();
+            PageInfo pageInfo = new PageInfo(null, null, null);
+
+            try (JsonReader reader = new JsonReader(responseBody.charStream())) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    switch (reader.nextName()) {
+                        case "_embedded":
+                            if (!readEmbedded(reader, items)) {
+                                return new EmbeddedPage<>(null, pageInfo);
+                            }
+                            break;
+                        case "_links":
+                            pageInfo = readPageInfo(reader);
+                            break;
+                        default:
+                            reader.skipValue();
+                            break;
+                    }
+                }
+                reader.endObject();
+
+            } catch (IllegalStateException e) {
+                throw new MalformedJsonException(e.getMessage());
+            }
+
+            return new EmbeddedPage<>(items, pageInfo);
         }
 
         @Override
-        public void handleResponse(JSONObject json) {
-            PageInfo pageInfo = getPageInfo(json);
-
-            JSONObject jsonEmbedded = json.optJSONObject("_embedded");
-            JSONArray jsonEmbeddedData = jsonEmbedded == null ? new JSONArray() : jsonEmbedded.optJSONArray(path);
+        public int countItems(EmbeddedPage<T> page) {
+            return page.items == null ? 0 : page.items.size();
+        }
 
-            Optional<T> data = parser.parse(jsonEmbeddedData);
-            if (data.isPresent()) {
-                handler.handleData(data.get(), pageInfo);
+        @Override
+        public void handleResponse(EmbeddedPage<T> page) {
+            if (page.items != null) {
+                handler.handleData(page.items, page.info);
 
             } else {
                 QueryError e = new QueryModelError("Transform error");
@@ -409,6 +546,75 @@ public class BdbApiClient {
         public void handleError(QueryError error) {
             handler.handleError(error);
         }
+
+        private boolean readEmbedded(JsonReader reader, List<T> items) throws IOException {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (path.equals(reader.nextName())) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        Optional<T> item = parser.parse(reader);
+                        if (!item.isPresent()) {
+                            return false;
+                        }
+                        items.add(item.get());
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return true;
+        }
+    }
+
+    private static final class EmbeddedPage<T> {
+
+        @Nullable
+        final List<T> items;
+        final PageInfo info;
+
+        EmbeddedPage(@Nullable List<T> items, PageInfo info) {
+            this.items = items;
+            this.info = info;
+        }
+    }
+
+    private static PageInfo readPageInfo(JsonReader reader) throws IOException {
+        String nextUrl = null;
+        String prevUrl = null;
+        String selfUrl = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "next": nextUrl = readHref(reader); break;
+                case "prev": prevUrl = readHref(reader); break;
+                case "self": selfUrl = readHref(reader); break;
+                default:     reader.skipValue(); break;
+            }
+        }
+        reader.endObject();
+
+        return new PageInfo(nextUrl, prevUrl, selfUrl);
+    }
+
+    @Nullable
+    private static String readHref(JsonReader reader) throws IOException {
+        String href = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("href".equals(reader.nextName())) {
+                href = reader.nextString();
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return href;
     }
 
     private static PageInfo getPageInfo(JSONObject json) {
@@ -54,7 +54,7 @@ public class BlockApi {
         ImmutableMultimap<String, String> params = paramsBuilder.build();
 
         PagedCompletionHandler<List<Block>, QueryError> pagedHandler = createPagedResultsHandler(handler);
-        jsonClient.sendGetForArrayWithPaging("blocks", params, Block::asBlocks, pagedHandler);
+        jsonClient.sendGetForArrayWithPaging("blocks", params, Block::asBlock, pagedHandler);
     }
 
     public void getBlock(String id, boolean includeRaw,
@@ -74,7 +74,7 @@ public class BlockApi {
     }
 
     private void getNextBlocks(String nextUrl, PagedCompletionHandler<List<Block>, QueryError> handler) {
-        jsonClient.sendGetForArrayWithPaging("blocks", nextUrl, Block::asBlocks, handler);
+        jsonClient.sendGetForArrayWithPaging("blocks", nextUrl, Block::asBlock, handler);
     }
 
     private PagedCompletionHandler<List<Block>, QueryError> createPagedResultsHandler(CompletionHandler<List<Block>, QueryError> handler) {
@@ -7,6 +7,7 @@
  */
 package com.breadwallet.crypto.blockchaindb.apis.bdb;
 
+import com.breadwallet.crypto.blockchaindb.cache.CachePolicy;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.models.bdb.Blockchain;
 import com.breadwallet.crypto.utility.CompletionHandler;
@@ -15,9 +16,14 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class BlockchainApi {
 
+    // Blockchains carry the block height and fee estimates, so keep them fresh for a short while only;
+    // past that, revalidate before serving rather than hand out old heights and fees
+    private static final CachePolicy BLOCKCHAINS_CACHE_POLICY = CachePolicy.of(1, 0, TimeUnit.MINUTES);
+
     private final BdbApiClient jsonClient;
 
     public BlockchainApi(BdbApiClient jsonClient) {
@@ -26,7 +32,7 @@ public class BlockchainApi {
 
     public void getBlockchains(boolean isMainnet, CompletionHandler<List<Blockchain>, QueryError> handler) {
         Multimap<String, String> params = ImmutableListMultimap.of("testnet", Boolean.valueOf(!isMainnet).toString());
-        jsonClient.sendGetForArray("blockchains", params, Blockchain::asBlockchains, handler);
+        jsonClient.sendGetForArray("blockchains", params, BLOCKCHAINS_CACHE_POLICY, Blockchain::asBlockchains, handler);
     }
 
     public void getBlockchain(String id, CompletionHandler<Blockchain, QueryError> handler) {
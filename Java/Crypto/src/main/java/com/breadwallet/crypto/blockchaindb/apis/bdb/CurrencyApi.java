@@ -9,6 +9,7 @@ package com.breadwallet.crypto.blockchaindb.apis.bdb;
 
 import android.support.annotation.Nullable;
 
+import com.breadwallet.crypto.blockchaindb.cache.CachePolicy;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.models.bdb.Currency;
 import com.breadwallet.crypto.utility.CompletionHandler;
@@ -17,9 +18,12 @@ import com.google.common.collect.ImmutableMultimap;
 import com.google.common.collect.Multimap;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class CurrencyApi {
 
+    private static final CachePolicy CURRENCIES_CACHE_POLICY = CachePolicy.of(60, 7 * 24 * 60, TimeUnit.MINUTES);
+
     private final BdbApiClient jsonClient;
 
     public CurrencyApi(BdbApiClient jsonClient) {
@@ -33,7 +37,7 @@ public class CurrencyApi {
     public void getCurrencies(@Nullable String id, CompletionHandler<List<Currency>, QueryError> handler) {
         Multimap<String, String> params = id == null ? ImmutableMultimap.of() : ImmutableListMultimap.of(
                 "blockchain_id", id);
-        jsonClient.sendGetForArray("currencies", params, Currency::asCurrencies, handler);
+        jsonClient.sendGetForArray("currencies", params, CURRENCIES_CACHE_POLICY, Currency::asCurrencies, handler);
     }
 
     public void getCurrency(String id, CompletionHandler<Currency, QueryError> handler) {
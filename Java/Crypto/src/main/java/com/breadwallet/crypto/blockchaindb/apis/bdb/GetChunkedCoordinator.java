@@ -9,38 +9,83 @@ package com.breadwallet.crypto.blockchaindb.apis.bdb;
 
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.utility.CompletionHandler;
+import com.breadwallet.crypto.utility.StreamingCompletionHandler;
+import com.google.common.base.Function;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkState;
 
+// Merges the results of the chunks of a query as they arrive. A result is handed on only the first time
+// it is seen; the same transaction is returned for every chunk holding one of its addresses.
 /* package */
-class GetChunkedCoordinator<ChunkType, ResultType> {
+class GetChunkedCoordinator<ResultType> {
 
-    private final List<List<ChunkType>> chunks;
-    private final List<ResultType> transactions;
-    private final CompletionHandler<List<ResultType>, QueryError> handler;
+    private final Function<ResultType, String> keyFunction;
+    private final StreamingCompletionHandler<List<ResultType>, QueryError> handler;
+
+    // guarded by this
+    private final boolean[] outstanding;
+    private final Set<String> seenKeys;
+    private int outstandingCount;
 
     private QueryError error;
 
     /* package */
-    GetChunkedCoordinator(List<List<ChunkType>> chunks, CompletionHandler<List<ResultType>, QueryError> handler) {
-        this.chunks = new ArrayList<>(chunks);
-        this.transactions = new ArrayList<>();
+    GetChunkedCoordinator(int chunkCount, Function<ResultType, String> keyFunction,
+                          CompletionHandler<List<ResultType>, QueryError> handler) {
+        this(chunkCount, keyFunction, new AccumulatingHandler<>(handler));
+    }
+
+    /* package */
+    GetChunkedCoordinator(int chunkCount, Function<ResultType, String> keyFunction,
+                          StreamingCompletionHandler<List<ResultType>, QueryError> handler) {
+        this.keyFunction = keyFunction;
         this.handler = handler;
+        this.outstanding = new boolean[chunkCount];
+        this.seenKeys = new HashSet<>();
+        this.outstandingCount = chunkCount;
+
+        for (int i = 0; i < chunkCount; i++) {
+            outstanding[i] = true;
+        }
+    }
+
+    /* package */
+    void handleChunkPage(int chunkIndex, List<ResultType> data) {
+        // deliver while holding the lock so that pages from concurrently running chunks are
+        // handed over one at a time
+        synchronized (this) {
+            checkState(outstanding[chunkIndex]);
+
+            if (!isInErrorState()) {
+                List<ResultType> unseen = new ArrayList<>(data.size());
+                for (ResultType result : data) {
+                    if (seenKeys.add(keyFunction.apply(result))) {
+                        unseen.add(result);
+                    }
+                }
+
+                if (!unseen.isEmpty()) {
+                    handler.handleData(unseen);
+                }
+            }
+        }
     }
 
     /* package */
-    void handleChunkData(List<ChunkType> chunk, List<ResultType> data) {
+    void handleChunkComplete(int chunkIndex) {
         boolean transitionToSuccess = false;
 
         synchronized (this) {
-            checkState(!isInSuccessState());
+            checkState(outstanding[chunkIndex]);
 
             if (!isInErrorState()) {
-                chunks.remove(chunk);
-                transactions.addAll(data);
+                outstanding[chunkIndex] = false;
+                outstandingCount -= 1;
                 transitionToSuccess = isInSuccessState();
             }
         }
@@ -73,14 +118,41 @@ class GetChunkedCoordinator<ChunkType, ResultType> {
     }
 
     private boolean isInSuccessState() {
-        return chunks.isEmpty();
+        return 0 == outstandingCount;
     }
 
     private void handleSuccess() {
-        handler.handleData(transactions);
+        handler.handleComplete();
     }
 
     private void handleFailure() {
         handler.handleError(error);
     }
+
+    /* package */
+    static class AccumulatingHandler<ResultType> implements StreamingCompletionHandler<List<ResultType>, QueryError> {
+
+        private final List<ResultType> results;
+        private final CompletionHandler<List<ResultType>, QueryError> handler;
+
+        AccumulatingHandler(CompletionHandler<List<ResultType>, QueryError> handler) {
+            this.results = new ArrayList<>();
+            this.handler = handler;
+        }
+
+        @Override
+        public void handleData(List<ResultType> data) {
+            results.addAll(data);
+        }
+
+        @Override
+        public void handleComplete() {
+            handler.handleData(results);
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            handler.handleError(error);
+        }
+    }
 }
@@ -11,9 +11,13 @@ import android.support.annotation.Nullable;
 
 import com.breadwallet.crypto.blockchaindb.apis.PageInfo;
 import com.breadwallet.crypto.blockchaindb.apis.PagedCompletionHandler;
+import com.breadwallet.crypto.blockchaindb.cache.HeightRange;
+import com.breadwallet.crypto.blockchaindb.cache.TransactionCache;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.models.bdb.Transaction;
 import com.breadwallet.crypto.utility.CompletionHandler;
+import com.breadwallet.crypto.utility.StreamingCompletionHandler;
+import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableMultimap;
@@ -25,7 +29,11 @@ import com.google.common.primitives.UnsignedLong;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkState;
@@ -36,18 +44,107 @@ public class TransactionApi {
 
     private final BdbApiClient jsonClient;
     private final ExecutorService executorService;
+    private final AdaptiveChunkSize addressCount;
+
+    @Nullable
+    private final TransactionCache transactionCache;
 
     public TransactionApi(BdbApiClient jsonClient, ExecutorService executorService) {
+        this(jsonClient, executorService, null);
+    }
+
+    public TransactionApi(BdbApiClient jsonClient, ExecutorService executorService, @Nullable TransactionCache transactionCache) {
         this.jsonClient = jsonClient;
         this.executorService = executorService;
+        this.addressCount = new AdaptiveChunkSize(ADDRESS_COUNT);
+        this.transactionCache = transactionCache;
     }
 
     public void getTransactions(String id, List<String> addresses, UnsignedLong beginBlockNumber, UnsignedLong endBlockNumber,
                                 boolean includeRaw, boolean includeProof, @Nullable Integer maxPageSize,
                                 CompletionHandler<List<Transaction>, QueryError> handler) {
-        List<List<String>> chunkedAddressesList = Lists.partition(addresses, ADDRESS_COUNT);
-        GetChunkedCoordinator<String, Transaction> coordinator = new GetChunkedCoordinator<>(chunkedAddressesList, handler);
+        getTransactions(id, addresses, beginBlockNumber, endBlockNumber, includeRaw, includeProof, maxPageSize,
+                new GetChunkedCoordinator.AccumulatingHandler<>(handler));
+    }
+
+    public void getTransactions(String id, List<String> addresses, UnsignedLong beginBlockNumber, UnsignedLong endBlockNumber,
+                                boolean includeRaw, boolean includeProof, @Nullable Integer maxPageSize,
+                                StreamingCompletionHandler<List<Transaction>, QueryError> handler) {
+        TransactionCache cache = transactionCache;
+
+        // only raw transactions are cached, and never their proofs
+        if (null == cache || !includeRaw || includeProof || beginBlockNumber.compareTo(endBlockNumber) >= 0) {
+            List<List<String>> chunkedAddressesList = Lists.partition(addresses, addressCount.get(id));
+            GetChunkedCoordinator<Transaction> coordinator = new GetChunkedCoordinator<>(chunkedAddressesList.size(),
+                    Transaction::getId, handler);
+            getChunkedTransactions(id, chunkedAddressesList, 0, beginBlockNumber, endBlockNumber, includeRaw, includeProof,
+                    maxPageSize, null, coordinator);
+            return;
+        }
+
+        HeightRange requested = new HeightRange(beginBlockNumber, endBlockNumber);
+
+        // serve what is covered locally, and group the addresses by what is left to fetch for them
+        List<Transaction> cached = new ArrayList<>();
+        Set<String> cachedIds = new HashSet<>();
+        Map<List<HeightRange>, List<String>> addressesByGaps = new LinkedHashMap<>();
+        for (String address : addresses) {
+            List<HeightRange> covered = cache.getCoveredRanges(id, address);
+            for (HeightRange range : covered) {
+                Optional<HeightRange> overlap = range.intersect(requested);
+                if (overlap.isPresent()) {
+                    for (Transaction transaction : cache.getTransactions(id, address, overlap.get())) {
+                        if (cachedIds.add(transaction.getId())) {
+                            cached.add(transaction);
+                        }
+                    }
+                }
+            }
+
+            List<HeightRange> gaps = requested.subtract(covered);
+            if (!gaps.isEmpty()) {
+                List<String> gapAddresses = addressesByGaps.get(gaps);
+                if (null == gapAddresses) {
+                    gapAddresses = new ArrayList<>();
+                    addressesByGaps.put(gaps, gapAddresses);
+                }
+                gapAddresses.add(address);
+            }
+        }
 
+        int chunkCount = 0;
+        int chunkSize = addressCount.get(id);
+        for (Map.Entry<List<HeightRange>, List<String>> entry : addressesByGaps.entrySet()) {
+            chunkCount += entry.getKey().size() * Lists.partition(entry.getValue(), chunkSize).size();
+        }
+
+        if (0 == chunkCount) {
+            handler.handleData(cached);
+            handler.handleComplete();
+            return;
+        }
+
+        GetChunkedCoordinator<Transaction> coordinator = new GetChunkedCoordinator<>(chunkCount, Transaction::getId, handler);
+        if (!cached.isEmpty()) {
+            coordinator.handleChunkPage(0, cached);
+        }
+
+        int chunkIndex = 0;
+        for (Map.Entry<List<HeightRange>, List<String>> entry : addressesByGaps.entrySet()) {
+            List<List<String>> gapChunkedAddressesList = Lists.partition(entry.getValue(), chunkSize);
+            for (HeightRange gap : entry.getKey()) {
+                getChunkedTransactions(id, gapChunkedAddressesList, chunkIndex, gap.getBegin(), gap.getEnd(), includeRaw,
+                        includeProof, maxPageSize, cache, coordinator);
+                chunkIndex += gapChunkedAddressesList.size();
+            }
+        }
+    }
+
+    // Fetch each chunk of addresses, as chunks `firstChunkIndex` onwards of the coordinator
+    private void getChunkedTransactions(String id, List<List<String>> chunkedAddressesList, int firstChunkIndex,
+                                        UnsignedLong beginBlockNumber, UnsignedLong endBlockNumber, boolean includeRaw,
+                                        boolean includeProof, @Nullable Integer maxPageSize, @Nullable TransactionCache cache,
+                                        GetChunkedCoordinator<Transaction> coordinator) {
         for (int i = 0; i < chunkedAddressesList.size(); i++) {
             List<String> chunkedAddresses = chunkedAddressesList.get(i);
 
@@ -61,8 +158,10 @@ public class TransactionApi {
             for (String address : chunkedAddresses) paramsBuilder.put("address", address);
             ImmutableMultimap<String, String> params = paramsBuilder.build();
 
-            PagedCompletionHandler<List<Transaction>, QueryError> pagedHandler = createPagedResultsHandler(coordinator, chunkedAddresses);
-            jsonClient.sendGetForArrayWithPaging("transactions", params, Transaction::asTransactions, pagedHandler);
+            HeightRange range = null == cache ? null : new HeightRange(beginBlockNumber, endBlockNumber);
+            PagedCompletionHandler<List<Transaction>, QueryError> pagedHandler = createPagedResultsHandler(id, coordinator,
+                    firstChunkIndex + i, chunkedAddresses, cache, range);
+            jsonClient.sendGetForArrayWithPaging("transactions", params, Transaction::asTransaction, pagedHandler);
         }
     }
 
@@ -84,18 +183,36 @@ public class TransactionApi {
         jsonClient.sendPost("transactions", ImmutableMultimap.of(), json, handler);
     }
 
-    private PagedCompletionHandler<List<Transaction>, QueryError> createPagedResultsHandler(GetChunkedCoordinator<String, Transaction> coordinator,
-                                                                                            List<String> chunkedAddresses) {
-        List<Transaction> allResults = new ArrayList<>();
+    private PagedCompletionHandler<List<Transaction>, QueryError> createPagedResultsHandler(String id,
+                                                                                            GetChunkedCoordinator<Transaction> coordinator,
+                                                                                            int chunkIndex,
+                                                                                            List<String> chunkedAddresses,
+                                                                                            @Nullable TransactionCache cache,
+                                                                                            @Nullable HeightRange range) {
+        long startTime = addressCount.start();
         return new PagedCompletionHandler<List<Transaction>, QueryError>() {
+
+            private int pageCount = 0;
+
+            // the chunk's transactions, held until the chunk completes and can be cached as a whole
+            private final List<Transaction> fetched = new ArrayList<>();
+
             @Override
             public void handleData(List<Transaction> results, PageInfo info) {
-                allResults.addAll(results);
+                pageCount += 1;
+                if (null != cache) {
+                    fetched.addAll(results);
+                }
+                coordinator.handleChunkPage(chunkIndex, results);
 
                 if (info.nextUrl != null) {
                     submitGetNextTransactions(info.nextUrl, this);
                 } else {
-                    coordinator.handleChunkData(chunkedAddresses, allResults);
+                    addressCount.record(id, chunkedAddresses.size(), pageCount, startTime);
+                    if (null != cache) {
+                        cache.put(id, chunkedAddresses, range, fetched);
+                    }
+                    coordinator.handleChunkComplete(chunkIndex);
                 }
             }
 
@@ -111,6 +228,6 @@ public class TransactionApi {
     }
 
     private void getNextTransactions(String nextUrl, PagedCompletionHandler<List<Transaction>, QueryError> handler) {
-        jsonClient.sendGetForArrayWithPaging("transactions", nextUrl, Transaction::asTransactions, handler);
+        jsonClient.sendGetForArrayWithPaging("transactions", nextUrl, Transaction::asTransaction, handler);
     }
 }
@@ -21,7 +21,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.primitives.UnsignedLong;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
@@ -33,16 +32,19 @@ public class TransferApi {
 
     private final BdbApiClient jsonClient;
     private final ExecutorService executorService;
+    private final AdaptiveChunkSize addressCount;
 
     public TransferApi(BdbApiClient jsonClient, ExecutorService executorService) {
         this.jsonClient = jsonClient;
         this.executorService = executorService;
+        this.addressCount = new AdaptiveChunkSize(ADDRESS_COUNT);
     }
 
     public void getTransfers(String id, List<String> addresses, UnsignedLong beginBlockNumber, UnsignedLong endBlockNumber,
                              @Nullable Integer maxPageSize, CompletionHandler<List<Transfer>, QueryError> handler) {
-        List<List<String>> chunkedAddressesList = Lists.partition(addresses, ADDRESS_COUNT);
-        GetChunkedCoordinator<String, Transfer> coordinator = new GetChunkedCoordinator<>(chunkedAddressesList, handler);
+        List<List<String>> chunkedAddressesList = Lists.partition(addresses, addressCount.get(id));
+        GetChunkedCoordinator<Transfer> coordinator = new GetChunkedCoordinator<>(chunkedAddressesList.size(),
+                Transfer::getId, handler);
 
         for (int i = 0; i < chunkedAddressesList.size(); i++) {
             List<String> chunkedAddresses = chunkedAddressesList.get(i);
@@ -55,8 +57,8 @@ public class TransferApi {
             for (String address : chunkedAddresses) paramsBuilder.put("address", address);
             ImmutableMultimap<String, String> params = paramsBuilder.build();
 
-            PagedCompletionHandler<List<Transfer>, QueryError> pagedHandler = createPagedResultsHandler(coordinator, chunkedAddresses);
-            jsonClient.sendGetForArrayWithPaging("transfers", params, Transfer::asTransfers, pagedHandler);
+            PagedCompletionHandler<List<Transfer>, QueryError> pagedHandler = createPagedResultsHandler(id, coordinator, i, chunkedAddresses);
+            jsonClient.sendGetForArrayWithPaging("transfers", params, Transfer::asTransfer, pagedHandler);
         }
     }
 
@@ -69,21 +71,28 @@ public class TransferApi {
     }
 
     private void getNextTransfers(String nextUrl, PagedCompletionHandler<List<Transfer>, QueryError> handler) {
-        jsonClient.sendGetForArrayWithPaging("transfers", nextUrl, Transfer::asTransfers, handler);
+        jsonClient.sendGetForArrayWithPaging("transfers", nextUrl, Transfer::asTransfer, handler);
     }
 
-    private PagedCompletionHandler<List<Transfer>, QueryError> createPagedResultsHandler(GetChunkedCoordinator<String, Transfer> coordinator,
+    private PagedCompletionHandler<List<Transfer>, QueryError> createPagedResultsHandler(String id,
+                                                                                         GetChunkedCoordinator<Transfer> coordinator,
+                                                                                         int chunkIndex,
                                                                                          List<String> chunkedAddresses) {
-        List<Transfer> allResults = new ArrayList<>();
+        long startTime = addressCount.start();
         return new PagedCompletionHandler<List<Transfer>, QueryError>() {
+
+            private int pageCount = 0;
+
             @Override
             public void handleData(List<Transfer> results, PageInfo info) {
-                allResults.addAll(results);
+                pageCount += 1;
+                coordinator.handleChunkPage(chunkIndex, results);
 
                 if (info.nextUrl != null) {
                     submitGetNextTransfers(info.nextUrl, this);
                 } else {
-                    coordinator.handleChunkData(chunkedAddresses, allResults);
+                    addressCount.record(id, chunkedAddresses.size(), pageCount, startTime);
+                    coordinator.handleChunkComplete(chunkIndex);
                 }
             }
 
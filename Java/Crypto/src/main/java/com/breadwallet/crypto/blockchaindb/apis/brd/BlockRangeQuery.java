@@ -0,0 +1,180 @@
+/*
+ * BlockRangeQuery
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.brd;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+import com.google.common.primitives.UnsignedLong;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Runs a query over `[begBlockNumber, endBlockNumber]` as a set of sub-ranges, a few at a time. A
+ * sub-range whose response reaches the result cap may have been truncated upstream, so it is split
+ * in half and both halves are queried again. The results are handed over in block order once every
+ * sub-range has completed.
+ */
+/* package */
+final class BlockRangeQuery<T> {
+
+    /* package */
+    interface RangeQuery<T> {
+        void execute(UnsignedLong begBlockNumber, UnsignedLong endBlockNumber, CompletionHandler<List<T>, QueryError> handler);
+    }
+
+    private final RangeQuery<T> query;
+    private final int resultCap;
+    private final int maxConcurrency;
+    private final CompletionHandler<List<T>, QueryError> handler;
+
+    // guarded by this
+    private final Deque<UnsignedLong[]> pending;
+    private final Map<UnsignedLong, List<T>> results;
+    private int inFlight;
+    private boolean failed;
+
+    /* package */
+    BlockRangeQuery(RangeQuery<T> query, int resultCap, int maxConcurrency, CompletionHandler<List<T>, QueryError> handler) {
+        checkArgument(resultCap > 0);
+        checkArgument(maxConcurrency > 0);
+
+        this.query = query;
+        this.resultCap = resultCap;
+        this.maxConcurrency = maxConcurrency;
+        this.handler = handler;
+        this.pending = new ArrayDeque<>();
+        this.results = new TreeMap<>();
+    }
+
+    // Split the range into parts of at least `minRangeSize` blocks, and no more than `maxRangeCount`
+    // of them; ranges reaching out to a far-off end block (as when syncing to 'latest') stay bounded.
+    /* package */
+    void execute(UnsignedLong begBlockNumber, UnsignedLong endBlockNumber, long minRangeSize, int maxRangeCount) {
+        checkArgument(minRangeSize > 0);
+        checkArgument(maxRangeCount > 0);
+
+        List<UnsignedLong[]> ranges = new ArrayList<>();
+        if (endBlockNumber.compareTo(begBlockNumber) <= 0) {
+            ranges.add(new UnsignedLong[] {begBlockNumber, endBlockNumber});
+
+        } else {
+            UnsignedLong span = endBlockNumber.minus(begBlockNumber);
+            UnsignedLong rangeSize = span.dividedBy(UnsignedLong.valueOf(maxRangeCount)).plus(UnsignedLong.ONE);
+            if (rangeSize.compareTo(UnsignedLong.valueOf(minRangeSize)) < 0) {
+                rangeSize = UnsignedLong.valueOf(minRangeSize);
+            }
+
+            UnsignedLong rangeBeg = begBlockNumber;
+            while (true) {
+                UnsignedLong remaining = endBlockNumber.minus(rangeBeg);
+                if (remaining.compareTo(rangeSize) < 0) {
+                    ranges.add(new UnsignedLong[] {rangeBeg, endBlockNumber});
+                    break;
+                }
+
+                UnsignedLong rangeEnd = rangeBeg.plus(rangeSize).minus(UnsignedLong.ONE);
+                ranges.add(new UnsignedLong[] {rangeBeg, rangeEnd});
+                if (rangeEnd.equals(endBlockNumber)) {
+                    break;
+                }
+                rangeBeg = rangeEnd.plus(UnsignedLong.ONE);
+            }
+        }
+
+        synchronized (this) {
+            pending.addAll(ranges);
+        }
+        startPending();
+    }
+
+    private void startPending() {
+        List<UnsignedLong[]> started = new ArrayList<>();
+
+        synchronized (this) {
+            while (!failed && inFlight < maxConcurrency && !pending.isEmpty()) {
+                inFlight += 1;
+                started.add(pending.removeFirst());
+            }
+        }
+
+        for (UnsignedLong[] range : started) {
+            query.execute(range[0], range[1], new CompletionHandler<List<T>, QueryError>() {
+                @Override
+                public void handleData(List<T> data) {
+                    handleRangeData(range[0], range[1], data);
+                }
+
+                @Override
+                public void handleError(QueryError error) {
+                    handleRangeError(error);
+                }
+            });
+        }
+    }
+
+    private void handleRangeData(UnsignedLong begBlockNumber, UnsignedLong endBlockNumber, List<T> data) {
+        List<T> merged = null;
+
+        synchronized (this) {
+            inFlight -= 1;
+            if (failed) {
+                return;
+            }
+
+            if (data.size() >= resultCap && endBlockNumber.compareTo(begBlockNumber) > 0) {
+                UnsignedLong half = endBlockNumber.minus(begBlockNumber).dividedBy(UnsignedLong.valueOf(2));
+                UnsignedLong midBlockNumber = begBlockNumber.plus(half);
+
+                // run the halves next, ahead of the ranges that are still waiting
+                pending.addFirst(new UnsignedLong[] {midBlockNumber.plus(UnsignedLong.ONE), endBlockNumber});
+                pending.addFirst(new UnsignedLong[] {begBlockNumber, midBlockNumber});
+
+            } else {
+                results.put(begBlockNumber, data);
+            }
+
+            if (0 == inFlight && pending.isEmpty()) {
+                merged = new ArrayList<>();
+                for (List<T> rangeResults : results.values()) {
+                    merged.addAll(rangeResults);
+                }
+            }
+        }
+
+        if (null != merged) {
+            handler.handleData(merged);
+        } else {
+            startPending();
+        }
+    }
+
+    private void handleRangeError(QueryError error) {
+        boolean transitionToError;
+
+        synchronized (this) {
+            inFlight -= 1;
+            transitionToError = !failed;
+            failed = true;
+            pending.clear();
+            results.clear();
+        }
+
+        if (transitionToError) {
+            handler.handleError(error);
+        }
+    }
+}
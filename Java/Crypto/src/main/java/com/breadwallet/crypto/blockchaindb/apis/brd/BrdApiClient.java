@@ -12,21 +12,27 @@ import android.util.Log;
 
 import com.breadwallet.crypto.blockchaindb.DataTask;
 import com.breadwallet.crypto.blockchaindb.apis.ArrayResponseParser;
+import com.breadwallet.crypto.blockchaindb.apis.CountingResponseBody;
 import com.breadwallet.crypto.blockchaindb.apis.HttpStatusCodes;
+import com.breadwallet.crypto.blockchaindb.cache.CachePolicy;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryJsonParseError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryModelError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryNoDataError;
 import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
 import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.metrics.Metrics;
+import com.breadwallet.crypto.metrics.NoopMetrics;
 import com.breadwallet.crypto.utility.CompletionHandler;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableMultimap;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.json.JSONTokener;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -54,37 +60,60 @@ public class BrdApiClient {
     private final OkHttpClient client;
     private final String baseUrl;
     private final DataTask dataTask;
+    private final JsonRpcBatcher batcher;
+
+    private volatile Metrics metrics = NoopMetrics.INSTANCE;
 
     public BrdApiClient(OkHttpClient client, String baseUrl, DataTask dataTask) {
         this.client = client;
         this.baseUrl = baseUrl;
         this.dataTask = dataTask;
+        this.batcher = new JsonRpcBatcher(new JsonRpcBatcher.Transport() {
+            @Override
+            public void send(String networkName, JSONObject call, CompletionHandler<String, QueryError> handler) {
+                sendJsonRequestNow(networkName, call, handler);
+            }
+
+            @Override
+            public void sendBatch(String networkName, JSONArray calls, CompletionHandler<JSONArray, QueryError> handler) {
+                sendJsonBatchRequest(networkName, calls, handler);
+            }
+        });
+    }
+
+    public void setMetrics(Metrics metrics) {
+        this.metrics = metrics;
     }
 
     /* package */
     void sendJsonRequest(String networkName, JSONObject json, CompletionHandler<String, QueryError> handler) {
-        makeAndSendRequest(Arrays.asList("ethq", getNetworkName(networkName), "proxy"), ImmutableMultimap.of(), json, "POST",
-                new EmbeddedStringResponseHandler(handler));
+        batcher.enqueue(getNetworkName(networkName), json, handler);
     }
 
     /* package */
     void sendQueryRequest(String networkName, Multimap<String, String> params, JSONObject json,
                           CompletionHandler<String, QueryError> handler) {
-        makeAndSendRequest(Arrays.asList("ethq", getNetworkName(networkName), "query"), params, json, "POST",
+        networkName = getNetworkName(networkName);
+        makeAndSendRequest(getQueryEndpoint(params), networkName,
+                Arrays.asList("ethq", networkName, "query"), params, json.toString(), "POST",
                 new EmbeddedStringResponseHandler(handler));
     }
 
     /* package */
     <T> void sendQueryForArrayRequest(String networkName, Multimap<String, String> params, JSONObject json,
                                       ArrayResponseParser<T> parser, CompletionHandler<T, QueryError> handler) {
-        makeAndSendRequest(Arrays.asList("ethq", getNetworkName(networkName), "query"), params, json, "POST",
+        networkName = getNetworkName(networkName);
+        makeAndSendRequest(getQueryEndpoint(params), networkName,
+                Arrays.asList("ethq", networkName, "query"), params, json.toString(), "POST",
                 new EmbeddedArrayResponseHandler<T>(parser, handler));
     }
 
     /* package */
-    <T> void sendTokenRequest(ArrayResponseParser<T> parser, CompletionHandler<T, QueryError> handler) {
-        makeAndSendRequest(Collections.singletonList("currencies"), ImmutableMultimap.of("type", "erc20"), null, "GET",
-                new RootArrayResponseHandler<T>(parser, handler));
+    <T> void sendTokenRequest(@Nullable CachePolicy cachePolicy, ArrayResponseParser<T> parser,
+                              CompletionHandler<T, QueryError> handler) {
+        makeAndSendRequest("GET currencies", null,
+                Collections.singletonList("currencies"), ImmutableMultimap.of("type", "erc20"), null, "GET",
+                cachePolicy, new RootArrayResponseHandler<T>(parser, handler));
     }
 
     private String getNetworkName(String networkName) {
@@ -92,9 +121,31 @@ public class BrdApiClient {
         return networkName.equals("testnet") ? "ropsten" : networkName;
     }
 
-    private <T> void makeAndSendRequest(List<String> pathSegments,
-                                    Multimap<String, String> params, @Nullable JSONObject json, String httpMethod,
+    private void sendJsonRequestNow(String networkName, JSONObject json, CompletionHandler<String, QueryError> handler) {
+        makeAndSendRequest("proxy " + json.optString("method"), networkName,
+                Arrays.asList("ethq", networkName, "proxy"), ImmutableMultimap.of(), json.toString(), "POST",
+                new EmbeddedStringResponseHandler(handler));
+    }
+
+    private void sendJsonBatchRequest(String networkName, JSONArray json, CompletionHandler<JSONArray, QueryError> handler) {
+        makeAndSendRequest("proxy batch", networkName,
+                Arrays.asList("ethq", networkName, "proxy"), ImmutableMultimap.of(), json.toString(), "POST",
+                new BatchResponseHandler(handler));
+    }
+
+    private String getQueryEndpoint(Multimap<String, String> params) {
+        return "query " + Iterables.getFirst(params.get("action"), "");
+    }
+
+    private <T> void makeAndSendRequest(String endpoint, @Nullable String networkName, List<String> pathSegments,
+                                    Multimap<String, String> params, @Nullable String json, String httpMethod,
                                     ResponseHandler<T> handler) {
+        makeAndSendRequest(endpoint, networkName, pathSegments, params, json, httpMethod, null, handler);
+    }
+
+    private <T> void makeAndSendRequest(String endpoint, @Nullable String networkName, List<String> pathSegments,
+                                    Multimap<String, String> params, @Nullable String json, String httpMethod,
+                                    @Nullable CachePolicy cachePolicy, ResponseHandler<T> handler) {
         HttpUrl.Builder urlBuilder = HttpUrl.parse(baseUrl).newBuilder();
 
         for (String segment : pathSegments) {
@@ -113,15 +164,22 @@ public class BrdApiClient {
         Request.Builder requestBuilder = new Request.Builder();
         requestBuilder.url(httpUrl);
         requestBuilder.header("Accept", "application/json");
-        requestBuilder.method(httpMethod, json == null ? null : RequestBody.create(MEDIA_TYPE_JSON, json.toString()));
+        requestBuilder.method(httpMethod, json == null ? null : RequestBody.create(MEDIA_TYPE_JSON, json));
+        requestBuilder.tag(CachePolicy.class, cachePolicy);
 
-        sendRequest(requestBuilder.build(), dataTask, handler);
+        sendRequest(requestBuilder.build(), endpoint, networkName, dataTask, handler);
     }
 
-    private <T> void sendRequest(Request request, DataTask dataTask, ResponseHandler<T> handler) {
+    private <T> void sendRequest(Request request, String endpoint, @Nullable String networkName, DataTask dataTask,
+                                 ResponseHandler<T> responseHandler) {
+        Metrics metrics = this.metrics;
+        ResponseHandler<T> handler = new MeteredResponseHandler<>(responseHandler, metrics, endpoint, networkName);
+
+        long sentNanos = System.nanoTime();
         dataTask.execute(client, request, new Callback() {
             @Override
             public void onResponse(Call call, Response response) throws IOException {
+                long latencyNanos = System.nanoTime() - sentNanos;
                 int responseCode = response.code();
                 if (HttpStatusCodes.responseSuccess(request.method()).contains(responseCode)) {
                     try (ResponseBody responseBody = response.body()) {
@@ -129,13 +187,18 @@ public class BrdApiClient {
                             Log.e(TAG, "response failed with null body");
                             handler.handleError(new QueryNoDataError());
                         } else {
-                            T data = null;
+                            CountingResponseBody countingBody = new CountingResponseBody(responseBody);
+                            long parseStartNanos = System.nanoTime();
+                            T data;
 
                             try {
-                                data = handler.parseResponse(responseBody.string());
+                                data = handler.parseResponse(countingBody.string());
+                                metrics.recordQuery(endpoint, networkName, latencyNanos, System.nanoTime() - parseStartNanos,
+                                        countingBody.getByteCount(), handler.countItems(data));
                             } catch (JSONException e) {
                                 Log.e(TAG, "response failed parsing json", e);
                                 handler.handleError(new QueryJsonParseError(e.getMessage()));
+                                return;
                             }
 
                             handler.handleResponse(data);
@@ -157,10 +220,48 @@ public class BrdApiClient {
 
     private interface ResponseHandler<R> {
         R parseResponse(String responseRaw) throws JSONException;
+        int countItems(R responseData);
         void handleResponse(R responseData);
         void handleError(QueryError error);
     }
 
+    // Records every error, from transport through to the model, against the request's endpoint
+    private static class MeteredResponseHandler<R> implements ResponseHandler<R> {
+
+        private final ResponseHandler<R> handler;
+        private final Metrics metrics;
+        private final String endpoint;
+        private final @Nullable String networkName;
+
+        MeteredResponseHandler(ResponseHandler<R> handler, Metrics metrics, String endpoint, @Nullable String networkName) {
+            this.handler = handler;
+            this.metrics = metrics;
+            this.endpoint = endpoint;
+            this.networkName = networkName;
+        }
+
+        @Override
+        public R parseResponse(String responseRaw) throws JSONException {
+            return handler.parseResponse(responseRaw);
+        }
+
+        @Override
+        public int countItems(R responseData) {
+            return handler.countItems(responseData);
+        }
+
+        @Override
+        public void handleResponse(R responseData) {
+            handler.handleResponse(responseData);
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            metrics.recordQueryError(endpoint, networkName, error);
+            handler.handleError(error);
+        }
+    }
+
     private static class EmbeddedStringResponseHandler implements ResponseHandler<JSONObject> {
 
         private final CompletionHandler<String, QueryError> handler;
@@ -174,6 +275,11 @@ public class BrdApiClient {
             return new JSONObject(responseRaw);
         }
 
+        @Override
+        public int countItems(JSONObject responseData) {
+            return 1;
+        }
+
         @Override
         public void handleResponse(JSONObject responseData) {
             String result = responseData.optString("result", null);
@@ -208,6 +314,12 @@ public class BrdApiClient {
             return new JSONObject(responseRaw);
         }
 
+        @Override
+        public int countItems(JSONObject responseData) {
+            JSONArray result = responseData.optJSONArray("result");
+            return result == null ? 0 : result.length();
+        }
+
         @Override
         public void handleResponse(JSONObject responseData) {
             String status = responseData.optString("status", null);
@@ -262,6 +374,11 @@ public class BrdApiClient {
             return new JSONArray(responseRaw);
         }
 
+        @Override
+        public int countItems(JSONArray responseData) {
+            return responseData.length();
+        }
+
         @Override
         public void handleResponse(JSONArray responseData) {
             Optional<T> data = parser.parse(responseData);
@@ -280,4 +397,44 @@ public class BrdApiClient {
             handler.handleError(error);
         }
     }
+
+    // A host that does not take batches answers one with a single JSON-RPC error object
+    private static class BatchResponseHandler implements ResponseHandler<Object> {
+
+        private final CompletionHandler<JSONArray, QueryError> handler;
+
+        BatchResponseHandler(CompletionHandler<JSONArray, QueryError> handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public Object parseResponse(String responseRaw) throws JSONException {
+            return new JSONTokener(responseRaw).nextValue();
+        }
+
+        @Override
+        public int countItems(Object responseData) {
+            return responseData instanceof JSONArray ? ((JSONArray) responseData).length() : 0;
+        }
+
+        @Override
+        public void handleResponse(Object responseData) {
+            if (responseData instanceof JSONArray) {
+                handler.handleData((JSONArray) responseData);
+
+            } else if (responseData instanceof JSONObject) {
+                handler.handleError(new JsonRpcBatcher.BatchRejectedError());
+
+            } else {
+                QueryError e = new QueryModelError("Transform error");
+                Log.e(TAG, "parsing error", e);
+                handler.handleError(e);
+            }
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            handler.handleError(error);
+        }
+    }
 }
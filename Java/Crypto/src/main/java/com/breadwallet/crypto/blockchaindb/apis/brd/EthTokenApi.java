@@ -7,14 +7,18 @@
  */
 package com.breadwallet.crypto.blockchaindb.apis.brd;
 
+import com.breadwallet.crypto.blockchaindb.cache.CachePolicy;
 import com.breadwallet.crypto.blockchaindb.errors.QueryError;
 import com.breadwallet.crypto.blockchaindb.models.brd.EthToken;
 import com.breadwallet.crypto.utility.CompletionHandler;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 public class EthTokenApi {
 
+    private static final CachePolicy TOKENS_CACHE_POLICY = CachePolicy.of(60, 7 * 24 * 60, TimeUnit.MINUTES);
+
     private final BrdApiClient client;
 
     public EthTokenApi(BrdApiClient client) {
@@ -22,6 +26,6 @@ public class EthTokenApi {
     }
 
     public void getTokensAsEth(int rid, CompletionHandler<List<EthToken>, QueryError> handler) {
-        client.sendTokenRequest(EthToken::asTokens, handler);
+        client.sendTokenRequest(TOKENS_CACHE_POLICY, EthToken::asTokens, handler);
     }
 }
@@ -33,6 +33,14 @@ public class EthTransferApi {
 
     private static final String ETH_EVENT_ERC20_TRANSFER = "0xa9059cbb";
 
+    // The query endpoint returns no more than this many transactions or logs for one request
+    private static final int TXLIST_RESULT_CAP = 10_000;
+    private static final int LOGS_RESULT_CAP = 1_000;
+
+    private static final long MIN_RANGE_SIZE = 100_000;
+    private static final int MAX_RANGE_COUNT = 8;
+    private static final int MAX_RANGE_CONCURRENCY = 3;
+
     private final BrdApiClient client;
 
     public EthTransferApi(BrdApiClient client) {
@@ -53,6 +61,14 @@ public class EthTransferApi {
 
     public void getTransactionsAsEth(String networkName, String address, UnsignedLong begBlockNumber, UnsignedLong endBlockNumber,
                                      int rid, CompletionHandler<List<EthTransaction>, QueryError> handler) {
+        BlockRangeQuery<EthTransaction> query = new BlockRangeQuery<>(
+                (beg, end, h) -> getTransactionsInRangeAsEth(networkName, address, beg, end, rid, h),
+                TXLIST_RESULT_CAP, MAX_RANGE_CONCURRENCY, handler);
+        query.execute(begBlockNumber, endBlockNumber, MIN_RANGE_SIZE, MAX_RANGE_COUNT);
+    }
+
+    private void getTransactionsInRangeAsEth(String networkName, String address, UnsignedLong begBlockNumber, UnsignedLong endBlockNumber,
+                                             int rid, CompletionHandler<List<EthTransaction>, QueryError> handler) {
         JSONObject json = new JSONObject(ImmutableMap.of(
                 "id", rid,
                 "account", address
@@ -84,6 +100,15 @@ public class EthTransferApi {
     public void getLogsAsEth(String networkName, @Nullable String contract, String address, String event,
                              UnsignedLong begBlockNumber, UnsignedLong endBlockNumber, int rid,
                              CompletionHandler<List<EthLog>, QueryError> handler) {
+        BlockRangeQuery<EthLog> query = new BlockRangeQuery<>(
+                (beg, end, h) -> getLogsInRangeAsEth(networkName, contract, address, event, beg, end, rid, h),
+                LOGS_RESULT_CAP, MAX_RANGE_CONCURRENCY, handler);
+        query.execute(begBlockNumber, endBlockNumber, MIN_RANGE_SIZE, MAX_RANGE_COUNT);
+    }
+
+    private void getLogsInRangeAsEth(String networkName, @Nullable String contract, String address, String event,
+                                     UnsignedLong begBlockNumber, UnsignedLong endBlockNumber, int rid,
+                                     CompletionHandler<List<EthLog>, QueryError> handler) {
         JSONObject json = new JSONObject(ImmutableMap.of(
                 "id", rid
         ));
@@ -0,0 +1,275 @@
+/*
+ * JsonRpcBatcher
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.brd;
+
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QueryModelError;
+import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Gathers the JSON-RPC calls made against a network within a short window and sends them as a single
+ * JSON-RPC 2.0 batch, routing each response back to its caller by `id`. A batch is sent once it is
+ * full or once the first call in it has waited out the window; a lone call is sent as it always was.
+ *
+ * Should a host reject a batch outright, its calls are resent one at a time and batching is turned off.
+ * Submitted transactions are never batched; resending one that the host had in fact broadcast would
+ * report a failure for a transaction that went out.
+ */
+/* package */
+final class JsonRpcBatcher {
+
+    private static final String TAG = JsonRpcBatcher.class.getName();
+
+    /* package */
+    static final int DEFAULT_MAX_BATCH_SIZE = 20;
+
+    /* package */
+    static final long DEFAULT_FLUSH_DELAY_MILLIS = 20;
+
+    private static final String METHOD_SEND_RAW_TRANSACTION = "eth_sendRawTransaction";
+
+    private static final ScheduledExecutorService DEFAULT_EXECUTOR = createExecutor();
+
+    private static ScheduledExecutorService createExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("brd-batch-%d").setDaemon(true).build());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    /* package */
+    interface Transport {
+        void send(String networkName, JSONObject call, CompletionHandler<String, QueryError> handler);
+        void sendBatch(String networkName, JSONArray calls, CompletionHandler<JSONArray, QueryError> handler);
+    }
+
+    // A batch answered with a single JSON-RPC object, rather than an array of responses
+    /* package */
+    static final class BatchRejectedError extends QueryModelError {
+        BatchRejectedError() {
+            super("batch rejected");
+        }
+    }
+
+    private final Transport transport;
+    private final int maxBatchSize;
+    private final long flushDelayMillis;
+    private final ScheduledExecutorService executor;
+
+    // guarded by this
+    private final Map<String, Batch> batches;
+    private boolean batchingSupported;
+
+    /* package */
+    JsonRpcBatcher(Transport transport) {
+        this(transport, DEFAULT_MAX_BATCH_SIZE, DEFAULT_FLUSH_DELAY_MILLIS, DEFAULT_EXECUTOR);
+    }
+
+    /* package */
+    JsonRpcBatcher(Transport transport, int maxBatchSize, long flushDelayMillis, ScheduledExecutorService executor) {
+        checkArgument(maxBatchSize > 0);
+        checkArgument(flushDelayMillis >= 0);
+
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        this.flushDelayMillis = flushDelayMillis;
+        this.executor = executor;
+        this.batches = new HashMap<>();
+        this.batchingSupported = true;
+    }
+
+    /* package */
+    void enqueue(String networkName, JSONObject call, CompletionHandler<String, QueryError> handler) {
+        boolean batched;
+        List<Batch> ready = new ArrayList<>(2);
+
+        synchronized (this) {
+            batched = batchingSupported && maxBatchSize > 1 &&
+                    !METHOD_SEND_RAW_TRANSACTION.equals(call.optString("method"));
+            if (batched) {
+                Batch batch = batches.get(networkName);
+
+                // ids route the responses, so a repeated id has to wait for the next batch
+                if (null != batch && batch.containsId(call)) {
+                    ready.add(take(networkName));
+                    batch = null;
+                }
+
+                if (null == batch) {
+                    Batch created = new Batch(networkName);
+                    created.deadline = executor.schedule(() -> flush(networkName, created), flushDelayMillis, TimeUnit.MILLISECONDS);
+                    batches.put(networkName, created);
+                    batch = created;
+                }
+
+                batch.add(call, handler);
+                if (batch.size() == maxBatchSize) {
+                    ready.add(take(networkName));
+                }
+            }
+        }
+
+        if (!batched) {
+            transport.send(networkName, call, handler);
+            return;
+        }
+
+        for (Batch batch : ready) {
+            send(batch);
+        }
+    }
+
+    private void flush(String networkName, Batch expected) {
+        Batch batch;
+        synchronized (this) {
+            if (batches.get(networkName) != expected) {
+                return;
+            }
+            batch = take(networkName);
+        }
+        send(batch);
+    }
+
+    // guarded by this
+    private Batch take(String networkName) {
+        Batch batch = batches.remove(networkName);
+        if (null != batch.deadline) {
+            batch.deadline.cancel(false);
+        }
+        return batch;
+    }
+
+    private void send(Batch batch) {
+        if (batch.size() == 1) {
+            transport.send(batch.networkName, batch.calls.get(0), batch.handlers.get(0));
+            return;
+        }
+
+        transport.sendBatch(batch.networkName, new JSONArray(batch.calls), new CompletionHandler<JSONArray, QueryError>() {
+            @Override
+            public void handleData(JSONArray responses) {
+                route(batch, responses);
+            }
+
+            @Override
+            public void handleError(QueryError error) {
+                if (isBatchRejected(error)) {
+                    Log.w(TAG, "batch rejected; sending calls one at a time", error);
+                    synchronized (JsonRpcBatcher.this) {
+                        batchingSupported = false;
+                    }
+
+                    for (int i = 0; i < batch.size(); i++) {
+                        transport.send(batch.networkName, batch.calls.get(i), batch.handlers.get(i));
+                    }
+
+                } else {
+                    for (CompletionHandler<String, QueryError> handler : batch.handlers) {
+                        handler.handleError(error);
+                    }
+                }
+            }
+        });
+    }
+
+    private static void route(Batch batch, JSONArray responses) {
+        Map<String, JSONObject> responsesById = new HashMap<>();
+        for (int i = 0; i < responses.length(); i++) {
+            JSONObject response = responses.optJSONObject(i);
+            if (null != response && response.has("id")) {
+                responsesById.put(String.valueOf(response.opt("id")), response);
+            }
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            CompletionHandler<String, QueryError> handler = batch.handlers.get(i);
+            JSONObject response = responsesById.get(idOf(batch.calls.get(i)));
+
+            String result = null == response ? null : response.optString("result", null);
+            if (result == null) {
+                QueryError e = new QueryModelError("'result' expected");
+                Log.e(TAG, "missing 'result' in batch response", e);
+                handler.handleError(e);
+
+            } else {
+                handler.handleData(result);
+            }
+        }
+    }
+
+    // A host without batch support answers with a single error object, or refuses the request as such;
+    // anything else (a rate limit, a garbled reply) says nothing about batching and is passed on
+    private static boolean isBatchRejected(QueryError error) {
+        if (error instanceof BatchRejectedError) {
+            return true;
+        }
+        if (error instanceof QueryResponseError) {
+            int statusCode = ((QueryResponseError) error).getStatusCode();
+            return statusCode == 400 || statusCode == 405 || statusCode == 501;
+        }
+        return false;
+    }
+
+    private static String idOf(JSONObject call) {
+        return String.valueOf(call.opt("id"));
+    }
+
+    private static final class Batch {
+
+        private final String networkName;
+        private final List<JSONObject> calls = new ArrayList<>();
+        private final List<CompletionHandler<String, QueryError>> handlers = new ArrayList<>();
+
+        @Nullable
+        private ScheduledFuture<?> deadline;
+
+        Batch(String networkName) {
+            this.networkName = networkName;
+        }
+
+        void add(JSONObject call, CompletionHandler<String, QueryError> handler) {
+            calls.add(call);
+            handlers.add(handler);
+        }
+
+        boolean containsId(JSONObject call) {
+            String id = idOf(call);
+            for (JSONObject existing : calls) {
+                if (id.equals(idOf(existing))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int size() {
+            return calls.size();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * CachePolicy
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How long a cached response may be used.
+ *
+ * A response younger than maxAge is served without touching the network. Up to maxStale beyond that,
+ * it is still served immediately while a conditional request refreshes it in the background. Older
+ * responses are revalidated before being served.
+ */
+public final class CachePolicy {
+
+    public static CachePolicy of(long maxAge, long maxStale, TimeUnit unit) {
+        return new CachePolicy(unit.toMillis(maxAge), unit.toMillis(maxStale));
+    }
+
+    private final long maxAgeMillis;
+    private final long maxStaleMillis;
+
+    private CachePolicy(long maxAgeMillis, long maxStaleMillis) {
+        this.maxAgeMillis = maxAgeMillis;
+        this.maxStaleMillis = maxStaleMillis;
+    }
+
+    /* package */
+    boolean isFresh(CachedResponse response, long nowMillis) {
+        return nowMillis - response.getStoredAtMillis() < maxAgeMillis;
+    }
+
+    /* package */
+    boolean isServableWhileStale(CachedResponse response, long nowMillis) {
+        return nowMillis - response.getStoredAtMillis() < maxAgeMillis + maxStaleMillis;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * CachedResponse
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import android.support.annotation.Nullable;
+
+import com.google.common.base.Optional;
+
+public final class CachedResponse {
+
+    private final String body;
+    private final long storedAtMillis;
+
+    @Nullable
+    private final String etag;
+
+    public CachedResponse(String body, @Nullable String etag, long storedAtMillis) {
+        this.body = body;
+        this.etag = etag;
+        this.storedAtMillis = storedAtMillis;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Optional<String> getEtag() {
+        return Optional.fromNullable(etag);
+    }
+
+    public long getStoredAtMillis() {
+        return storedAtMillis;
+    }
+
+    /* package */
+    CachedResponse revalidated(long nowMillis) {
+        return new CachedResponse(body, etag, nowMillis);
+    }
+}
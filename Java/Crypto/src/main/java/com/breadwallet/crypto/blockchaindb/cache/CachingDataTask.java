@@ -0,0 +1,179 @@
+/*
+ * CachingDataTask
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import android.util.Log;
+
+import com.breadwallet.crypto.blockchaindb.DataTask;
+import com.google.common.base.Optional;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.RejectedExecutionException;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Serves GET requests tagged with a {@link CachePolicy} from a {@link ResponseCache}, revalidating with
+ * If-None-Match against the stored ETag. Untagged requests pass straight through to the wrapped task.
+ */
+public final class CachingDataTask implements DataTask {
+
+    private static final String TAG = CachingDataTask.class.getName();
+
+    private static final MediaType MEDIA_TYPE_JSON = MediaType.parse("application/json; charset=utf-8");
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_NOT_MODIFIED = 304;
+
+    private final DataTask dataTask;
+
+    private final ResponseCache cache;
+
+    public CachingDataTask(DataTask dataTask, ResponseCache cache) {
+        this.dataTask = dataTask;
+        this.cache = cache;
+    }
+
+    @Override
+    public void execute(OkHttpClient client, Request request, Callback callback) {
+        CachePolicy policy = request.tag(CachePolicy.class);
+        if (null == policy || !"GET".equals(request.method())) {
+            dataTask.execute(client, request, callback);
+            return;
+        }
+
+        String key = request.url().toString();
+        long now = System.currentTimeMillis();
+
+        Optional<CachedResponse> cached = cache.get(key);
+        if (cached.isPresent() && policy.isFresh(cached.get(), now)) {
+            post(client, callback, client.newCall(request), cached.get());
+
+        } else if (cached.isPresent() && policy.isServableWhileStale(cached.get(), now)) {
+            post(client, callback, client.newCall(request), cached.get());
+            dataTask.execute(client, conditional(request, cached.get()), new RevalidatingCallback(cache, key, cached.get(), null));
+
+        } else {
+            Request outgoing = cached.isPresent() ? conditional(request, cached.get()) : request;
+            dataTask.execute(client, outgoing, new RevalidatingCallback(cache, key, cached.orNull(), callback));
+        }
+    }
+
+    // Answer from the cache on OkHttp's dispatcher, as a response from the network would be, rather than
+    // on the caller's thread
+    private static void post(OkHttpClient client, Callback callback, Call call, CachedResponse cached) {
+        try {
+            client.dispatcher().executorService().execute(() -> deliver(callback, call, cached));
+        } catch (RejectedExecutionException e) {
+            InterruptedIOException failure = new InterruptedIOException("executor rejected");
+            failure.initCause(e);
+            callback.onFailure(call, failure);
+        }
+    }
+
+    private static void deliver(Callback callback, Call call, CachedResponse cached) {
+        try {
+            callback.onResponse(call, asResponse(call.request(), cached));
+        } catch (IOException e) {
+            callback.onFailure(call, e);
+        }
+    }
+
+    private static Request conditional(Request request, CachedResponse cached) {
+        if (!cached.getEtag().isPresent()) {
+            return request;
+        }
+        return request.newBuilder().header("If-None-Match", cached.getEtag().get()).build();
+    }
+
+    private static Response asResponse(Request request, CachedResponse cached) {
+        long now = System.currentTimeMillis();
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(HTTP_OK)
+                .message("OK")
+                .sentRequestAtMillis(now)
+                .receivedResponseAtMillis(now)
+                .body(ResponseBody.create(cached.getBody(), MEDIA_TYPE_JSON))
+                .build();
+    }
+
+    private static final class RevalidatingCallback implements Callback {
+
+        private final ResponseCache cache;
+        private final String key;
+        private final CachedResponse cached;
+        private final Callback callback;
+
+        // a null callback means the caller has already been answered from the cache
+        RevalidatingCallback(ResponseCache cache, String key, CachedResponse cached, Callback callback) {
+            this.cache = cache;
+            this.key = key;
+            this.cached = cached;
+            this.callback = callback;
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) throws IOException {
+            if (response.code() == HTTP_NOT_MODIFIED && null != cached) {
+                response.close();
+
+                CachedResponse revalidated = cached.revalidated(System.currentTimeMillis());
+                cache.put(key, revalidated);
+                if (null != callback) callback.onResponse(call, asResponse(call.request(), revalidated));
+
+            } else if (response.code() == HTTP_OK && null != response.body()) {
+                String body;
+                try (ResponseBody responseBody = response.body()) {
+                    body = responseBody.string();
+                }
+
+                cache.put(key, new CachedResponse(body, response.header("ETag"), System.currentTimeMillis()));
+                if (null != callback) callback.onResponse(call, response.newBuilder()
+                        .body(ResponseBody.create(body, MEDIA_TYPE_JSON))
+                        .build());
+
+            } else if (null == callback) {
+                response.close();
+
+            } else if (response.code() >= 500 && null != cached) {
+                // prefer an outdated answer over none when the server is having trouble
+                response.close();
+                deliver(callback, call, cached);
+
+            } else {
+                callback.onResponse(call, response);
+            }
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            if (null == callback) {
+                Log.e(TAG, "background revalidation failed", e);
+
+            } else if (null != cached) {
+                Log.e(TAG, "revalidation failed, serving cached response", e);
+                deliver(callback, call, cached);
+
+            } else {
+                callback.onFailure(call, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * DiskResponseCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import android.util.Log;
+
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Write-through, file-per-entry cache backed by an in-memory cache; survives process restarts
+public final class DiskResponseCache implements ResponseCache {
+
+    private static final String TAG = DiskResponseCache.class.getName();
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final File directory;
+    private final ResponseCache memory;
+
+    public DiskResponseCache(File directory) {
+        this(directory, new MemoryResponseCache());
+    }
+
+    public DiskResponseCache(File directory, ResponseCache memory) {
+        this.directory = directory;
+        this.memory = memory;
+    }
+
+    @Override
+    public Optional<CachedResponse> get(String key) {
+        Optional<CachedResponse> response = memory.get(key);
+        if (!response.isPresent()) {
+            response = read(key);
+            if (response.isPresent()) {
+                memory.put(key, response.get());
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public void put(String key, CachedResponse response) {
+        memory.put(key, response);
+        write(key, response);
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString());
+    }
+
+    private Optional<CachedResponse> read(String key) {
+        File file = fileFor(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+                return Optional.absent();
+            }
+
+            long storedAtMillis = in.readLong();
+            String etag = in.readBoolean() ? in.readUTF() : null;
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+
+            return Optional.of(new CachedResponse(new String(body, StandardCharsets.UTF_8), etag, storedAtMillis));
+
+        } catch (FileNotFoundException e) {
+            return Optional.absent();
+
+        } catch (IOException e) {
+            Log.e(TAG, "failed to read cached response", e);
+            return Optional.absent();
+        }
+    }
+
+    private synchronized void write(String key, CachedResponse response) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.e(TAG, "failed to create cache directory " + directory);
+            return;
+        }
+
+        File file = fileFor(key);
+        File temp = new File(directory, file.getName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            byte[] body = response.getBody().getBytes(StandardCharsets.UTF_8);
+
+            out.writeInt(FORMAT_VERSION);
+            out.writeUTF(key);
+            out.writeLong(response.getStoredAtMillis());
+            out.writeBoolean(response.getEtag().isPresent());
+            if (response.getEtag().isPresent()) out.writeUTF(response.getEtag().get());
+            out.writeInt(body.length);
+            out.write(body);
+
+        } catch (IOException e) {
+            Log.e(TAG, "failed to write cached response", e);
+            temp.delete();
+            return;
+        }
+
+        // replace atomically so that a concurrent reader sees either the old or the new entry
+        if (!temp.renameTo(file)) {
+            Log.e(TAG, "failed to commit cached response");
+            temp.delete();
+        }
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * DiskTransactionCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import android.support.annotation.Nullable;
+import android.util.Log;
+
+import com.breadwallet.crypto.blockchaindb.models.bdb.Transaction;
+import com.google.common.hash.Hashing;
+import com.google.common.io.CountingInputStream;
+import com.google.common.io.CountingOutputStream;
+import com.google.common.primitives.UnsignedLong;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// Append-only, log-per-blockchain cache of confirmed transactions and of the height ranges they cover,
+// by address; survives process restarts. Only the index is held in memory, raw transactions are read
+// back from disk as they are needed.
+//
+// A transaction is recorded against every address of the query that returned it. As those addresses
+// all belong to one wallet, a later query for any of them may be handed transactions of its siblings.
+public final class DiskTransactionCache implements TransactionCache {
+
+    private static final String TAG = DiskTransactionCache.class.getName();
+
+    private static final int FORMAT_VERSION = 1;
+
+    // Blocks below the chain tip before a transaction is considered immutable
+    private static final int DEFAULT_FINALITY_DEPTH = 6;
+
+    private static final byte RECORD_ADDRESS = 0;
+    private static final byte RECORD_TRANSACTION = 1;
+    private static final byte RECORD_TAG = 2;
+    private static final byte RECORD_RANGE = 3;
+    private static final byte RECORD_CHAIN_HEIGHT = 4;
+
+    private final File directory;
+    private final int finalityDepth;
+
+    // guarded by this
+    private final Map<String, Store> stores;
+
+    public DiskTransactionCache(File directory) {
+        this(directory, DEFAULT_FINALITY_DEPTH);
+    }
+
+    public DiskTransactionCache(File directory, int finalityDepth) {
+        checkArgument(finalityDepth > 0);
+
+        this.directory = directory;
+        this.finalityDepth = finalityDepth;
+        this.stores = new HashMap<>();
+    }
+
+    @Override
+    public List<HeightRange> getCoveredRanges(String blockchainId, String address) {
+        Store store = storeFor(blockchainId);
+        synchronized (store) {
+            Integer addressIndex = store.addressIndexes.get(address);
+            List<HeightRange> ranges = null == addressIndex ? null : store.ranges.get(addressIndex);
+            return null == ranges ? Collections.emptyList() : new ArrayList<>(ranges);
+        }
+    }
+
+    @Override
+    public List<Transaction> getTransactions(String blockchainId, String address, HeightRange range) {
+        Store store = storeFor(blockchainId);
+        synchronized (store) {
+            Integer addressIndex = store.addressIndexes.get(address);
+            List<Entry> entries = null == addressIndex ? null : store.entriesByAddress.get(addressIndex);
+            if (null == entries) {
+                return Collections.emptyList();
+            }
+
+            List<Entry> matching = new ArrayList<>();
+            for (Entry entry : entries) {
+                if (range.contains(entry.blockHeight)) {
+                    matching.add(entry);
+                }
+            }
+            Collections.sort(matching, (a, b) -> {
+                int result = a.blockHeight.compareTo(b.blockHeight);
+                return result != 0 ? result : Integer.compare(a.ordinal, b.ordinal);
+            });
+
+            List<Transaction> transactions = new ArrayList<>(matching.size());
+            if (matching.isEmpty()) {
+                return transactions;
+            }
+
+            try (RandomAccessFile file = new RandomAccessFile(store.file, "r")) {
+                for (Entry entry : matching) {
+                    byte[] raw = new byte[entry.rawLength];
+                    file.seek(entry.rawOffset);
+                    file.readFully(raw);
+                    transactions.add(entry.asTransaction(blockchainId, raw));
+                }
+
+            } catch (IOException e) {
+                Log.e(TAG, "failed to read cached transactions", e);
+                return Collections.emptyList();
+            }
+            return transactions;
+        }
+    }
+
+    @Override
+    public void put(String blockchainId, Collection<String> addresses, HeightRange range, List<Transaction> transactions) {
+        Store store = storeFor(blockchainId);
+        synchronized (store) {
+            UnsignedLong chainHeight = store.chainHeight;
+            for (Transaction transaction : transactions) {
+                if (transaction.getBlockHeight().isPresent() && transaction.getConfirmations().isPresent() &&
+                        !UnsignedLong.ZERO.equals(transaction.getConfirmations().get())) {
+                    UnsignedLong height = transaction.getBlockHeight().get()
+                            .plus(transaction.getConfirmations().get())
+                            .minus(UnsignedLong.ONE);
+                    if (null == chainHeight || height.compareTo(chainHeight) > 0) {
+                        chainHeight = height;
+                    }
+                }
+            }
+
+            // without a chain height, nothing is known to be final
+            if (null == chainHeight) {
+                return;
+            }
+
+            UnsignedLong finalizedEnd = chainHeight.plus(UnsignedLong.ONE).compareTo(UnsignedLong.valueOf(finalityDepth)) > 0 ?
+                    chainHeight.plus(UnsignedLong.ONE).minus(UnsignedLong.valueOf(finalityDepth)) :
+                    UnsignedLong.ZERO;
+            HeightRange covered = range.intersect(new HeightRange(UnsignedLong.ZERO, finalizedEnd)).orNull();
+
+            List<Transaction> finalized = new ArrayList<>();
+            if (null != covered) {
+                for (Transaction transaction : transactions) {
+                    if (transaction.getBlockHeight().isPresent() && covered.contains(transaction.getBlockHeight().get())) {
+                        // a gap in what is cached would go unnoticed on the next rescan
+                        if (!transaction.getRaw().isPresent()) {
+                            covered = null;
+                            break;
+                        }
+                        finalized.add(transaction);
+                    }
+                }
+            }
+
+            if (null == covered && chainHeight.equals(store.chainHeight)) {
+                return;
+            }
+
+            try {
+                write(store, addresses, covered, finalized, chainHeight);
+            } catch (IOException e) {
+                Log.e(TAG, "failed to write cached transactions", e);
+
+                // reload, dropping anything partially written, on next use
+                synchronized (this) {
+                    stores.remove(blockchainId);
+                }
+            }
+        }
+    }
+
+    private synchronized Store storeFor(String blockchainId) {
+        Store store = stores.get(blockchainId);
+        if (null == store) {
+            store = load(new File(directory, Hashing.sha256().hashString(blockchainId, StandardCharsets.UTF_8).toString()));
+            stores.put(blockchainId, store);
+        }
+        return store;
+    }
+
+    // guarded by store
+    private void write(Store store, Collection<String> addresses, @Nullable HeightRange covered,
+                       List<Transaction> transactions, UnsignedLong chainHeight) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("failed to create cache directory " + directory);
+        }
+
+        try (FileOutputStream fileOut = new FileOutputStream(store.file, true)) {
+            CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(fileOut));
+            DataOutputStream out = new DataOutputStream(counter);
+
+            if (0 == store.length) {
+                out.writeInt(FORMAT_VERSION);
+            }
+
+            if (null != covered) {
+                List<Integer> addressIndexes = new ArrayList<>(addresses.size());
+                for (String address : addresses) {
+                    Integer addressIndex = store.addressIndexes.get(address);
+                    if (null == addressIndex) {
+                        out.writeByte(RECORD_ADDRESS);
+                        out.writeUTF(address);
+                        addressIndex = store.addAddress(address);
+                    }
+                    addressIndexes.add(addressIndex);
+                }
+
+                for (Transaction transaction : transactions) {
+                    Entry existing = store.entriesById.get(transaction.getId());
+                    if (null == existing) {
+                        byte[] raw = transaction.getRaw().get();
+
+                        out.writeByte(RECORD_TRANSACTION);
+                        writeIndexes(out, addressIndexes);
+                        Entry entry = Entry.write(out, transaction, raw.length);
+                        entry.rawOffset = store.length + counter.getCount();
+                        out.write(raw);
+                        store.addEntry(entry, addressIndexes);
+
+                    } else {
+                        List<Integer> missing = new ArrayList<>();
+                        for (Integer addressIndex : addressIndexes) {
+                            if (!existing.addressIndexes.contains(addressIndex)) {
+                                missing.add(addressIndex);
+                            }
+                        }
+                        if (!missing.isEmpty()) {
+                            out.writeByte(RECORD_TAG);
+                            out.writeInt(existing.ordinal);
+                            writeIndexes(out, missing);
+                            store.addTags(existing, missing);
+                        }
+                    }
+                }
+
+                // ranges go last; a crash before this point leaves the transactions unclaimed
+                for (Integer addressIndex : addressIndexes) {
+                    out.writeByte(RECORD_RANGE);
+                    out.writeInt(addressIndex);
+                    out.writeLong(covered.getBegin().longValue());
+                    out.writeLong(covered.getEnd().longValue());
+                    store.addRange(addressIndex, covered);
+                }
+            }
+
+            if (!chainHeight.equals(store.chainHeight)) {
+                out.writeByte(RECORD_CHAIN_HEIGHT);
+                out.writeLong(chainHeight.longValue());
+                store.chainHeight = chainHeight;
+            }
+
+            out.flush();
+            fileOut.getFD().sync();
+            store.length += counter.getCount();
+        }
+    }
+
+    private static Store load(File file) {
+        Store store = new Store(file);
+
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            DataInputStream in = new DataInputStream(counter);
+
+            if (in.readInt() != FORMAT_VERSION) {
+                file.delete();
+                return new Store(file);
+            }
+            store.length = counter.getCount();
+
+            while (true) {
+                int kind = in.read();
+                if (-1 == kind) {
+                    break;
+                }
+
+                switch (kind) {
+                    case RECORD_ADDRESS:
+                        store.addAddress(in.readUTF());
+                        break;
+                    case RECORD_TRANSACTION:
+                        List<Integer> addressIndexes = readIndexes(in);
+                        Entry entry = Entry.read(in);
+                        entry.rawOffset = counter.getCount();
+                        in.skipBytes(entry.rawLength);
+                        if (counter.getCount() != entry.rawOffset + entry.rawLength) {
+                            throw new EOFException();
+                        }
+                        store.addEntry(entry, addressIndexes);
+                        break;
+                    case RECORD_TAG:
+                        Entry tagged = store.entries.get(in.readInt());
+                        store.addTags(tagged, readIndexes(in));
+                        break;
+                    case RECORD_RANGE:
+                        int addressIndex = in.readInt();
+                        UnsignedLong begin = UnsignedLong.fromLongBits(in.readLong());
+                        UnsignedLong end = UnsignedLong.fromLongBits(in.readLong());
+                        store.addRange(addressIndex, new HeightRange(begin, end));
+                        break;
+                    case RECORD_CHAIN_HEIGHT:
+                        store.chainHeight = UnsignedLong.fromLongBits(in.readLong());
+                        break;
+                    default:
+                        throw new IOException("unknown record " + kind);
+                }
+                store.length = counter.getCount();
+            }
+
+        } catch (FileNotFoundException e) {
+            return store;
+
+        } catch (IOException | RuntimeException e) {
+            // a record cut short by a crash; drop it, and anything after it
+            try (RandomAccessFile truncated = new RandomAccessFile(file, "rw")) {
+                truncated.setLength(store.length);
+            } catch (IOException ignored) {
+                file.delete();
+                return new Store(file);
+            }
+        }
+        return store;
+    }
+
+    private static void writeIndexes(DataOutputStream out, List<Integer> indexes) throws IOException {
+        out.writeInt(indexes.size());
+        for (Integer index : indexes) {
+            out.writeInt(index);
+        }
+    }
+
+    private static List<Integer> readIndexes(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        List<Integer> indexes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            indexes.add(in.readInt());
+        }
+        return indexes;
+    }
+
+    // guarded by itself
+    private static final class Store {
+
+        private final File file;
+        private long length;
+
+        private final List<String> addresses = new ArrayList<>();
+        private final Map<String, Integer> addressIndexes = new HashMap<>();
+
+        private final List<Entry> entries = new ArrayList<>();
+        private final Map<String, Entry> entriesById = new HashMap<>();
+        private final Map<Integer, List<Entry>> entriesByAddress = new HashMap<>();
+
+        private final Map<Integer, List<HeightRange>> ranges = new HashMap<>();
+
+        @Nullable
+        private UnsignedLong chainHeight;
+
+        Store(File file) {
+            this.file = file;
+        }
+
+        int addAddress(String address) {
+            int addressIndex = addresses.size();
+            addresses.add(address);
+            addressIndexes.put(address, addressIndex);
+            return addressIndex;
+        }
+
+        void addEntry(Entry entry, List<Integer> entryAddressIndexes) {
+            entry.ordinal = entries.size();
+            entries.add(entry);
+            entriesById.put(entry.id, entry);
+            addTags(entry, entryAddressIndexes);
+        }
+
+        void addTags(Entry entry, List<Integer> entryAddressIndexes) {
+            for (Integer addressIndex : entryAddressIndexes) {
+                if (entry.addressIndexes.add(addressIndex)) {
+                    List<Entry> addressEntries = entriesByAddress.get(addressIndex);
+                    if (null == addressEntries) {
+                        addressEntries = new ArrayList<>();
+                        entriesByAddress.put(addressIndex, addressEntries);
+                    }
+                    addressEntries.add(entry);
+                }
+            }
+        }
+
+        void addRange(int addressIndex, HeightRange range) {
+            List<HeightRange> addressRanges = ranges.get(addressIndex);
+            ranges.put(addressIndex, HeightRange.union(null == addressRanges ? Collections.emptyList() : addressRanges, range));
+        }
+    }
+
+    private static final class Entry {
+
+        static Entry write(DataOutputStream out, Transaction transaction, int rawLength) throws IOException {
+            Entry entry = new Entry(
+                    transaction.getId(),
+                    transaction.getHash(),
+                    transaction.getIdentifier(),
+                    transaction.getStatus(),
+                    transaction.getBlockHash().orNull(),
+                    transaction.getBlockHeight().get(),
+                    transaction.getIndex().orNull(),
+                    transaction.getSize(),
+                    transaction.getTimestamp().transform(Date::getTime).orNull(),
+                    rawLength);
+
+            out.writeUTF(entry.id);
+            out.writeUTF(entry.hash);
+            out.writeUTF(entry.identifier);
+            out.writeUTF(entry.status);
+            out.writeBoolean(null != entry.blockHash);
+            if (null != entry.blockHash) out.writeUTF(entry.blockHash);
+            out.writeLong(entry.blockHeight.longValue());
+            out.writeBoolean(null != entry.index);
+            if (null != entry.index) out.writeLong(entry.index.longValue());
+            out.writeLong(entry.size.longValue());
+            out.writeBoolean(null != entry.timestampMillis);
+            if (null != entry.timestampMillis) out.writeLong(entry.timestampMillis);
+            out.writeInt(entry.rawLength);
+            return entry;
+        }
+
+        static Entry read(DataInputStream in) throws IOException {
+            String id = in.readUTF();
+            String hash = in.readUTF();
+            String identifier = in.readUTF();
+            String status = in.readUTF();
+            String blockHash = in.readBoolean() ? in.readUTF() : null;
+            UnsignedLong blockHeight = UnsignedLong.fromLongBits(in.readLong());
+            UnsignedLong index = in.readBoolean() ? UnsignedLong.fromLongBits(in.readLong()) : null;
+            UnsignedLong size = UnsignedLong.fromLongBits(in.readLong());
+            Long timestampMillis = in.readBoolean() ? in.readLong() : null;
+            int rawLength = in.readInt();
+            return new Entry(id, hash, identifier, status, blockHash, blockHeight, index, size, timestampMillis, rawLength);
+        }
+
+        private final String id;
+        private final String hash;
+        private final String identifier;
+        private final String status;
+        private final UnsignedLong blockHeight;
+        private final UnsignedLong size;
+        private final int rawLength;
+        private final Set<Integer> addressIndexes;
+
+        @Nullable
+        private final String blockHash;
+        @Nullable
+        private final UnsignedLong index;
+        @Nullable
+        private final Long timestampMillis;
+
+        private int ordinal;
+        private long rawOffset;
+
+        private Entry(String id, String hash, String identifier, String status, @Nullable String blockHash,
+                      UnsignedLong blockHeight, @Nullable UnsignedLong index, UnsignedLong size,
+                      @Nullable Long timestampMillis, int rawLength) {
+            this.id = id;
+            this.hash = hash;
+            this.identifier = identifier;
+            this.status = status;
+            this.blockHash = blockHash;
+            this.blockHeight = blockHeight;
+            this.index = index;
+            this.size = size;
+            this.timestampMillis = timestampMillis;
+            this.rawLength = rawLength;
+            this.addressIndexes = new LinkedHashSet<>();
+        }
+
+        // Transfers are not kept; cached transactions are for handing raw bytes to core
+        Transaction asTransaction(String blockchainId, byte[] raw) {
+            return new Transaction(id, blockchainId, hash, identifier, blockHash, blockHeight, index, null, status,
+                    size, null == timestampMillis ? null : new Date(timestampMillis), null, raw,
+                    Collections.emptyList(), UnsignedLong.ZERO);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * HeightRange
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.google.common.base.Optional;
+import com.google.common.primitives.UnsignedLong;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+// A half-open range of block heights, [begin, end)
+public final class HeightRange implements Comparable<HeightRange> {
+
+    private final UnsignedLong begin;
+    private final UnsignedLong end;
+
+    public HeightRange(UnsignedLong begin, UnsignedLong end) {
+        checkArgument(begin.compareTo(end) <= 0);
+
+        this.begin = begin;
+        this.end = end;
+    }
+
+    public UnsignedLong getBegin() {
+        return begin;
+    }
+
+    public UnsignedLong getEnd() {
+        return end;
+    }
+
+    public boolean isEmpty() {
+        return begin.equals(end);
+    }
+
+    public boolean contains(UnsignedLong height) {
+        return begin.compareTo(height) <= 0 && height.compareTo(end) < 0;
+    }
+
+    public Optional<HeightRange> intersect(HeightRange other) {
+        UnsignedLong maxBegin = begin.compareTo(other.begin) >= 0 ? begin : other.begin;
+        UnsignedLong minEnd = end.compareTo(other.end) <= 0 ? end : other.end;
+        return maxBegin.compareTo(minEnd) < 0 ? Optional.of(new HeightRange(maxBegin, minEnd)) : Optional.absent();
+    }
+
+    // The parts of this range not in `ranges`, in order
+    public List<HeightRange> subtract(List<HeightRange> ranges) {
+        List<HeightRange> sorted = new ArrayList<>(ranges);
+        Collections.sort(sorted);
+
+        List<HeightRange> remaining = new ArrayList<>();
+        UnsignedLong position = begin;
+        for (HeightRange range : sorted) {
+            if (range.end.compareTo(position) <= 0) {
+                continue;
+            }
+            if (range.begin.compareTo(end) >= 0) {
+                break;
+            }
+            if (range.begin.compareTo(position) > 0) {
+                remaining.add(new HeightRange(position, range.begin));
+            }
+            position = range.end;
+        }
+
+        if (position.compareTo(end) < 0) {
+            remaining.add(new HeightRange(position, end));
+        }
+        return remaining;
+    }
+
+    // Add `range` to the sorted, disjoint `ranges`, merging it with those it overlaps or abuts
+    public static List<HeightRange> union(List<HeightRange> ranges, HeightRange range) {
+        List<HeightRange> merged = new ArrayList<>(ranges.size() + 1);
+        UnsignedLong mergedBegin = range.begin;
+        UnsignedLong mergedEnd = range.end;
+        boolean added = false;
+
+        for (HeightRange existing : ranges) {
+            if (existing.end.compareTo(mergedBegin) < 0) {
+                merged.add(existing);
+
+            } else if (existing.begin.compareTo(mergedEnd) > 0) {
+                if (!added) {
+                    merged.add(new HeightRange(mergedBegin, mergedEnd));
+                    added = true;
+                }
+                merged.add(existing);
+
+            } else {
+                mergedBegin = existing.begin.compareTo(mergedBegin) < 0 ? existing.begin : mergedBegin;
+                mergedEnd = existing.end.compareTo(mergedEnd) > 0 ? existing.end : mergedEnd;
+            }
+        }
+
+        if (!added) {
+            merged.add(new HeightRange(mergedBegin, mergedEnd));
+        }
+        return merged;
+    }
+
+    @Override
+    public int compareTo(HeightRange other) {
+        int result = begin.compareTo(other.begin);
+        return result != 0 ? result : end.compareTo(other.end);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof HeightRange)) {
+            return false;
+        }
+
+        HeightRange that = (HeightRange) object;
+        return begin.equals(that.begin) && end.equals(that.end);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * begin.hashCode() + end.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "[" + begin + ", " + end + ")";
+    }
+}
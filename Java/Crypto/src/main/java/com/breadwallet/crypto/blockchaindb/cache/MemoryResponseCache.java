@@ -0,0 +1,45 @@
+/*
+ * MemoryResponseCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.google.common.base.Optional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class MemoryResponseCache implements ResponseCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final Map<String, CachedResponse> entries;
+
+    public MemoryResponseCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public MemoryResponseCache(int maxEntries) {
+        this.entries = new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<CachedResponse> get(String key) {
+        return Optional.fromNullable(entries.get(key));
+    }
+
+    @Override
+    public synchronized void put(String key, CachedResponse response) {
+        entries.put(key, response);
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * ResponseCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.google.common.base.Optional;
+
+public interface ResponseCache {
+    Optional<CachedResponse> get(String key);
+    void put(String key, CachedResponse response);
+}
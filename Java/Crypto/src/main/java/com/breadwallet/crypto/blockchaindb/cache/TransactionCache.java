@@ -0,0 +1,28 @@
+/*
+ * TransactionCache
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.breadwallet.crypto.blockchaindb.models.bdb.Transaction;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionCache {
+
+    // The sorted, disjoint ranges over which every transaction involving `address` is cached
+    List<HeightRange> getCoveredRanges(String blockchainId, String address);
+
+    // The cached transactions involving `address` within `range`, in block order
+    List<Transaction> getTransactions(String blockchainId, String address, HeightRange range);
+
+    // Record that `transactions` are all of those involving `addresses` within `range`; only the
+    // part of `range` that is safely below the chain tip is kept
+    void put(String blockchainId, Collection<String> addresses, HeightRange range, List<Transaction> transactions);
+}
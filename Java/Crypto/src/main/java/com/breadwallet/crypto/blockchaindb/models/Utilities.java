@@ -7,6 +7,9 @@
  */
 package com.breadwallet.crypto.blockchaindb.models;
 
+import android.util.JsonReader;
+import android.util.JsonToken;
+
 import com.google.common.base.Optional;
 import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedInteger;
@@ -18,6 +21,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -104,4 +108,50 @@ public final class Utilities {
         }
         return items;
     }
+
+    // Streaming variants; each consumes the next value from the reader, treating JSON null as absent
+
+    public static Optional<String> nextOptionalString(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return Optional.absent();
+        }
+        return Optional.of(reader.nextString());
+    }
+
+    public static Optional<Date> nextOptional8601Date(JsonReader reader) throws IOException {
+        String value = nextOptionalString(reader).orNull();
+        if (null == value) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.fromNullable(ISO_8601_FORMAT.get().parse(value));
+        } catch (ParseException e) {
+            return Optional.absent();
+        }
+    }
+
+    public static Optional<byte[]> nextOptionalBase64Bytes(JsonReader reader) throws IOException {
+        String value = nextOptionalString(reader).orNull();
+        if (null == value) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.fromNullable(BaseEncoding.base64().decode(value));
+        } catch (IllegalArgumentException e) {
+            return Optional.absent();
+        }
+    }
+
+    public static Optional<UnsignedLong> nextOptionalUnsignedLong(JsonReader reader) throws IOException {
+        String value = nextOptionalString(reader).orNull();
+        if (null == value) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.of(UnsignedLong.valueOf(value));
+        } catch (NumberFormatException e) {
+            return Optional.absent();
+        }
+    }
 }
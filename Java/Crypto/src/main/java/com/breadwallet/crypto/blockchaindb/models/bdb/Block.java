@@ -8,6 +8,8 @@
 package com.breadwallet.crypto.blockchaindb.models.bdb;
 
 import android.support.annotation.Nullable;
+import android.util.JsonReader;
+import android.util.JsonToken;
 
 import com.breadwallet.crypto.blockchaindb.models.Utilities;
 import com.google.common.base.Optional;
@@ -17,6 +19,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -68,6 +71,63 @@ public class Block {
         return Optional.of(blocks);
     }
 
+    public static Optional<Block> asBlock(JsonReader reader) throws IOException {
+        String id = null;
+        String bid = null;
+        String hash = null;
+        String header = null;
+        String prevHash = null;
+        String nextHash = null;
+        UnsignedLong height = null;
+        UnsignedLong size = null;
+        UnsignedLong acks = null;
+        Date mined = null;
+        byte[] raw = null;
+        List<Transaction> transactions = null;
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "block_id":         id = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "blockchain_id":    bid = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "hash":             hash = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "header":           header = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "prevHash":         prevHash = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "nexthash":         nextHash = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "height":           height = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "size":             size = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "acknowledgements": acks = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "mined":            mined = Utilities.nextOptional8601Date(reader).orNull(); break;
+                    case "raw":              raw = Utilities.nextOptionalBase64Bytes(reader).orNull(); break;
+                    case "transactions":
+                        if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                            transactions = Transaction.asTransactions(reader).orNull();
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+
+        } catch (IllegalStateException e) {
+            return Optional.absent();
+        }
+
+        //required
+        if (null == id || null == bid || null == hash || null == height || null == size || null == acks ||
+                null == mined) {
+            return Optional.absent();
+        }
+
+        return Optional.of(new Block(id, bid, hash, height, header, raw, mined, size, prevHash, nextHash,
+                transactions, acks));
+    }
+
     private final String id;
     private final String blockchainId;
     private final String hash;
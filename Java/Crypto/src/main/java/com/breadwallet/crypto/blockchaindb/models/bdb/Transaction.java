@@ -8,6 +8,7 @@
 package com.breadwallet.crypto.blockchaindb.models.bdb;
 
 import android.support.annotation.Nullable;
+import android.util.JsonReader;
 
 import com.breadwallet.crypto.blockchaindb.models.Utilities;
 import com.google.common.base.Optional;
@@ -17,6 +18,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
@@ -77,6 +79,96 @@ public class Transaction {
         return Optional.of(transactions);
     }
 
+    public static Optional<Transaction> asTransaction(JsonReader reader) throws IOException {
+        String id = null;
+        String bid = null;
+        String hash = null;
+        String identifier = null;
+        String status = null;
+        String blockHash = null;
+        UnsignedLong size = null;
+        UnsignedLong index = null;
+        UnsignedLong blockHeight = null;
+        UnsignedLong confirmations = null;
+        UnsignedLong acks = UnsignedLong.ZERO;
+        Date firstSeen = null;
+        Date timestamp = null;
+        byte[] raw = null;
+        List<Transfer> transfers = null;
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "transaction_id":   id = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "blockchain_id":    bid = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "hash":             hash = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "identifier":       identifier = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "status":           status = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "block_hash":       blockHash = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "size":             size = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "index":            index = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "block_height":     blockHeight = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "confirmations":    confirmations = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "acknowledgements": acks = Utilities.nextOptionalUnsignedLong(reader).or(UnsignedLong.ZERO); break;
+                    case "first_seen":       firstSeen = Utilities.nextOptional8601Date(reader).orNull(); break;
+                    case "timestamp":        timestamp = Utilities.nextOptional8601Date(reader).orNull(); break;
+                    case "raw":              raw = Utilities.nextOptionalBase64Bytes(reader).orNull(); break;
+                    case "_embedded":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            if ("transfers".equals(reader.nextName())) {
+                                Optional<List<Transfer>> optionalTransfers = Transfer.asTransfers(reader);
+                                if (!optionalTransfers.isPresent()) return Optional.absent();
+                                transfers = optionalTransfers.get();
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+
+        } catch (IllegalStateException e) {
+            return Optional.absent();
+        }
+
+        //required
+        if (null == id || null == bid || null == hash || null == identifier || null == status || null == size ||
+                null == transfers) {
+            return Optional.absent();
+        }
+
+        return Optional.of(new Transaction(id, bid, hash, identifier, blockHash, blockHeight, index,
+                confirmations, status, size, timestamp, firstSeen, raw,
+                transfers, acks));
+    }
+
+    public static Optional<List<Transaction>> asTransactions(JsonReader reader) throws IOException {
+        List<Transaction> transactions = new ArrayList<>();
+        try {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Optional<Transaction> optionalTransaction = Transaction.asTransaction(reader);
+                if (!optionalTransaction.isPresent()) {
+                    return Optional.absent();
+                }
+
+                transactions.add(optionalTransaction.get());
+            }
+            reader.endArray();
+
+        } catch (IllegalStateException e) {
+            return Optional.absent();
+        }
+        return Optional.of(transactions);
+    }
+
     private final String id;
     private final String blockchainId;
     private final String hash;
@@ -8,6 +8,7 @@
 package com.breadwallet.crypto.blockchaindb.models.bdb;
 
 import android.support.annotation.Nullable;
+import android.util.JsonReader;
 
 import com.breadwallet.crypto.blockchaindb.models.Utilities;
 import com.google.common.base.Optional;
@@ -17,6 +18,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -63,6 +65,78 @@ public class Transfer {
         return Optional.of(transfers);
     }
 
+    public static Optional<Transfer> asTransfer(JsonReader reader) throws IOException {
+        String id = null;
+        String bid = null;
+        String source = null;
+        String target = null;
+        String tid = null;
+        String value = null;
+        String currency = null;
+        UnsignedLong index = null;
+        UnsignedLong acks = null;
+
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "transfer_id":      id = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "blockchain_id":    bid = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "from_address":     source = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "to_address":       target = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "transaction_id":   tid = Utilities.nextOptionalString(reader).orNull(); break;
+                    case "index":            index = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "acknowledgements": acks = Utilities.nextOptionalUnsignedLong(reader).orNull(); break;
+                    case "amount":
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "amount":      value = Utilities.nextOptionalString(reader).orNull(); break;
+                                case "currency_id": currency = Utilities.nextOptionalString(reader).orNull(); break;
+                                default:            reader.skipValue(); break;
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    default:
+                        reader.skipValue();
+                        break;
+                }
+            }
+            reader.endObject();
+
+        } catch (IllegalStateException e) {
+            return Optional.absent();
+        }
+
+        //required
+        if (null == id || null == bid || null == index || null == value || null == currency) {
+            return Optional.absent();
+        }
+
+        return Optional.of(new Transfer(id, source, target, value, currency, acks, index, tid, bid));
+    }
+
+    public static Optional<List<Transfer>> asTransfers(JsonReader reader) throws IOException {
+        List<Transfer> transfers = new ArrayList<>();
+        try {
+            reader.beginArray();
+            while (reader.hasNext()) {
+                Optional<Transfer> optionalTransfer = Transfer.asTransfer(reader);
+                if (!optionalTransfer.isPresent()) {
+                    return Optional.absent();
+                }
+
+                transfers.add(optionalTransfer.get());
+            }
+            reader.endArray();
+
+        } catch (IllegalStateException e) {
+            return Optional.absent();
+        }
+        return Optional.of(transfers);
+    }
+
     private final String id;
     private final String amountValue;
     private final String amountCurrency;
@@ -0,0 +1,215 @@
+/*
+ * MemoryMetrics
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.metrics;
+
+import android.support.annotation.Nullable;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
+import com.google.common.base.Supplier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps every measurement in memory, as histograms keyed by endpoint, blockchain, executor and
+ * network, for inspection from a debug screen or a test; `dump()` renders them all.
+ */
+public final class MemoryMetrics implements Metrics {
+
+    private final ConcurrentMap<String, QueryStats> queriesByEndpoint = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, QueryStats> queriesByBlockchain = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> errorsByClass = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ExecutorStats> executors = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Histogram> announces = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordQuery(String endpoint, @Nullable String blockchainId, long latencyNanos, long parseNanos, long bytes, int items) {
+        get(queriesByEndpoint, endpoint, QueryStats::new).record(latencyNanos, parseNanos, bytes, items);
+        if (null != blockchainId) {
+            get(queriesByBlockchain, blockchainId, QueryStats::new).record(latencyNanos, parseNanos, bytes, items);
+        }
+    }
+
+    @Override
+    public void recordQueryError(String endpoint, @Nullable String blockchainId, QueryError error) {
+        get(queriesByEndpoint, endpoint, QueryStats::new).errors.incrementAndGet();
+        if (null != blockchainId) {
+            get(queriesByBlockchain, blockchainId, QueryStats::new).errors.incrementAndGet();
+        }
+
+        String errorClass = error.getClass().getSimpleName();
+        if (error instanceof QueryResponseError) {
+            errorClass += " " + ((QueryResponseError) error).getStatusCode();
+        }
+        get(errorsByClass, endpoint + ": " + errorClass, AtomicLong::new).incrementAndGet();
+    }
+
+    @Override
+    public void recordExecutorQueueDepth(String executor, int depth) {
+        get(executors, executor, ExecutorStats::new).queueDepth.record(depth);
+    }
+
+    @Override
+    public void recordExecutorWait(String executor, long waitNanos) {
+        get(executors, executor, ExecutorStats::new).wait.record(waitNanos);
+    }
+
+    @Override
+    public void recordAnnounce(String network, String announcement, int items) {
+        get(announces, network + " " + announcement, Histogram::new).record(items);
+    }
+
+    // Keyed as "GET transactions", "proxy eth_blockNumber", ...
+    public Map<String, QueryStats> getQueriesByEndpoint() {
+        return Collections.unmodifiableMap(queriesByEndpoint);
+    }
+
+    // Keyed by blockchain id, or by ETH network name for the BRD endpoints
+    public Map<String, QueryStats> getQueriesByBlockchain() {
+        return Collections.unmodifiableMap(queriesByBlockchain);
+    }
+
+    // Keyed as "<endpoint>: <error class>[ <status code>]"
+    public Map<String, Long> getErrorCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<String, AtomicLong> entry : errorsByClass.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().get());
+        }
+        return counts;
+    }
+
+    public Map<String, ExecutorStats> getExecutors() {
+        return Collections.unmodifiableMap(executors);
+    }
+
+    // Keyed as "<network uids> <announcement>", holding the items per announce
+    public Map<String, Histogram> getAnnounces() {
+        return Collections.unmodifiableMap(announces);
+    }
+
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+
+        builder.append("Queries by endpoint (latency and parse in ms):\n");
+        for (Map.Entry<String, QueryStats> entry : new TreeMap<>(queriesByEndpoint).entrySet()) {
+            builder.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+
+        builder.append("Queries by blockchain (latency and parse in ms):\n");
+        for (Map.Entry<String, QueryStats> entry : new TreeMap<>(queriesByBlockchain).entrySet()) {
+            builder.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+
+        builder.append("Query errors:\n");
+        for (Map.Entry<String, Long> entry : getErrorCounts().entrySet()) {
+            builder.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+
+        builder.append("Executors (wait in ms):\n");
+        for (Map.Entry<String, ExecutorStats> entry : new TreeMap<>(executors).entrySet()) {
+            builder.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+
+        builder.append("Announces (items per call):\n");
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(announces).entrySet()) {
+            builder.append("  ").append(entry.getKey()).append(": ").append(entry.getValue()).append('\n');
+        }
+
+        return builder.toString();
+    }
+
+    private static <V> V get(ConcurrentMap<String, V> map, String key, Supplier<V> factory) {
+        V value = map.get(key);
+        if (null == value) {
+            V newValue = factory.get();
+            value = map.putIfAbsent(key, newValue);
+            value = null == value ? newValue : value;
+        }
+        return value;
+    }
+
+    private static String millis(Histogram nanos) {
+        return String.format("p50=%.1f p99=%.1f total=%.1f",
+                nanos.getPercentile(50) / 1e6, nanos.getPercentile(99) / 1e6, nanos.getSum() / 1e6);
+    }
+
+    public static final class QueryStats {
+
+        private final Histogram latency = new Histogram();
+        private final Histogram parse = new Histogram();
+        private final Histogram bytes = new Histogram();
+        private final Histogram items = new Histogram();
+        private final AtomicLong errors = new AtomicLong();
+
+        private void record(long latencyNanos, long parseNanos, long bytes, int items) {
+            this.latency.record(latencyNanos);
+            this.parse.record(parseNanos);
+            this.bytes.record(bytes);
+            this.items.record(items);
+        }
+
+        // One per successful response, so for a paged endpoint this counts the pages
+        public long getResponseCount() {
+            return latency.getCount();
+        }
+
+        public long getErrorCount() {
+            return errors.get();
+        }
+
+        public Histogram getLatencyNanos() {
+            return latency;
+        }
+
+        public Histogram getParseNanos() {
+            return parse;
+        }
+
+        public Histogram getBytes() {
+            return bytes;
+        }
+
+        public Histogram getItems() {
+            return items;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("responses=%d errors=%d latency{%s} parse{%s} bytes=%d items=%d",
+                    getResponseCount(), getErrorCount(), millis(latency), millis(parse), bytes.getSum(), items.getSum());
+        }
+    }
+
+    public static final class ExecutorStats {
+
+        private final Histogram queueDepth = new Histogram();
+        private final Histogram wait = new Histogram();
+
+        public Histogram getQueueDepth() {
+            return queueDepth;
+        }
+
+        public Histogram getWaitNanos() {
+            return wait;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("tasks=%d depth{p50=%d p99=%d max=%d} wait{%s}",
+                    wait.getCount(), queueDepth.getPercentile(50), queueDepth.getPercentile(99), queueDepth.getMax(),
+                    millis(wait));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Metrics
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.metrics;
+
+import android.support.annotation.Nullable;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+
+/**
+ * Receives measurements from the hot paths of a sync: the BlockchainDb queries, the executors that
+ * pump wallet manager callbacks and the results announced back to core.
+ *
+ * Implementations are called inline, from OkHttp and executor threads, and must be thread-safe and cheap.
+ */
+public interface Metrics {
+
+    /**
+     * A query answered with a success status.
+     *
+     * @param endpoint     the method and resource, or the ETH method or action, queried (e.g. "GET transactions")
+     * @param blockchainId the blockchain (or ETH network) queried, if any
+     * @param latencyNanos the time from handing off the request to receiving the response headers
+     * @param parseNanos   the time spent reading and parsing the response body
+     * @param bytes        the size of the decoded response body
+     * @param items        the number of items in the response
+     */
+    void recordQuery(String endpoint, @Nullable String blockchainId, long latencyNanos, long parseNanos, long bytes, int items);
+
+    /**
+     * A query that failed, whether in transport, with an error status or in parsing its response.
+     */
+    void recordQueryError(String endpoint, @Nullable String blockchainId, QueryError error);
+
+    /**
+     * The depth of an executor's queue just after a task was added to it.
+     */
+    void recordExecutorQueueDepth(String executor, int depth);
+
+    /**
+     * The time a task waited in an executor's queue before starting.
+     */
+    void recordExecutorWait(String executor, long waitNanos);
+
+    /**
+     * Query results announced to a wallet manager in core.
+     *
+     * @param network      the uids of the wallet manager's network
+     * @param announcement the client call being answered (e.g. "getTransactions")
+     * @param items        the number of items announced in one call
+     */
+    void recordAnnounce(String network, String announcement, int items);
+}
@@ -0,0 +1,42 @@
+/*
+ * NoopMetrics
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.metrics;
+
+import android.support.annotation.Nullable;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+
+public final class NoopMetrics implements Metrics {
+
+    public static final NoopMetrics INSTANCE = new NoopMetrics();
+
+    private NoopMetrics() {
+    }
+
+    @Override
+    public void recordQuery(String endpoint, @Nullable String blockchainId, long latencyNanos, long parseNanos, long bytes, int items) {
+    }
+
+    @Override
+    public void recordQueryError(String endpoint, @Nullable String blockchainId, QueryError error) {
+    }
+
+    @Override
+    public void recordExecutorQueueDepth(String executor, int depth) {
+    }
+
+    @Override
+    public void recordExecutorWait(String executor, long waitNanos) {
+    }
+
+    @Override
+    public void recordAnnounce(String network, String announcement, int items) {
+    }
+}
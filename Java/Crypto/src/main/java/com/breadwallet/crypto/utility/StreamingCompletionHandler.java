@@ -0,0 +1,18 @@
+/*
+ * StreamingCompletionHandler
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.utility;
+
+// Receives results incrementally, as they arrive, followed by exactly one of complete or error.
+// Calls are never made concurrently for a given request.
+public interface StreamingCompletionHandler<T, E> {
+    void handleData(T data);
+    void handleComplete();
+    void handleError(E error);
+}
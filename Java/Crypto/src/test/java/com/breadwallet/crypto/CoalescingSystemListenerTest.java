@@ -0,0 +1,152 @@
+/*
+ * CoalescingSystemListenerTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto;
+
+import com.breadwallet.crypto.events.system.DefaultSystemListener;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerBlockUpdatedEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerDeletedEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerSyncProgressEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerSyncStoppedEvent;
+import com.google.common.primitives.UnsignedLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class CoalescingSystemListenerTest {
+
+    private static class RecordingListener implements DefaultSystemListener {
+
+        final List<WalletManagerEvent> received = new ArrayList<>();
+        final CountDownLatch latch;
+
+        RecordingListener(int count) {
+            this.latch = new CountDownLatch(count);
+        }
+
+        @Override
+        public void handleManagerEvent(System system, WalletManager manager, WalletManagerEvent event) {
+            received.add(event);
+            latch.countDown();
+        }
+    }
+
+    private ScheduledExecutorService executor;
+    private WalletManager manager;
+
+    @Before
+    public void setup() {
+        executor = new ScheduledThreadPoolExecutor(1);
+        manager = (WalletManager) Proxy.newProxyInstance(WalletManager.class.getClassLoader(), new Class<?>[] {WalletManager.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals": return proxy == args[0];
+                        case "hashCode": return java.lang.System.identityHashCode(proxy);
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @After
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testOnlyLatestProgressIsDeliveredAtEndOfWindow() throws InterruptedException {
+        RecordingListener recorder = new RecordingListener(2);
+        CoalescingSystemListener listener = new CoalescingSystemListener(recorder, executor, 50, TimeUnit.MILLISECONDS);
+
+        for (int i = 1; i <= 100; i++) {
+            listener.handleManagerEvent(null, manager, new WalletManagerSyncProgressEvent(i, null));
+            listener.handleManagerEvent(null, manager, new WalletManagerBlockUpdatedEvent(UnsignedLong.valueOf(i)));
+        }
+
+        assertTrue(recorder.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(2, recorder.received.size());
+        assertEquals(100, ((WalletManagerSyncProgressEvent) recorder.received.get(0)).getPercentComplete(), 0);
+        assertEquals(UnsignedLong.valueOf(100), ((WalletManagerBlockUpdatedEvent) recorder.received.get(1)).getHeight());
+    }
+
+    @Test
+    public void testPendingEventsAreDeliveredBeforeStateTransitions() {
+        RecordingListener recorder = new RecordingListener(2);
+        CoalescingSystemListener listener = new CoalescingSystemListener(recorder, executor, 1, TimeUnit.HOURS);
+
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncProgressEvent(10, null));
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncProgressEvent(99, null));
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncStoppedEvent(null));
+
+        assertEquals(2, recorder.received.size());
+        assertEquals(99, ((WalletManagerSyncProgressEvent) recorder.received.get(0)).getPercentComplete(), 0);
+        assertTrue(recorder.received.get(1) instanceof WalletManagerSyncStoppedEvent);
+    }
+
+    @Test
+    public void testForgetsDeletedManager() {
+        RecordingListener recorder = new RecordingListener(2);
+        CoalescingSystemListener listener = new CoalescingSystemListener(recorder, executor, 1, TimeUnit.HOURS);
+
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncProgressEvent(10, null));
+        assertEquals(1, listener.getManagerCount());
+
+        listener.handleManagerEvent(null, manager, new WalletManagerDeletedEvent());
+        assertEquals(0, listener.getManagerCount());
+        assertEquals(2, recorder.received.size());
+        assertTrue(recorder.received.get(1) instanceof WalletManagerDeletedEvent);
+    }
+
+    @Test
+    public void testCoalescingDoesNotWaitOnDelivery() throws InterruptedException {
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener recorder = new RecordingListener(3) {
+            @Override
+            public void handleManagerEvent(System system, WalletManager manager, WalletManagerEvent event) {
+                if (event instanceof WalletManagerSyncStoppedEvent) {
+                    delivering.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.handleManagerEvent(system, manager, event);
+            }
+        };
+        CoalescingSystemListener listener = new CoalescingSystemListener(recorder, executor, 1, TimeUnit.HOURS);
+
+        Thread deliverer = new Thread(() -> listener.handleManagerEvent(null, manager, new WalletManagerSyncStoppedEvent(null)));
+        deliverer.start();
+        assertTrue(delivering.await(5, TimeUnit.SECONDS));
+
+        // returns while the wrapped listener is still busy with the same manager
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncProgressEvent(50, null));
+
+        release.countDown();
+        deliverer.join(TimeUnit.SECONDS.toMillis(5));
+
+        listener.handleManagerEvent(null, manager, new WalletManagerSyncStoppedEvent(null));
+        assertEquals(3, recorder.received.size());
+        assertTrue(recorder.received.get(0) instanceof WalletManagerSyncStoppedEvent);
+        assertEquals(50, ((WalletManagerSyncProgressEvent) recorder.received.get(1)).getPercentComplete(), 0);
+    }
+}
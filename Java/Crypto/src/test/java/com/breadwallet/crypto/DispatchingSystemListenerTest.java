@@ -0,0 +1,110 @@
+/*
+ * DispatchingSystemListenerTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto;
+
+import com.breadwallet.crypto.events.system.DefaultSystemListener;
+import com.breadwallet.crypto.events.transfer.TranferEvent;
+import com.breadwallet.crypto.events.wallet.WalletEvent;
+import com.breadwallet.crypto.events.walletmanager.WalletManagerEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DispatchingSystemListenerTest {
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return java.lang.System.identityHashCode(proxy);
+                default: throw new UnsupportedOperationException(method.getName());
+            }
+        }));
+    }
+
+    private static class RecordingListener implements DefaultSystemListener {
+
+        final List<Object> received = new ArrayList<>();
+
+        @Override
+        public void handleManagerEvent(System system, WalletManager manager, WalletManagerEvent event) {
+            received.add(manager);
+        }
+
+        @Override
+        public void handleWalletEvent(System system, WalletManager manager, Wallet wallet, WalletEvent event) {
+            received.add(wallet);
+        }
+
+        @Override
+        public void handleTransferEvent(System system, WalletManager manager, Wallet wallet, Transfer transfer, TranferEvent event) {
+            received.add(transfer);
+        }
+    }
+
+    private DispatchingSystemListener dispatcher;
+    private WalletManager manager;
+    private Wallet wallet;
+    private Transfer transfer;
+    private Transfer otherTransfer;
+
+    @Before
+    public void setup() {
+        dispatcher = new DispatchingSystemListener();
+        manager = stub(WalletManager.class);
+        wallet = stub(Wallet.class);
+        transfer = stub(Transfer.class);
+        otherTransfer = stub(Transfer.class);
+    }
+
+    @Test
+    public void testEventsOnlyReachListenersInScope() {
+        RecordingListener managerListener = new RecordingListener();
+        RecordingListener walletListener = new RecordingListener();
+        RecordingListener transferListener = new RecordingListener();
+        RecordingListener otherTransferListener = new RecordingListener();
+
+        dispatcher.addWalletManagerListener(manager, managerListener);
+        dispatcher.addWalletListener(wallet, walletListener);
+        dispatcher.addTransferListener(transfer, transferListener);
+        dispatcher.addTransferListener(otherTransfer, otherTransferListener);
+
+        dispatcher.handleManagerEvent(null, manager, null);
+        dispatcher.handleWalletEvent(null, manager, wallet, null);
+        dispatcher.handleTransferEvent(null, manager, wallet, transfer, null);
+
+        assertEquals(3, managerListener.received.size());
+        assertEquals(2, walletListener.received.size());
+        assertEquals(1, transferListener.received.size());
+        assertSame(transfer, transferListener.received.get(0));
+        assertTrue(otherTransferListener.received.isEmpty());
+    }
+
+    @Test
+    public void testRemovedListenerIsNotCalled() {
+        RecordingListener systemListener = new RecordingListener();
+        RecordingListener transferListener = new RecordingListener();
+
+        dispatcher.addSystemListener(systemListener);
+        dispatcher.addTransferListener(transfer, transferListener);
+        dispatcher.removeTransferListener(transfer, transferListener);
+
+        dispatcher.handleTransferEvent(null, manager, wallet, transfer, null);
+
+        assertEquals(1, systemListener.received.size());
+        assertTrue(transferListener.received.isEmpty());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * HttpTransportTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import static org.junit.Assert.*;
+
+public class HttpTransportTest {
+
+    private ServerSocket serverSocket;
+    private AtomicInteger connectionCount;
+    private AtomicInteger activeCount;
+    private AtomicInteger maxActiveCount;
+    private volatile long responseDelayMillis;
+
+    @Before
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        connectionCount = new AtomicInteger();
+        activeCount = new AtomicInteger();
+        maxActiveCount = new AtomicInteger();
+
+        Thread acceptor = new Thread(this::accept);
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    @After
+    public void teardown() throws IOException {
+        serverSocket.close();
+    }
+
+    @Test
+    public void testSeparatesHosts() {
+        OkHttpClient client = new OkHttpClient();
+        HttpTransport transport = new HttpTransport(3, 2, 60);
+
+        OkHttpClient bdbClient = transport.configure(client);
+        OkHttpClient brdClient = transport.configure(client);
+
+        assertNotSame(client.dispatcher(), bdbClient.dispatcher());
+        assertNotSame(client.connectionPool(), bdbClient.connectionPool());
+        assertNotSame(bdbClient.dispatcher(), brdClient.dispatcher());
+        assertNotSame(bdbClient.connectionPool(), brdClient.connectionPool());
+
+        assertEquals(3, bdbClient.dispatcher().getMaxRequestsPerHost());
+        assertEquals(3, bdbClient.dispatcher().getMaxRequests());
+    }
+
+    @Test
+    public void testReusesConnectionsWithinButNotAcrossHosts() throws IOException {
+        HttpTransport transport = new HttpTransport();
+        OkHttpClient bdbClient = transport.configure(new OkHttpClient());
+        OkHttpClient brdClient = transport.configure(new OkHttpClient());
+
+        for (int i = 0; i < 3; i++) {
+            get(bdbClient);
+        }
+        assertEquals(1, connectionCount.get());
+
+        // the other host's client keeps to its own pool
+        get(brdClient);
+        assertEquals(2, connectionCount.get());
+    }
+
+    @Test
+    public void testLimitsConcurrentCallsPerHost() throws InterruptedException {
+        responseDelayMillis = 50;
+        OkHttpClient client = new HttpTransport(1, 2, 60).configure(new OkHttpClient());
+
+        CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            client.newCall(request()).enqueue(new Callback() {
+                @Override
+                public void onFailure(Call call, IOException e) {
+                    latch.countDown();
+                }
+
+                @Override
+                public void onResponse(Call call, Response response) {
+                    response.close();
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, maxActiveCount.get());
+        assertEquals(1, connectionCount.get());
+    }
+
+    private void get(OkHttpClient client) throws IOException {
+        try (Response response = client.newCall(request()).execute()) {
+            assertEquals("ok", response.body().string());
+        }
+    }
+
+    private Request request() {
+        return new Request.Builder()
+                .url("http://127.0.0.1:" + serverSocket.getLocalPort() + "/blockchains")
+                .build();
+    }
+
+    // A minimal HTTP/1.1 server that answers every request on a connection with "ok"
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return;
+            }
+
+            connectionCount.incrementAndGet();
+            Thread connection = new Thread(() -> serve(socket));
+            connection.setDaemon(true);
+            connection.start();
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (Socket s = socket) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream output = s.getOutputStream();
+
+            while (null != reader.readLine()) {
+                String line;
+                do {
+                    line = reader.readLine();
+                } while (null != line && !line.isEmpty());
+
+                int active = activeCount.incrementAndGet();
+                maxActiveCount.accumulateAndGet(active, Math::max);
+                Thread.sleep(responseDelayMillis);
+                activeCount.decrementAndGet();
+
+                output.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\n\r\nok".getBytes(StandardCharsets.US_ASCII));
+                output.flush();
+            }
+        } catch (IOException | InterruptedException e) {
+            // connection closed
+        }
+    }
+}
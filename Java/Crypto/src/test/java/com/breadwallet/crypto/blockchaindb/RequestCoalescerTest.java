@@ -0,0 +1,169 @@
+/*
+ * RequestCoalescerTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class RequestCoalescerTest {
+
+    private List<CompletionHandler<String, QueryError>> pending;
+    private RequestCoalescer.Query<String> deferredQuery;
+
+    @Before
+    public void setup() {
+        pending = new ArrayList<>();
+        deferredQuery = pending::add;
+    }
+
+    @Test
+    public void testSharesQueryInFlight() {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+        RecordingHandler other = new RecordingHandler();
+
+        coalescer.execute("blockNumber:mainnet", first, deferredQuery);
+        coalescer.execute("blockNumber:mainnet", second, deferredQuery);
+        coalescer.execute("blockNumber:ropsten", other, deferredQuery);
+
+        assertEquals(2, pending.size());
+        assertEquals(1, coalescer.getHitCount());
+        assertEquals(2, coalescer.getMissCount());
+
+        pending.remove(0).handleData("0x10");
+        assertEquals("0x10", first.data);
+        assertEquals("0x10", second.data);
+        assertNull(other.data);
+
+        // without a freshness window, the next request goes back out
+        coalescer.execute("blockNumber:mainnet", new RecordingHandler(), deferredQuery);
+        assertEquals(2, pending.size());
+        assertEquals(3, coalescer.getMissCount());
+    }
+
+    @Test
+    public void testSharesErrorsButDoesNotKeepThem() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.HOURS);
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        coalescer.execute("tokens", first, deferredQuery);
+        coalescer.execute("tokens", second, deferredQuery);
+
+        QueryError error = new QuerySubmissionError("timeout");
+        pending.remove(0).handleError(error);
+        assertSame(error, first.error);
+        assertSame(error, second.error);
+
+        coalescer.execute("tokens", new RecordingHandler(), deferredQuery);
+        assertEquals(1, pending.size());
+        assertEquals(2, coalescer.getMissCount());
+    }
+
+    @Test
+    public void testServesFreshResults() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.HOURS);
+
+        coalescer.execute("gasPrice:mainnet", new RecordingHandler(), deferredQuery);
+        pending.remove(0).handleData("0x3b9aca00");
+
+        RecordingHandler later = new RecordingHandler();
+        coalescer.execute("gasPrice:mainnet", later, deferredQuery);
+
+        assertTrue(pending.isEmpty());
+        assertEquals("0x3b9aca00", later.data);
+        assertEquals(1, coalescer.getHitCount());
+        assertEquals(1, coalescer.getMissCount());
+    }
+
+    @Test
+    public void testFailsFlightWhenQueryFailsToStart() {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.HOURS);
+        RecordingHandler first = new RecordingHandler();
+
+        coalescer.execute("blockchain:mainnet", first, handler -> {
+            throw new IllegalStateException("rejected");
+        });
+        assertNotNull(first.error);
+        assertEquals(0, coalescer.getFlightCount());
+
+        // the next request isn't left waiting on the failed one
+        RecordingHandler second = new RecordingHandler();
+        coalescer.execute("blockchain:mainnet", second, deferredQuery);
+        pending.remove(0).handleData("mainnet");
+        assertEquals("mainnet", second.data);
+    }
+
+    @Test
+    public void testGivesUpOnFlightPastTimeout() throws InterruptedException {
+        RequestCoalescer coalescer = new RequestCoalescer(0, 1, TimeUnit.MILLISECONDS);
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        coalescer.execute("gasPrice:mainnet", first, deferredQuery);
+        Thread.sleep(10);
+        coalescer.execute("gasPrice:mainnet", second, deferredQuery);
+
+        assertNotNull(first.error);
+        assertEquals(2, pending.size());
+        assertEquals(2, coalescer.getMissCount());
+
+        // a late answer to the abandoned query reaches no one
+        pending.remove(0).handleData("0x1");
+        assertNull(first.data);
+        assertNull(second.data);
+
+        pending.remove(0).handleData("0x2");
+        assertEquals("0x2", second.data);
+        assertEquals(0, coalescer.getFlightCount());
+    }
+
+    @Test
+    public void testEvictsResultsPastFreshness() throws InterruptedException {
+        RequestCoalescer coalescer = new RequestCoalescer(1, TimeUnit.MILLISECONDS);
+
+        coalescer.execute("gasPrice:mainnet", new RecordingHandler(), deferredQuery);
+        pending.remove(0).handleData("0x3b9aca00");
+        assertEquals(1, coalescer.getFlightCount());
+
+        Thread.sleep(10);
+        coalescer.execute("blockNumber:mainnet", new RecordingHandler(), deferredQuery);
+
+        // only the new flight remains
+        assertEquals(1, coalescer.getFlightCount());
+    }
+
+    private static final class RecordingHandler implements CompletionHandler<String, QueryError> {
+
+        private String data;
+        private QueryError error;
+
+        @Override
+        public void handleData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            this.error = error;
+        }
+    }
+}
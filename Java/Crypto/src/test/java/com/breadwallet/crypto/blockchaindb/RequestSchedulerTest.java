@@ -0,0 +1,151 @@
+/*
+ * RequestSchedulerTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import static org.junit.Assert.*;
+
+public class RequestSchedulerTest {
+
+    private static final Callback NO_OP_CALLBACK = new Callback() {
+        @Override
+        public void onFailure(Call call, IOException e) {
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+        }
+    };
+
+    private OkHttpClient client;
+    private List<Request> started;
+    private List<Callback> pending;
+    private DataTask deferredDataTask;
+
+    @Before
+    public void setup() {
+        client = new OkHttpClient();
+        started = new ArrayList<>();
+        pending = new ArrayList<>();
+        deferredDataTask = (cli, request, callback) -> {
+            started.add(request);
+            pending.add(callback);
+        };
+    }
+
+    @Test
+    public void testLimitsRequestsPerHost() {
+        RequestScheduler scheduler = new RequestScheduler(2, 1);
+        DataTask dataTask = scheduler.schedule(deferredDataTask);
+
+        for (int i = 0; i < 5; i++) {
+            dataTask.execute(client, request("a.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+        }
+        dataTask.execute(client, request("b.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+
+        assertEquals(3, started.size());
+        assertEquals(3, scheduler.getInFlightRequestCount());
+        assertEquals(3, scheduler.getQueuedRequestCount());
+
+        pending.remove(0).onFailure(null, new IOException());
+
+        assertEquals(4, started.size());
+        assertEquals(2, scheduler.getQueuedRequestCount());
+    }
+
+    @Test
+    public void testInterleavesBlockchains() {
+        RequestScheduler scheduler = new RequestScheduler(1, 1);
+        DataTask dataTask = scheduler.schedule(deferredDataTask);
+
+        dataTask.execute(client, request("a.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+        dataTask.execute(client, request("a.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+        dataTask.execute(client, request("a.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+        dataTask.execute(client, request("a.example.com", "bitcoincash-mainnet"), NO_OP_CALLBACK);
+        dataTask.execute(client, request("a.example.com", "ripple-mainnet"), NO_OP_CALLBACK);
+
+        while (!pending.isEmpty()) {
+            pending.remove(0).onFailure(null, new IOException());
+        }
+
+        List<String> order = new ArrayList<>();
+        for (Request request : started) {
+            order.add(request.url().queryParameter("blockchain_id"));
+        }
+
+        assertEquals(Arrays.asList("bitcoin-mainnet", "bitcoin-mainnet", "bitcoincash-mainnet", "ripple-mainnet",
+                "bitcoin-mainnet"), order);
+        assertEquals(0, scheduler.getInFlightRequestCount());
+        assertEquals(0, scheduler.getQueuedRequestCount());
+    }
+
+    @Test
+    public void testReleasesSlotWhenStartFails() {
+        RequestScheduler scheduler = new RequestScheduler(1, 1);
+        Request failing = request("a.example.com", "ripple-mainnet");
+        DataTask dataTask = scheduler.schedule((cli, request, callback) -> {
+            if (request == failing) {
+                throw new IllegalStateException();
+            }
+            deferredDataTask.execute(cli, request, callback);
+        });
+
+        List<IOException> failures = new ArrayList<>();
+        Callback failingCallback = new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                failures.add(e);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                fail();
+            }
+        };
+
+        dataTask.execute(client, request("a.example.com", "bitcoin-mainnet"), NO_OP_CALLBACK);
+        dataTask.execute(client, failing, failingCallback);
+        dataTask.execute(client, request("a.example.com", "bitcoincash-mainnet"), NO_OP_CALLBACK);
+        assertEquals(1, started.size());
+
+        // finishing the first request starts the failing one; its error goes to its own callback only
+        pending.remove(0).onFailure(null, new IOException());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0).getCause() instanceof IllegalStateException);
+
+        // the request queued behind the failing one still goes out
+        assertEquals(2, started.size());
+        assertEquals("bitcoincash-mainnet", started.get(1).url().queryParameter("blockchain_id"));
+        assertEquals(1, scheduler.getInFlightRequestCount());
+
+        pending.remove(0).onFailure(null, new IOException());
+        assertEquals(0, scheduler.getInFlightRequestCount());
+        assertEquals(0, scheduler.getQueuedRequestCount());
+    }
+
+    private static Request request(String host, String blockchainId) {
+        return new Request.Builder()
+                .url("https://" + host + "/transactions?blockchain_id=" + blockchainId)
+                .build();
+    }
+}
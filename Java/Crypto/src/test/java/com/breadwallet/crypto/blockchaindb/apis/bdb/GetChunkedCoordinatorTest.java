@@ -0,0 +1,122 @@
+/*
+ * GetChunkedCoordinatorTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.bdb;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+import com.breadwallet.crypto.utility.StreamingCompletionHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class GetChunkedCoordinatorTest {
+
+    @Test
+    public void testDeduplicatesAcrossChunks() {
+        RecordingHandler handler = new RecordingHandler();
+        GetChunkedCoordinator<String> coordinator = new GetChunkedCoordinator<>(2, id -> id, handler);
+
+        coordinator.handleChunkPage(0, Arrays.asList("a", "b"));
+        coordinator.handleChunkPage(1, Arrays.asList("b", "c"));
+        coordinator.handleChunkPage(1, Collections.singletonList("a"));
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Collections.singletonList("c")), handler.pages);
+    }
+
+    @Test
+    public void testCompletesOnceEveryChunkHas() {
+        RecordingHandler handler = new RecordingHandler();
+        GetChunkedCoordinator<String> coordinator = new GetChunkedCoordinator<>(3, id -> id, handler);
+
+        coordinator.handleChunkComplete(2);
+        coordinator.handleChunkComplete(0);
+        assertFalse(handler.complete);
+
+        try {
+            coordinator.handleChunkComplete(0);
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        coordinator.handleChunkComplete(1);
+        assertTrue(handler.complete);
+    }
+
+    @Test
+    public void testAccumulatesUniqueResults() {
+        List<List<String>> results = new ArrayList<>();
+        GetChunkedCoordinator<String> coordinator = new GetChunkedCoordinator<>(2, id -> id,
+                new CompletionHandler<List<String>, QueryError>() {
+                    @Override
+                    public void handleData(List<String> data) {
+                        results.add(data);
+                    }
+
+                    @Override
+                    public void handleError(QueryError error) {
+                        fail();
+                    }
+                });
+
+        coordinator.handleChunkPage(0, Arrays.asList("a", "b"));
+        coordinator.handleChunkPage(1, Arrays.asList("b", "c"));
+        coordinator.handleChunkComplete(0);
+        coordinator.handleChunkComplete(1);
+
+        assertEquals(Collections.singletonList(Arrays.asList("a", "b", "c")), results);
+    }
+
+    @Test
+    public void testDropsPagesAfterError() {
+        RecordingHandler handler = new RecordingHandler();
+        GetChunkedCoordinator<String> coordinator = new GetChunkedCoordinator<>(2, id -> id, handler);
+
+        QueryError error = new QuerySubmissionError("timeout");
+        coordinator.handleError(error);
+        coordinator.handleError(new QuerySubmissionError("later"));
+        coordinator.handleChunkPage(1, Collections.singletonList("a"));
+        coordinator.handleChunkComplete(0);
+        coordinator.handleChunkComplete(1);
+
+        assertSame(error, handler.error);
+        assertTrue(handler.pages.isEmpty());
+        assertFalse(handler.complete);
+    }
+
+    private static final class RecordingHandler implements StreamingCompletionHandler<List<String>, QueryError> {
+
+        private final List<List<String>> pages = new ArrayList<>();
+        private boolean complete;
+        private QueryError error;
+
+        @Override
+        public void handleData(List<String> data) {
+            pages.add(data);
+        }
+
+        @Override
+        public void handleComplete() {
+            complete = true;
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            this.error = error;
+        }
+    }
+}
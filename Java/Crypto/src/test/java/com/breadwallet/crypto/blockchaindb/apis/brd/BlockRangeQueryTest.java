@@ -0,0 +1,154 @@
+/*
+ * BlockRangeQueryTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.brd;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+import com.google.common.primitives.UnsignedLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BlockRangeQueryTest {
+
+    private List<Range> pending;
+    private BlockRangeQuery.RangeQuery<Long> deferredQuery;
+    private RecordingHandler handler;
+
+    @Before
+    public void setup() {
+        pending = new ArrayList<>();
+        deferredQuery = (beg, end, h) -> pending.add(new Range(beg.longValue(), end.longValue(), h));
+        handler = new RecordingHandler();
+    }
+
+    @Test
+    public void testSplitsRangeWithBoundedConcurrency() {
+        BlockRangeQuery<Long> query = new BlockRangeQuery<>(deferredQuery, 100, 2, handler);
+        query.execute(UnsignedLong.valueOf(0), UnsignedLong.valueOf(399), 100, 8);
+
+        assertEquals(2, pending.size());
+        assertRange(0, 99, pending.get(0));
+        assertRange(100, 199, pending.get(1));
+
+        // finishing out of order still hands the results over in block order
+        pending.remove(1).complete(150L);
+        assertEquals(2, pending.size());
+        assertRange(200, 299, pending.get(1));
+
+        pending.remove(1).complete(250L);
+        pending.remove(0).complete(50L);
+        assertRange(300, 399, pending.get(0));
+        assertNull(handler.data);
+
+        pending.remove(0).complete(350L);
+        assertEquals(Arrays.asList(50L, 150L, 250L, 350L), handler.data);
+    }
+
+    @Test
+    public void testBoundsRangeCount() {
+        BlockRangeQuery<Long> query = new BlockRangeQuery<>(deferredQuery, 100, 8, handler);
+        query.execute(UnsignedLong.valueOf(10), UnsignedLong.MAX_VALUE, 100, 4);
+
+        assertEquals(4, pending.size());
+        assertEquals(10, pending.get(0).beg);
+        assertEquals(UnsignedLong.MAX_VALUE.longValue(), pending.get(3).end);
+        for (int i = 1; i < pending.size(); i++) {
+            assertEquals(pending.get(i - 1).end + 1, pending.get(i).beg);
+        }
+    }
+
+    @Test
+    public void testSplitsCappedRange() {
+        BlockRangeQuery<Long> query = new BlockRangeQuery<>(deferredQuery, 2, 1, handler);
+        query.execute(UnsignedLong.valueOf(0), UnsignedLong.valueOf(99), 1000, 8);
+
+        assertEquals(1, pending.size());
+        pending.remove(0).complete(10L, 60L);
+
+        assertRange(0, 49, pending.get(0));
+        pending.remove(0).complete(10L);
+        assertRange(50, 99, pending.get(0));
+        pending.remove(0).complete(60L);
+
+        assertEquals(Arrays.asList(10L, 60L), handler.data);
+    }
+
+    @Test
+    public void testAcceptsCappedSingleBlock() {
+        BlockRangeQuery<Long> query = new BlockRangeQuery<>(deferredQuery, 1, 1, handler);
+        query.execute(UnsignedLong.valueOf(7), UnsignedLong.valueOf(7), 1000, 8);
+
+        pending.remove(0).complete(7L);
+        assertTrue(pending.isEmpty());
+        assertEquals(Collections.singletonList(7L), handler.data);
+    }
+
+    @Test
+    public void testFailsOnFirstError() {
+        BlockRangeQuery<Long> query = new BlockRangeQuery<>(deferredQuery, 100, 2, handler);
+        query.execute(UnsignedLong.valueOf(0), UnsignedLong.valueOf(399), 100, 8);
+
+        QueryError error = new QuerySubmissionError("timeout");
+        pending.remove(0).handler.handleError(error);
+        assertSame(error, handler.error);
+        assertEquals(1, pending.size());
+
+        pending.remove(0).complete(150L);
+        assertTrue(pending.isEmpty());
+        assertNull(handler.data);
+    }
+
+    private static void assertRange(long beg, long end, Range range) {
+        assertEquals(beg, range.beg);
+        assertEquals(end, range.end);
+    }
+
+    private static final class Range {
+
+        private final long beg;
+        private final long end;
+        private final CompletionHandler<List<Long>, QueryError> handler;
+
+        Range(long beg, long end, CompletionHandler<List<Long>, QueryError> handler) {
+            this.beg = beg;
+            this.end = end;
+            this.handler = handler;
+        }
+
+        void complete(Long... results) {
+            handler.handleData(Arrays.asList(results));
+        }
+    }
+
+    private static final class RecordingHandler implements CompletionHandler<List<Long>, QueryError> {
+
+        private List<Long> data;
+        private QueryError error;
+
+        @Override
+        public void handleData(List<Long> data) {
+            this.data = data;
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * JsonRpcBatcherTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.apis.brd;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryError;
+import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+import com.breadwallet.crypto.utility.CompletionHandler;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class JsonRpcBatcherTest {
+
+    private ScheduledExecutorService executor;
+
+    private List<JSONObject> sent;
+    private List<JSONArray> sentBatches;
+    private List<CompletionHandler<JSONArray, QueryError>> pendingBatches;
+    private CountDownLatch sentLatch;
+
+    private JsonRpcBatcher.Transport transport;
+
+    @Before
+    public void setup() {
+        executor = new ScheduledThreadPoolExecutor(1);
+        sent = new ArrayList<>();
+        sentBatches = new ArrayList<>();
+        pendingBatches = new ArrayList<>();
+        sentLatch = new CountDownLatch(1);
+
+        transport = new JsonRpcBatcher.Transport() {
+            @Override
+            public void send(String networkName, JSONObject call, CompletionHandler<String, QueryError> handler) {
+                sent.add(call);
+                sentLatch.countDown();
+            }
+
+            @Override
+            public void sendBatch(String networkName, JSONArray calls, CompletionHandler<JSONArray, QueryError> handler) {
+                sentBatches.add(calls);
+                pendingBatches.add(handler);
+            }
+        };
+    }
+
+    @After
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testRoutesBatchResponsesById() throws JSONException {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 3, TimeUnit.HOURS.toMillis(1), executor);
+        RecordingHandler balance = new RecordingHandler();
+        RecordingHandler gasPrice = new RecordingHandler();
+        RecordingHandler nonce = new RecordingHandler();
+
+        batcher.enqueue("mainnet", call(1, "eth_getBalance"), balance);
+        batcher.enqueue("mainnet", call(2, "eth_gasPrice"), gasPrice);
+        assertTrue(sentBatches.isEmpty());
+
+        batcher.enqueue("mainnet", call(3, "eth_getTransactionCount"), nonce);
+        assertEquals(1, sentBatches.size());
+        assertEquals(3, sentBatches.get(0).length());
+
+        pendingBatches.get(0).handleData(new JSONArray()
+                .put(response(3, "0x7"))
+                .put(response(1, "0x100"))
+                .put(response(2, "0x3b9aca00")));
+
+        assertEquals("0x100", balance.data);
+        assertEquals("0x3b9aca00", gasPrice.data);
+        assertEquals("0x7", nonce.data);
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testBatchesPerNetworkAndByDistinctIds() throws JSONException {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 2, TimeUnit.HOURS.toMillis(1), executor);
+
+        batcher.enqueue("mainnet", call(1, "eth_blockNumber"), new RecordingHandler());
+        batcher.enqueue("ropsten", call(2, "eth_blockNumber"), new RecordingHandler());
+        assertTrue(sentBatches.isEmpty());
+
+        // a repeated id sends the pending call on its own and starts a new batch
+        batcher.enqueue("mainnet", call(1, "eth_gasPrice"), new RecordingHandler());
+        assertEquals(1, sent.size());
+        assertTrue(sentBatches.isEmpty());
+
+        batcher.enqueue("ropsten", call(3, "eth_gasPrice"), new RecordingHandler());
+        assertEquals(1, sentBatches.size());
+    }
+
+    @Test
+    public void testSendsLoneCallAfterDelay() throws Exception {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 20, 10, executor);
+
+        batcher.enqueue("mainnet", call(1, "eth_blockNumber"), new RecordingHandler());
+
+        assertTrue(sentLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, sent.size());
+        assertTrue(sentBatches.isEmpty());
+    }
+
+    @Test
+    public void testSharesTransportErrors() throws JSONException {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 2, TimeUnit.HOURS.toMillis(1), executor);
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        batcher.enqueue("mainnet", call(1, "eth_blockNumber"), first);
+        batcher.enqueue("mainnet", call(2, "eth_gasPrice"), second);
+
+        QueryError error = new QuerySubmissionError("timeout");
+        pendingBatches.get(0).handleError(error);
+
+        assertSame(error, first.error);
+        assertSame(error, second.error);
+        assertTrue(sent.isEmpty());
+    }
+
+    @Test
+    public void testKeepsBatchingAfterRateLimit() throws JSONException {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 2, TimeUnit.HOURS.toMillis(1), executor);
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+
+        batcher.enqueue("mainnet", call(1, "eth_blockNumber"), first);
+        batcher.enqueue("mainnet", call(2, "eth_gasPrice"), second);
+
+        QueryError error = new QueryResponseError(429);
+        pendingBatches.get(0).handleError(error);
+        assertSame(error, first.error);
+        assertSame(error, second.error);
+        assertTrue(sent.isEmpty());
+
+        batcher.enqueue("mainnet", call(3, "eth_blockNumber"), new RecordingHandler());
+        batcher.enqueue("mainnet", call(4, "eth_gasPrice"), new RecordingHandler());
+        assertEquals(2, sentBatches.size());
+    }
+
+    @Test
+    public void testNeverBatchesSubmissions() throws JSONException {
+        JsonRpcBatcher batcher = new JsonRpcBatcher(transport, 2, TimeUnit.HOURS.toMillis(1), executor);
+
+        batcher.enqueue("mainnet", call(1, "eth_blockNumber"), new RecordingHandler());
+        batcher.enqueue("mainnet", call(2, "eth_sendRawTransaction"), new RecordingHandler());
+
+        assertEquals(1, sent.size());
+        assertEquals("eth_sendRawTransaction", sent.get(0).getString("method"));
+        assertTrue(sentBatches.isEmpty());
+    }
+
+    private static JSONObject call(int id, String method) throws JSONException {
+        return new JSONObject()
+                .put("jsonrpc", "2.0")
+                .put("method", method)
+                .put("params", new JSONArray())
+                .put("id", id);
+    }
+
+    private static JSONObject response(int id, String result) throws JSONException {
+        return new JSONObject()
+                .put("jsonrpc", "2.0")
+                .put("id", id)
+                .put("result", result);
+    }
+
+    private static final class RecordingHandler implements CompletionHandler<String, QueryError> {
+
+        private String data;
+        private QueryError error;
+
+        @Override
+        public void handleData(String data) {
+            this.data = data;
+        }
+
+        @Override
+        public void handleError(QueryError error) {
+            this.error = error;
+        }
+    }
+}
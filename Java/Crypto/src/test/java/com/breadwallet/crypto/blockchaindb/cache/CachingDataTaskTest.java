@@ -0,0 +1,183 @@
+/*
+ * CachingDataTaskTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.breadwallet.crypto.blockchaindb.DataTask;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import static org.junit.Assert.*;
+
+public class CachingDataTaskTest {
+
+    private static final String URL = "https://api.example.com/currencies";
+
+    private OkHttpClient client;
+    private MemoryResponseCache cache;
+    private List<Request> sent;
+    private List<String> received;
+
+    private int responseCode;
+    private String responseBody;
+
+    @Before
+    public void setup() {
+        // deliver cache hits inline, so that each test can check them as soon as execute() returns
+        client = new OkHttpClient.Builder()
+                .dispatcher(new Dispatcher(MoreExecutors.newDirectExecutorService()))
+                .build();
+        cache = new MemoryResponseCache();
+        sent = new ArrayList<>();
+        received = new ArrayList<>();
+    }
+
+    @Test
+    public void testMissIsStoredAndFreshHitSkipsNetwork() {
+        CachingDataTask dataTask = new CachingDataTask(serverDataTask(), cache);
+        respondWith(200, "[1]");
+
+        dataTask.execute(client, request(CachePolicy.of(1, 1, TimeUnit.HOURS)), receivingCallback());
+        dataTask.execute(client, request(CachePolicy.of(1, 1, TimeUnit.HOURS)), receivingCallback());
+
+        assertEquals(1, sent.size());
+        assertEquals("[1]", received.get(0));
+        assertEquals("[1]", received.get(1));
+    }
+
+    @Test
+    public void testStaleHitIsServedAndRevalidated() {
+        CachingDataTask dataTask = new CachingDataTask(serverDataTask(), cache);
+        cache.put(URL, new CachedResponse("[1]", "\"v1\"", System.currentTimeMillis() - TimeUnit.HOURS.toMillis(2)));
+        respondWith(200, "[2]");
+
+        dataTask.execute(client, request(CachePolicy.of(1, 24, TimeUnit.HOURS)), receivingCallback());
+
+        assertEquals(1, sent.size());
+        assertEquals("\"v1\"", sent.get(0).header("If-None-Match"));
+        assertEquals(1, received.size());
+        assertEquals("[1]", received.get(0));
+        assertEquals("[2]", cache.get(URL).get().getBody());
+    }
+
+    @Test
+    public void testExpiredEntryIsRevalidatedBeforeServing() {
+        CachingDataTask dataTask = new CachingDataTask(serverDataTask(), cache);
+        cache.put(URL, new CachedResponse("[1]", "\"v1\"", 0));
+        respondWith(304, "");
+
+        dataTask.execute(client, request(CachePolicy.of(1, 1, TimeUnit.HOURS)), receivingCallback());
+
+        assertEquals(1, sent.size());
+        assertEquals("[1]", received.get(0));
+        assertTrue(cache.get(URL).get().getStoredAtMillis() > 0);
+    }
+
+    @Test
+    public void testHitIsDeliveredOnDispatcher() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        OkHttpClient client = new OkHttpClient.Builder().dispatcher(new Dispatcher(executor)).build();
+        CachingDataTask dataTask = new CachingDataTask(serverDataTask(), cache);
+        cache.put(URL, new CachedResponse("[1]", "\"v1\"", System.currentTimeMillis()));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        dataTask.execute(client, request(CachePolicy.of(1, 1, TimeUnit.HOURS)), new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                fail();
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), threads.get(0));
+        assertTrue(sent.isEmpty());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testUntaggedRequestsPassThrough() {
+        CachingDataTask dataTask = new CachingDataTask(serverDataTask(), cache);
+        respondWith(200, "[1]");
+
+        dataTask.execute(client, request(null), receivingCallback());
+        dataTask.execute(client, request(null), receivingCallback());
+
+        assertEquals(2, sent.size());
+        assertFalse(cache.get(URL).isPresent());
+    }
+
+    private void respondWith(int code, String body) {
+        this.responseCode = code;
+        this.responseBody = body;
+    }
+
+    private DataTask serverDataTask() {
+        return (cli, request, callback) -> {
+            sent.add(request);
+            Response response = new Response.Builder()
+                    .request(request)
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(responseCode)
+                    .message("")
+                    .header("ETag", "\"v2\"")
+                    .body(ResponseBody.create(responseBody, MediaType.parse("application/json")))
+                    .build();
+            try {
+                callback.onResponse(cli.newCall(request), response);
+            } catch (IOException e) {
+                fail();
+            }
+        };
+    }
+
+    private Callback receivingCallback() {
+        return new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                fail();
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) throws IOException {
+                received.add(response.body().string());
+            }
+        };
+    }
+
+    private static Request request(CachePolicy policy) {
+        return new Request.Builder().url(URL).tag(CachePolicy.class, policy).build();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * DiskTransactionCacheTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.blockchaindb.cache;
+
+import com.breadwallet.crypto.blockchaindb.models.bdb.Transaction;
+import com.google.common.primitives.UnsignedLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class DiskTransactionCacheTest {
+
+    private static final String BLOCKCHAIN_ID = "bitcoin-mainnet";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testCoversFinalizedPartOfRange() throws Exception {
+        File directory = folder.newFolder();
+        DiskTransactionCache cache = new DiskTransactionCache(directory, 6);
+
+        // the chain is at 119, so heights below 114 are final
+        List<Transaction> transactions = Arrays.asList(
+                transaction("c", 113, 7, new byte[] {3}),
+                transaction("a", 100, 20, new byte[] {1, 1}),
+                transaction("d", 118, 2, new byte[] {4}));
+        cache.put(BLOCKCHAIN_ID, Arrays.asList("addr1", "addr2"), range(90, 200), transactions);
+
+        for (TransactionCache reopened : Arrays.<TransactionCache>asList(cache, new DiskTransactionCache(directory, 6))) {
+            assertEquals(Collections.singletonList(range(90, 114)), reopened.getCoveredRanges(BLOCKCHAIN_ID, "addr2"));
+            assertTrue(reopened.getCoveredRanges(BLOCKCHAIN_ID, "addr3").isEmpty());
+
+            List<Transaction> cached = reopened.getTransactions(BLOCKCHAIN_ID, "addr1", range(90, 114));
+            assertEquals(2, cached.size());
+            assertEquals("a", cached.get(0).getId());
+            assertArrayEquals(new byte[] {1, 1}, cached.get(0).getRaw().get());
+            assertEquals(UnsignedLong.valueOf(100), cached.get(0).getBlockHeight().get());
+            assertEquals(new Date(100_000), cached.get(0).getTimestamp().get());
+            assertEquals("c", cached.get(1).getId());
+        }
+    }
+
+    @Test
+    public void testMergesRangesAndTagsAddresses() throws Exception {
+        File directory = folder.newFolder();
+        DiskTransactionCache cache = new DiskTransactionCache(directory, 6);
+
+        Transaction transaction = transaction("a", 100, 20, new byte[] {1});
+        cache.put(BLOCKCHAIN_ID, Collections.singletonList("addr1"), range(90, 105), Collections.singletonList(transaction));
+        cache.put(BLOCKCHAIN_ID, Arrays.asList("addr1", "addr2"), range(100, 110), Collections.singletonList(transaction));
+
+        cache = new DiskTransactionCache(directory, 6);
+        assertEquals(Collections.singletonList(range(90, 110)), cache.getCoveredRanges(BLOCKCHAIN_ID, "addr1"));
+        assertEquals(Collections.singletonList(range(100, 110)), cache.getCoveredRanges(BLOCKCHAIN_ID, "addr2"));
+        assertEquals(1, cache.getTransactions(BLOCKCHAIN_ID, "addr2", range(90, 110)).size());
+    }
+
+    @Test
+    public void testCoversNothingWithoutChainHeightOrRaw() throws Exception {
+        DiskTransactionCache cache = new DiskTransactionCache(folder.newFolder(), 6);
+
+        cache.put(BLOCKCHAIN_ID, Collections.singletonList("addr1"), range(0, 100), Collections.emptyList());
+        assertTrue(cache.getCoveredRanges(BLOCKCHAIN_ID, "addr1").isEmpty());
+
+        cache.put(BLOCKCHAIN_ID, Collections.singletonList("addr1"), range(0, 100),
+                Collections.singletonList(transaction("a", 50, 50, null)));
+        assertTrue(cache.getCoveredRanges(BLOCKCHAIN_ID, "addr1").isEmpty());
+
+        // the chain height learned above still applies
+        cache.put(BLOCKCHAIN_ID, Collections.singletonList("addr1"), range(0, 100), Collections.emptyList());
+        assertEquals(Collections.singletonList(range(0, 94)), cache.getCoveredRanges(BLOCKCHAIN_ID, "addr1"));
+    }
+
+    @Test
+    public void testHeightRanges() {
+        List<HeightRange> covered = Arrays.asList(range(20, 30), range(0, 5), range(40, 60));
+        assertEquals(Arrays.asList(range(5, 20), range(30, 40)), range(0, 50).subtract(covered));
+        assertEquals(Collections.singletonList(range(60, 70)), range(50, 70).subtract(covered));
+        assertTrue(range(22, 28).subtract(covered).isEmpty());
+
+        List<HeightRange> merged = HeightRange.union(Arrays.asList(range(0, 5), range(20, 30), range(40, 60)), range(5, 25));
+        assertEquals(Arrays.asList(range(0, 30), range(40, 60)), merged);
+        assertEquals(Arrays.asList(range(0, 30), range(35, 36), range(40, 60)), HeightRange.union(merged, range(35, 36)));
+    }
+
+    private static HeightRange range(long begin, long end) {
+        return new HeightRange(UnsignedLong.valueOf(begin), UnsignedLong.valueOf(end));
+    }
+
+    private static Transaction transaction(String id, long blockHeight, long confirmations, byte[] raw) {
+        return new Transaction(id, BLOCKCHAIN_ID, "hash-" + id, "identifier-" + id, "block-" + blockHeight,
+                UnsignedLong.valueOf(blockHeight), UnsignedLong.ZERO, UnsignedLong.valueOf(confirmations), "confirmed",
+                UnsignedLong.valueOf(250), new Date(blockHeight * 1000), null, raw,
+                Collections.emptyList(), UnsignedLong.ZERO);
+    }
+}
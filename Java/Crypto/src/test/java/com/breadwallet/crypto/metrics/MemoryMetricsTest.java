@@ -0,0 +1,119 @@
+/*
+ * MemoryMetricsTest
+ *
+ * Created by agent <agent@local> on 10/17/26.
+ * Copyright (c) 2026 Breadwinner AG.  All right reserved.
+ *
+ * See the LICENSE file at the project root for license information.
+ * See the CONTRIBUTORS file at the project root for a list of contributors.
+ */
+package com.breadwallet.crypto.metrics;
+
+import com.breadwallet.crypto.blockchaindb.errors.QueryResponseError;
+import com.breadwallet.crypto.blockchaindb.errors.QuerySubmissionError;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class MemoryMetricsTest {
+
+    @Test
+    public void testHistogram() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getSum());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean(), 0);
+
+        // bucketed by powers of two: 50 falls in [32, 64) and 100 in [64, 128), capped at the max
+        assertEquals(63, histogram.getPercentile(50));
+        assertEquals(100, histogram.getPercentile(99));
+        assertEquals(1, histogram.getPercentile(0));
+    }
+
+    @Test
+    public void testHistogramExtremes() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(0);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getMin());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testQueriesByEndpointAndBlockchain() {
+        MemoryMetrics metrics = new MemoryMetrics();
+        metrics.recordQuery("GET transactions", "bitcoin-mainnet", 10, 2, 1000, 20);
+        metrics.recordQuery("GET transactions", "bitcoin-mainnet", 30, 4, 3000, 5);
+        metrics.recordQuery("GET transactions", "ethereum-mainnet", 20, 1, 500, 0);
+        metrics.recordQuery("GET blockchains", null, 5, 1, 100, 1);
+
+        Map<String, MemoryMetrics.QueryStats> byEndpoint = metrics.getQueriesByEndpoint();
+        assertEquals(2, byEndpoint.size());
+        assertEquals(3, byEndpoint.get("GET transactions").getResponseCount());
+        assertEquals(60, byEndpoint.get("GET transactions").getLatencyNanos().getSum());
+        assertEquals(4500, byEndpoint.get("GET transactions").getBytes().getSum());
+        assertEquals(25, byEndpoint.get("GET transactions").getItems().getSum());
+
+        Map<String, MemoryMetrics.QueryStats> byBlockchain = metrics.getQueriesByBlockchain();
+        assertEquals(2, byBlockchain.size());
+        assertEquals(2, byBlockchain.get("bitcoin-mainnet").getResponseCount());
+        assertEquals(6, byBlockchain.get("bitcoin-mainnet").getParseNanos().getSum());
+        assertEquals(1, byBlockchain.get("ethereum-mainnet").getResponseCount());
+    }
+
+    @Test
+    public void testErrorsByClass() {
+        MemoryMetrics metrics = new MemoryMetrics();
+        metrics.recordQueryError("GET transactions", "bitcoin-mainnet", new QueryResponseError(503));
+        metrics.recordQueryError("GET transactions", "bitcoin-mainnet", new QueryResponseError(503));
+        metrics.recordQueryError("GET transactions", "bitcoin-mainnet", new QuerySubmissionError("timeout"));
+
+        Map<String, Long> errors = metrics.getErrorCounts();
+        assertEquals(2, errors.size());
+        assertEquals(Long.valueOf(2), errors.get("GET transactions: QueryResponseError 503"));
+        assertEquals(Long.valueOf(1), errors.get("GET transactions: QuerySubmissionError"));
+
+        assertEquals(3, metrics.getQueriesByEndpoint().get("GET transactions").getErrorCount());
+        assertEquals(0, metrics.getQueriesByEndpoint().get("GET transactions").getResponseCount());
+        assertEquals(3, metrics.getQueriesByBlockchain().get("bitcoin-mainnet").getErrorCount());
+    }
+
+    @Test
+    public void testExecutorsAndAnnounces() {
+        MemoryMetrics metrics = new MemoryMetrics();
+        metrics.recordExecutorQueueDepth("client", 3);
+        metrics.recordExecutorQueueDepth("client", 7);
+        metrics.recordExecutorWait("client", 1_000_000);
+        metrics.recordAnnounce("bitcoin-mainnet:__native__", "getTransactions", 500);
+        metrics.recordAnnounce("bitcoin-mainnet:__native__", "getTransactions", 12);
+
+        MemoryMetrics.ExecutorStats client = metrics.getExecutors().get("client");
+        assertEquals(2, client.getQueueDepth().getCount());
+        assertEquals(7, client.getQueueDepth().getMax());
+        assertEquals(1_000_000, client.getWaitNanos().getSum());
+
+        Histogram announces = metrics.getAnnounces().get("bitcoin-mainnet:__native__ getTransactions");
+        assertEquals(2, announces.getCount());
+        assertEquals(512, announces.getSum());
+
+        String dump = metrics.dump();
+        assertTrue(dump.contains("client: tasks=1"));
+        assertTrue(dump.contains("bitcoin-mainnet:__native__ getTransactions: count=2"));
+    }
+}
@@ -22,6 +22,8 @@ import com.breadwallet.crypto.CryptoApi;
 import com.breadwallet.crypto.DispatchingSystemListener;
 import com.breadwallet.crypto.WalletManagerMode;
 import com.breadwallet.crypto.blockchaindb.BlockchainDb;
+import com.breadwallet.crypto.blockchaindb.cache.DiskResponseCache;
+import com.breadwallet.crypto.blockchaindb.cache.DiskTransactionCache;
 import com.breadwallet.crypto.System;
 
 import java.io.File;
@@ -142,7 +144,9 @@ public class CoreCryptoApplication extends Application {
             String uids = UUID.randomUUID().toString();
             account = Account.createFromPhrase(paperKey, new Date(TimeUnit.SECONDS.toMillis(timestamp)), uids);
 
-            blockchainDb = BlockchainDb.createForTest (new OkHttpClient(), BDB_AUTH_TOKEN);
+            blockchainDb = BlockchainDb.createForTest (new OkHttpClient(), BDB_AUTH_TOKEN, null, null,
+                    new DiskResponseCache(new File(getCacheDir(), "query-cache")),
+                    new DiskTransactionCache(new File(getCacheDir(), "transaction-cache")));
             system = System.create(systemExecutor, systemListener, account,
                     isMainnet, storageFile.getAbsolutePath(), blockchainDb);
             system.configure(Collections.emptyList());
@@ -35,6 +35,7 @@ import android.widget.EditText;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import com.breadwallet.crypto.Amount;
 import com.breadwallet.crypto.Currency;
 import com.breadwallet.crypto.Network;
 import com.breadwallet.crypto.NetworkPeer;
@@ -42,6 +43,8 @@ import com.breadwallet.crypto.PaymentProtocolRequestType;
 import com.breadwallet.crypto.System;
 import com.breadwallet.crypto.Transfer;
 import com.breadwallet.crypto.TransferConfirmation;
+import com.breadwallet.crypto.TransferHash;
+import com.breadwallet.crypto.TransferSnapshot;
 import com.breadwallet.crypto.TransferState;
 import com.breadwallet.crypto.Wallet;
 import com.breadwallet.crypto.WalletManager;
@@ -69,6 +72,7 @@ public class TransferListActivity extends AppCompatActivity implements DefaultSy
     private static final String EXTRA_WALLET_NAME = "com.breadwallet.cryptodemo.TransferListActivity.EXTRA_WALLET_NAME";
 
     private static final int TRANSFER_CHUNK_SIZE = 10;
+    private static final int TRANSFER_SNAPSHOT_PAGE_SIZE = 100;
 
     public static void start(Activity callerActivity, Wallet wallet) {
         Intent intent = new Intent(callerActivity, TransferListActivity.class);
@@ -205,8 +209,12 @@ public class TransferListActivity extends AppCompatActivity implements DefaultSy
 
     private void loadTransfers() {
         ApplicationExecutors.runOnUiExecutor(() -> {
-            List<? extends Transfer> transfers = wallet.getTransfers();
-            List<TransferViewModel> viewModels = TransferViewModel.create(transfers);
+            List<TransferViewModel> viewModels = new ArrayList<>();
+            List<? extends TransferSnapshot> snapshots;
+            do {
+                snapshots = wallet.getTransferSnapshots(viewModels.size(), TRANSFER_SNAPSHOT_PAGE_SIZE);
+                viewModels.addAll(TransferViewModel.create(snapshots));
+            } while (snapshots.size() == TRANSFER_SNAPSHOT_PAGE_SIZE);
             Collections.sort(viewModels, TransferViewModel::compare);
 
             runOnUiThread(transferAdapter::clear);
@@ -420,16 +428,20 @@ public class TransferListActivity extends AppCompatActivity implements DefaultSy
             return vm1.transfer.equals(vm2.transfer);
         }
 
-        static List<TransferViewModel> create(List<? extends Transfer> transfers) {
-            List<TransferViewModel> vms = new ArrayList<>(transfers.size());
-            for (Transfer t: transfers) {
-                vms.add(create(t));
+        static List<TransferViewModel> create(List<? extends TransferSnapshot> snapshots) {
+            List<TransferViewModel> vms = new ArrayList<>(snapshots.size());
+            for (TransferSnapshot s: snapshots) {
+                vms.add(create(s));
             }
             return vms;
         }
 
         static TransferViewModel create(Transfer transfer) {
-            return new TransferViewModel(transfer);
+            return new TransferViewModel(transfer, transfer::getState, transfer::getAmountDirected, transfer::getHash);
+        }
+
+        static TransferViewModel create(TransferSnapshot snapshot) {
+            return new TransferViewModel(snapshot.getTransfer(), snapshot::getState, snapshot::getAmountDirected, snapshot::getHash);
         }
 
         final Transfer transfer;
@@ -444,21 +456,24 @@ public class TransferListActivity extends AppCompatActivity implements DefaultSy
         final Supplier<String> dateText;
         final Supplier<String> addressText;
 
-        TransferViewModel(Transfer transfer) {
+        TransferViewModel(Transfer transfer,
+                          Supplier<TransferState> stateSupplier,
+                          Supplier<Amount> amountSupplier,
+                          Supplier<Optional<? extends TransferHash>> hashSupplier) {
             this.transfer = transfer;
             this.transferHashCode = transfer.hashCode();
 
-            this.state = Suppliers.memoize(transfer::getState);
+            this.state = Suppliers.memoize(stateSupplier);
             this.confirmation = Suppliers.memoize(() -> state().getIncludedConfirmation().orNull());
 
-            this.amountText = Suppliers.memoize(() -> transfer.getAmountDirected().toString());
+            this.amountText = Suppliers.memoize(() -> amountSupplier.get().toString());
             this.feeText = Suppliers.memoize(() -> String.format("Fee: %s", transfer.getFee()));
             this.stateText = Suppliers.memoize(() -> String.format("State: %s", state()));
             this.dateText = Suppliers.memoize(() -> confirmation()
                     .transform(TransferConfirmation::getConfirmationTime)
                     .transform(t -> DATE_FORMAT.get().format(t))
                     .or("<pending>"));
-            this.addressText = Suppliers.memoize(() -> transfer.getHash()
+            this.addressText = Suppliers.memoize(() -> hashSupplier.get()
                     .transform(h -> String.format("Hash: %s", h))
                     .or("<pending>"));
         }
@@ -425,6 +425,26 @@ randomBytes (void *bytes, size_t bytesCount) {
     arc4random_buf (bytes, bytesCount);
 }
 
+#elif defined (__linux__) // Host builds
+#include <errno.h>
+#include <stdlib.h>
+#include <sys/random.h>
+
+static void
+randomBytes (void *bytes, size_t bytesCount) {
+    uint8_t *cursor = bytes;
+    while (bytesCount > 0) {
+        ssize_t count = getrandom (cursor, bytesCount, 0);
+        if (count < 0) {
+            if (EINTR == errno) continue;
+            // No entropy source (ENOSYS) or a bad buffer (EFAULT); never derive keys without one
+            abort ();
+        }
+        cursor     += count;
+        bytesCount -= (size_t) count;
+    }
+}
+
 #else // IOS, MacOS
 #include <Security/Security.h>
 
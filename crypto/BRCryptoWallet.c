@@ -316,6 +316,39 @@ cryptoWalletGetTransfers (BRCryptoWallet wallet, size_t *count) {
     return transfers;
 }
 
+extern size_t
+cryptoWalletGetTransferSnapshots (BRCryptoWallet wallet,
+                                  size_t offset,
+                                  size_t count,
+                                  BRCryptoTransferSnapshot *snapshots) {
+    size_t filled = 0;
+
+    pthread_mutex_lock (&wallet->lock);
+    size_t total = array_count (wallet->transfers);
+    if (offset < total) {
+        filled = (total - offset < count ? total - offset : count);
+        for (size_t index = 0; index < filled; index++) {
+            snapshots[index].transfer = cryptoTransferTake (wallet->transfers[offset + index]);
+        }
+    }
+    pthread_mutex_unlock (&wallet->lock);
+
+    // fill in the attributes outside of the lock, as some of them call back into the manager
+    for (size_t index = 0; index < filled; index++) {
+        BRCryptoTransfer transfer = snapshots[index].transfer;
+
+        snapshots[index].amount         = cryptoTransferGetAmount (transfer);
+        snapshots[index].amountDirected = cryptoTransferGetAmountDirected (transfer);
+        snapshots[index].sourceAddress  = cryptoTransferGetSourceAddress (transfer);
+        snapshots[index].targetAddress  = cryptoTransferGetTargetAddress (transfer);
+        snapshots[index].hash           = cryptoTransferGetHash (transfer);
+        snapshots[index].direction      = cryptoTransferGetDirection (transfer);
+        snapshots[index].state          = cryptoTransferGetState (transfer);
+    }
+
+    return filled;
+}
+
 extern BRCryptoAddress
 cryptoWalletGetAddress (BRCryptoWallet wallet,
                         BRCryptoAddressScheme addressScheme) {
@@ -151,6 +151,40 @@ extern "C" {
     cryptoWalletGetTransfers (BRCryptoWallet wallet,
                               size_t *count);
 
+    /**
+     * The attributes of a transfer needed to display it.  Every reference is 'taken' and `state`
+     * is a copy; the caller is responsible for giving each non-NULL reference and for releasing
+     * `state` with cryptoTransferStateRelease().
+     */
+    typedef struct {
+        BRCryptoTransfer transfer;
+        BRCryptoAmount amount;
+        BRCryptoAmount amountDirected;
+        BRCryptoAddress sourceAddress;
+        BRCryptoAddress targetAddress;
+        BRCryptoHash hash;
+        BRCryptoTransferDirection direction;
+        BRCryptoTransferState state;
+    } BRCryptoTransferSnapshot;
+
+    /**
+     * Fills `snapshots` with up to `count` of `wallet`'s transfers, starting at `offset` in the
+     * order returned by cryptoWalletGetTransfers().  This replaces one call per attribute per
+     * transfer when a large number of transfers are to be displayed.
+     *
+     * @param wallet the wallet
+     * @param offset the index of the first transfer
+     * @param count the capacity of `snapshots`
+     * @param snapshots the snapshots to fill
+     *
+     * @return The number of snapshots filled; zero if `offset` is past the last transfer.
+     */
+    extern size_t
+    cryptoWalletGetTransferSnapshots (BRCryptoWallet wallet,
+                                      size_t offset,
+                                      size_t count,
+                                      BRCryptoTransferSnapshot *snapshots);
+
     /**
      * Returns a 'new' adddress from `wallet` according to the provided `addressScheme`.  For BTC
      * this is a segwit or a bech32 address.  Note that the returned address is not associated with
@@ -1930,6 +1930,28 @@ cwmAnnounceGetTransactionsItemBTC (OwnershipKept BRCryptoWalletManager cwm,
     // DON'T free (callbackState);
 }
 
+extern void
+cwmAnnounceGetTransactionsItemsBTC (OwnershipKept BRCryptoWalletManager cwm,
+                                    OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                    size_t itemsCount,
+                                    OwnershipKept uint8_t *transactions,
+                                    OwnershipKept uint64_t *transactionLengths,
+                                    OwnershipKept uint64_t *timestamps,
+                                    OwnershipKept uint64_t *blockHeights) {
+    assert (cwm); assert (callbackState); assert (CWM_CALLBACK_TYPE_BTC_GET_TRANSACTIONS == callbackState->type);
+    uint8_t *transaction = transactions;
+
+    for (size_t index = 0; index < itemsCount; index++) {
+        cwmAnnounceGetTransactionsItemBTC (cwm,
+                                           callbackState,
+                                           transaction,
+                                           (size_t) transactionLengths[index],
+                                           timestamps[index],
+                                           blockHeights[index]);
+        transaction += transactionLengths[index];
+    }
+}
+
 extern void
 cwmAnnounceGetTransactionsItemETH (OwnershipKept BRCryptoWalletManager cwm,
                                    OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -1978,6 +2000,66 @@ cwmAnnounceGetTransactionsItemETH (OwnershipKept BRCryptoWalletManager cwm,
     // DON'T free (callbackState);
 }
 
+// A packed string of just this byte stands for NULL; it can't occur in UTF-8
+#define CWM_PACKED_STRING_NULL      (0xFF)
+
+static const char *
+cwmUnpackString (const char **cursor) {
+    const char *string = *cursor;
+    *cursor += strlen (string) + 1;
+
+    return (CWM_PACKED_STRING_NULL == (uint8_t) string[0] && '\0' == string[1]
+            ? NULL
+            : string);
+}
+
+extern void
+cwmAnnounceGetTransactionsItemsETH (OwnershipKept BRCryptoWalletManager cwm,
+                                    OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                    size_t itemsCount,
+                                    OwnershipKept const char *items) {
+    assert (cwm); assert (callbackState); assert (CWM_CALLBACK_TYPE_ETH_GET_TRANSACTIONS == callbackState->type);
+    const char *cursor = items;
+
+    for (size_t index = 0; index < itemsCount; index++) {
+        const char *hash                  = cwmUnpackString (&cursor);
+        const char *from                  = cwmUnpackString (&cursor);
+        const char *to                    = cwmUnpackString (&cursor);
+        const char *contract              = cwmUnpackString (&cursor);
+        const char *amount                = cwmUnpackString (&cursor);
+        const char *gasLimit              = cwmUnpackString (&cursor);
+        const char *gasPrice              = cwmUnpackString (&cursor);
+        const char *data                  = cwmUnpackString (&cursor);
+        const char *nonce                 = cwmUnpackString (&cursor);
+        const char *gasUsed               = cwmUnpackString (&cursor);
+        const char *blockNumber           = cwmUnpackString (&cursor);
+        const char *blockHash             = cwmUnpackString (&cursor);
+        const char *blockConfirmations    = cwmUnpackString (&cursor);
+        const char *blockTransactionIndex = cwmUnpackString (&cursor);
+        const char *blockTimestamp        = cwmUnpackString (&cursor);
+        const char *isError               = cwmUnpackString (&cursor);
+
+        cwmAnnounceGetTransactionsItemETH (cwm,
+                                           callbackState,
+                                           hash,
+                                           from,
+                                           to,
+                                           contract,
+                                           amount,
+                                           gasLimit,
+                                           gasPrice,
+                                           data,
+                                           nonce,
+                                           gasUsed,
+                                           blockNumber,
+                                           blockHash,
+                                           blockConfirmations,
+                                           blockTransactionIndex,
+                                           blockTimestamp,
+                                           isError);
+    }
+}
+
 extern void
 cwmAnnounceGetTransactionsItemGEN (BRCryptoWalletManager cwm,
                                    BRCryptoCWMClientCallbackState callbackState,
@@ -2004,6 +2086,28 @@ cwmAnnounceGetTransactionsItemGEN (BRCryptoWalletManager cwm,
 }
 
 
+extern void
+cwmAnnounceGetTransactionsItemsGEN (OwnershipKept BRCryptoWalletManager cwm,
+                                    OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                    size_t itemsCount,
+                                    OwnershipKept uint8_t *transactions,
+                                    OwnershipKept uint64_t *transactionLengths,
+                                    OwnershipKept uint64_t *timestamps,
+                                    OwnershipKept uint64_t *blockHeights) {
+    assert (cwm); assert (callbackState); assert (CWM_CALLBACK_TYPE_BTC_GET_TRANSACTIONS == callbackState->type);
+    uint8_t *transaction = transactions;
+
+    for (size_t index = 0; index < itemsCount; index++) {
+        cwmAnnounceGetTransactionsItemGEN (cwm,
+                                           callbackState,
+                                           transaction,
+                                           (size_t) transactionLengths[index],
+                                           timestamps[index],
+                                           blockHeights[index]);
+        transaction += transactionLengths[index];
+    }
+}
+
 extern void
 cwmAnnounceGetTransactionsComplete (OwnershipKept BRCryptoWalletManager cwm,
                                     OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -2237,6 +2341,49 @@ cwmAnnounceGetLogsItem(OwnershipKept BRCryptoWalletManager cwm,
     // don't free (callbackState);
 }
 
+extern void
+cwmAnnounceGetLogsItems (OwnershipKept BRCryptoWalletManager cwm,
+                         OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                         size_t itemsCount,
+                         OwnershipKept const char *items) {
+    assert (cwm); assert (callbackState); assert (CWM_CALLBACK_TYPE_ETH_GET_LOGS == callbackState->type);
+    const char *cursor = items;
+
+    for (size_t index = 0; index < itemsCount; index++) {
+        const char *strHash     = cwmUnpackString (&cursor);
+        const char *strContract = cwmUnpackString (&cursor);
+
+        int topicCount = (int) strtol (cwmUnpackString (&cursor), NULL, 10);
+        const char **arrayTopics = calloc ((size_t) topicCount + 1, sizeof (const char *));
+        for (int topicIndex = 0; topicIndex < topicCount; topicIndex++)
+            arrayTopics[topicIndex] = cwmUnpackString (&cursor);
+
+        const char *strData                  = cwmUnpackString (&cursor);
+        const char *strGasPrice              = cwmUnpackString (&cursor);
+        const char *strGasUsed               = cwmUnpackString (&cursor);
+        const char *strLogIndex              = cwmUnpackString (&cursor);
+        const char *strBlockNumber           = cwmUnpackString (&cursor);
+        const char *strBlockTransactionIndex = cwmUnpackString (&cursor);
+        const char *strBlockTimestamp        = cwmUnpackString (&cursor);
+
+        cwmAnnounceGetLogsItem (cwm,
+                                callbackState,
+                                strHash,
+                                strContract,
+                                topicCount,
+                                arrayTopics,
+                                strData,
+                                strGasPrice,
+                                strGasUsed,
+                                strLogIndex,
+                                strBlockNumber,
+                                strBlockTransactionIndex,
+                                strBlockTimestamp);
+
+        free (arrayTopics);
+    }
+}
+
 extern void
 cwmAnnounceGetLogsComplete(OwnershipKept BRCryptoWalletManager cwm,
                            OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -213,6 +213,20 @@ extern "C" {
                                        uint64_t timestamp,
                                        uint64_t blockHeight);
 
+    /**
+     * Announce `itemsCount` transactions at once.  The serialized transactions lie back to back in
+     * `transactions`, the i'th being `transactionLengths[i]` bytes long with `timestamps[i]` and
+     * `blockHeights[i]`.
+     */
+    extern void
+    cwmAnnounceGetTransactionsItemsBTC (OwnershipKept BRCryptoWalletManager cwm,
+                                        OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                        size_t itemsCount,
+                                        OwnershipKept uint8_t *transactions,
+                                        OwnershipKept uint64_t *transactionLengths,
+                                        OwnershipKept uint64_t *timestamps,
+                                        OwnershipKept uint64_t *blockHeights);
+
     extern void
     cwmAnnounceGetTransactionsItemETH (OwnershipKept BRCryptoWalletManager cwm,
                                        OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -236,6 +250,17 @@ extern "C" {
                                        // txreceipt_status
                                        OwnershipKept const char *isError);
 
+    /**
+     * Announce `itemsCount` transactions at once.  `items` holds, for each transaction, the sixteen
+     * arguments of cwmAnnounceGetTransactionsItemETH() (`hash` through `isError`) as consecutive NUL
+     * terminated strings; a string consisting of the single byte 0xFF stands for NULL.
+     */
+    extern void
+    cwmAnnounceGetTransactionsItemsETH (OwnershipKept BRCryptoWalletManager cwm,
+                                        OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                        size_t itemsCount,
+                                        OwnershipKept const char *items);
+
     extern void
     cwmAnnounceGetTransactionsItemGEN (BRCryptoWalletManager cwm,
                                        BRCryptoCWMClientCallbackState callbackState,
@@ -244,6 +269,18 @@ extern "C" {
                                        uint64_t timestamp,
                                        uint64_t blockHeight);
 
+    /**
+     * As cwmAnnounceGetTransactionsItemsBTC() but for GEN.
+     */
+    extern void
+    cwmAnnounceGetTransactionsItemsGEN (OwnershipKept BRCryptoWalletManager cwm,
+                                        OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                                        size_t itemsCount,
+                                        OwnershipKept uint8_t *transactions,
+                                        OwnershipKept uint64_t *transactionLengths,
+                                        OwnershipKept uint64_t *timestamps,
+                                        OwnershipKept uint64_t *blockHeights);
+
     extern void
     cwmAnnounceGetTransactionsComplete (OwnershipKept BRCryptoWalletManager cwm,
                                         OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -316,6 +353,17 @@ extern "C" {
                            OwnershipKept const char *strBlockTransactionIndex,
                            OwnershipKept const char *strBlockTimestamp);
 
+    /**
+     * Announce `itemsCount` logs at once.  `items` holds, for each log, the arguments of
+     * cwmAnnounceGetLogsItem() packed as for cwmAnnounceGetTransactionsItemsETH(), with `topicCount`
+     * given in decimal and followed by that many topics in place of `arrayTopics`.
+     */
+    extern void
+    cwmAnnounceGetLogsItems (OwnershipKept BRCryptoWalletManager cwm,
+                             OwnershipKept BRCryptoCWMClientCallbackState callbackState,
+                             size_t itemsCount,
+                             OwnershipKept const char *items);
+
     extern void
     cwmAnnounceGetLogsComplete(OwnershipKept BRCryptoWalletManager cwm,
                                OwnershipGiven BRCryptoCWMClientCallbackState callbackState,
@@ -146,7 +146,7 @@ typedef void* (*ThreadRoutine) (void*);
 
 static void *
 eventHandlerThread (BREventHandler handler) {
-#if defined (__ANDROID__)
+#if defined (__ANDROID__) || defined (__linux__)
     pthread_setname_np (pthread_self(), handler->name);
 #else
     pthread_setname_np (handler->name);
@@ -1140,7 +1140,7 @@ lesThreadBootstrapSeeds (BREthereumLES les) {
 
 static void *
 lesThread (BREthereumLES les) {
-#if defined (__ANDROID__)
+#if defined (__ANDROID__) || defined (__linux__)
     pthread_setname_np (les->thread, LES_THREAD_NAME);
 #else
     pthread_setname_np (LES_THREAD_NAME);
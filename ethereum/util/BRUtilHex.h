@@ -12,6 +12,7 @@
 #define BR_Util_Hex_H
 
 #include <stdlib.h>
+#include <stdint.h>
 
 #ifdef __cplusplus
 extern "C" {
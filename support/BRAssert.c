@@ -132,7 +132,7 @@ typedef void* (*ThreadRoutine) (void*);         // pthread_create
 
 static void *
 BRAssertThread (BRAssertContext *context) {
-#if defined (__ANDROID__)
+#if defined (__ANDROID__) || defined (__linux__)
     pthread_setname_np (context->thread, ASSERT_THREAD_NAME);
 #else
     pthread_setname_np (ASSERT_THREAD_NAME);